@@ -0,0 +1,58 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.Response;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.ResponseHeader;
+import com.hedera.hashgraph.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning a raw query response into its result, which happens for every poll while waiting for
+ * a receipt.
+ * <p>
+ * This lives in the SDK's package because {@code mapResponse} is not public.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBenchmark {
+    private TransactionReceiptQuery receiptQuery;
+
+    private Response receiptResponse;
+
+    @Setup
+    public void setup() {
+        receiptQuery = new TransactionReceiptQuery()
+            .setTransactionId(new TransactionId(new AccountId(2)));
+
+        receiptResponse = Response.newBuilder()
+            .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                .setHeader(ResponseHeader.newBuilder()
+                    .setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                .setReceipt(com.hedera.hashgraph.proto.TransactionReceipt.newBuilder()
+                    .setStatus(ResponseCodeEnum.SUCCESS)
+                    .setAccountID(new AccountId(1001).toProto())))
+            .build();
+    }
+
+    @Benchmark
+    public TransactionReceipt mapReceiptResponse() throws HederaStatusException {
+        return receiptQuery.mapResponse(receiptResponse);
+    }
+}
@@ -0,0 +1,109 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.account.CryptoTransferTransaction;
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PrivateKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building, signing and (de)serializing a transfer, the path every transaction takes before it
+ * is sent.
+ * <p>
+ * A built {@link Transaction} can only be signed once per key, so {@link #signWith()} and
+ * {@link #sign()} start from a copy made with {@link Transaction#fromBytes(byte[])}; subtract
+ * {@link #fromBytes()} to get the cost of signing alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionBenchmark {
+    private static final AccountId NODE_ID = new AccountId(3);
+    private static final AccountId PAYER_ID = new AccountId(2);
+
+    /**
+     * Number of transfers in the transaction, which is most of the size of the body.
+     */
+    @Param({"2", "10"})
+    public int transfers;
+
+    private Ed25519PrivateKey key;
+
+    private TransactionId transactionId;
+
+    private byte[] unsignedBytes;
+
+    private byte[] signedBytes;
+
+    private Transaction signed;
+
+    @Setup
+    public void setup() {
+        key = Ed25519PrivateKey.generate();
+        transactionId = new TransactionId(PAYER_ID);
+
+        final Transaction transaction = newTransfer().build(null);
+        unsignedBytes = transaction.toProto(false).toByteArray();
+        signedBytes = transaction.sign(key).toBytes();
+        signed = transaction;
+    }
+
+    @Benchmark
+    public Transaction build() {
+        return newTransfer().build(null);
+    }
+
+    @Benchmark
+    public Transaction sign() throws InvalidProtocolBufferException {
+        return Transaction.fromBytes(unsignedBytes).sign(key);
+    }
+
+    @Benchmark
+    public Transaction signWith() throws InvalidProtocolBufferException {
+        return Transaction.fromBytes(unsignedBytes).signWith(key.publicKey, key::sign);
+    }
+
+    @Benchmark
+    public byte[] toBytes() throws InvalidProtocolBufferException {
+        return Transaction.fromBytes(signedBytes).toBytes();
+    }
+
+    @Benchmark
+    public Transaction fromBytes() throws InvalidProtocolBufferException {
+        return Transaction.fromBytes(signedBytes);
+    }
+
+    @Benchmark
+    public SignatureVerification verifySignatures() {
+        return signed.verifySignatures();
+    }
+
+    private CryptoTransferTransaction newTransfer() {
+        final CryptoTransferTransaction transfer = new CryptoTransferTransaction()
+            .setNodeAccountId(NODE_ID)
+            .setTransactionId(transactionId)
+            .setMaxTransactionFee(100_000_000);
+
+        for (int i = 0; i < transfers; i++) {
+            transfer.addTransfer(new AccountId(1000 + i), i % 2 == 0 ? -1 : 1);
+        }
+
+        return transfer;
+    }
+}
@@ -0,0 +1,51 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generating transaction IDs from every available thread, either all for the same payer (as
+ * when one operator submits everything) or each for its own payer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+public class TransactionIdBenchmark {
+    @State(Scope.Benchmark)
+    public static class SharedPayer {
+        final AccountId payerId = new AccountId(2);
+    }
+
+    @State(Scope.Thread)
+    public static class OwnPayer {
+        private static final AtomicLong nextAccountNum = new AtomicLong(1000);
+
+        final AccountId payerId = new AccountId(nextAccountNum.getAndIncrement());
+    }
+
+    @Benchmark
+    public TransactionId sharedPayer(SharedPayer state) {
+        return new TransactionId(state.payerId);
+    }
+
+    @Benchmark
+    public TransactionId ownPayer(OwnPayer state) {
+        return new TransactionId(state.payerId);
+    }
+}
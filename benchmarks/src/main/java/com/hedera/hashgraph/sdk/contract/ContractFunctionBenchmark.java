@@ -0,0 +1,91 @@
+package com.hedera.hashgraph.sdk.contract;
+
+import com.google.protobuf.ByteString;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding the parameters of a contract call and decoding its result, for a mix of static and
+ * dynamic types.
+ * <p>
+ * This lives in the SDK's package because {@code ContractFunctionParams.toBytes} is not public.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContractFunctionBenchmark {
+    private static final String ADDRESS = "00000000000000000000000000000000000003e9";
+
+    private static final BigInteger AMOUNT = BigInteger.TEN.pow(30);
+
+    private static final byte[] DATA = new byte[100];
+
+    private static final String MEMO = "the quick brown fox jumps over the lazy dog";
+
+    private static final ContractFunctionDecoder DECODER =
+        ContractFunctionDecoder.forTypes("address,uint256,bool,bytes,string");
+
+    private com.hedera.hashgraph.proto.ContractFunctionResult resultProto;
+
+    @Setup
+    public void setup() {
+        resultProto = com.hedera.hashgraph.proto.ContractFunctionResult.newBuilder()
+            .setContractID(new ContractId(0, 0, 1001).toProto())
+            // a result is encoded the same as parameters without the selector
+            .setContractCallResult(newParams().toBytes(null))
+            .setGasUsed(30_000)
+            .build();
+    }
+
+    @Benchmark
+    public ByteString encodeParams() {
+        return newParams().toBytes("transferWithData");
+    }
+
+    @Benchmark
+    public void decodeResult(Blackhole blackhole) {
+        final ContractFunctionResult result = new ContractFunctionResult(resultProto);
+
+        blackhole.consume(result.getAddress(0));
+        blackhole.consume(result.getUint256(1));
+        blackhole.consume(result.getBool(2));
+        blackhole.consume(result.getBytes(3));
+        blackhole.consume(result.getString(4));
+    }
+
+    @Benchmark
+    public void decodeResultWithDecoder(Blackhole blackhole) {
+        final ContractFunctionValues values = new ContractFunctionResult(resultProto).decode(DECODER);
+
+        blackhole.consume(values.getAddress(0));
+        blackhole.consume(values.getUint256(1));
+        blackhole.consume(values.getBool(2));
+        blackhole.consume(values.getBytes(3));
+        blackhole.consume(values.getString(4));
+    }
+
+    private static ContractFunctionParams newParams() {
+        return new ContractFunctionParams()
+            .addAddress(ADDRESS)
+            .addUint256(AMOUNT)
+            .addBool(true)
+            .addBytes(DATA)
+            .addString(MEMO);
+    }
+}
@@ -0,0 +1,76 @@
+package com.hedera.hashgraph.sdk.crypto;
+
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PrivateKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recovering and deriving keys, which is dominated by deliberately slow key stretching
+ * (PBKDF2 for mnemonics and keystores) and by HMAC-SHA512 for each derived key.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CryptoBenchmark {
+    private static final String PASSPHRASE = "this is a passphrase";
+
+    private static final int DERIVE_RANGE_COUNT = 1000;
+
+    private Mnemonic mnemonic;
+
+    private Ed25519PrivateKey rootKey;
+
+    private byte[] keystoreBytes;
+
+    private int nextIndex = 0;
+
+    @Setup
+    public void setup() throws IOException {
+        mnemonic = Mnemonic.generate();
+        rootKey = mnemonic.toPrivateKey();
+
+        final ByteArrayOutputStream keystore = new ByteArrayOutputStream();
+        new Keystore(rootKey).export(keystore, PASSPHRASE);
+        keystoreBytes = keystore.toByteArray();
+    }
+
+    @Benchmark
+    public Ed25519PrivateKey mnemonicToPrivateKey() {
+        return mnemonic.toPrivateKey();
+    }
+
+    @Benchmark
+    public Ed25519PrivateKey derive() {
+        // a different index each time so nothing can be cached
+        return rootKey.derive(nextIndex++ & Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DERIVE_RANGE_COUNT)
+    public Ed25519PrivateKey[] deriveRange() {
+        return rootKey.deriveRange(0, DERIVE_RANGE_COUNT);
+    }
+
+    @Benchmark
+    public Ed25519PrivateKey keystoreDecrypt() throws IOException {
+        return Keystore.fromStream(new ByteArrayInputStream(keystoreBytes), PASSPHRASE).getEd25519();
+    }
+}
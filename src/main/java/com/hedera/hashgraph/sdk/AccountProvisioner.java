@@ -0,0 +1,344 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountCreateTransaction;
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PrivateKey;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nullable;
+
+/**
+ * Creates accounts in bulk, each with a new, random key.
+ * <p>
+ * Accounts are created in batches: the keys for a batch are generated in parallel (see
+ * {@link Ed25519PrivateKey#generate(int)}), then the transactions creating their accounts are
+ * submitted through a {@link TransactionPipeline}, which bounds how many are in flight. As a
+ * transaction ID expires a couple of minutes after it is minted, IDs are only minted for as many
+ * transactions as the pipeline has room for at the time, right before they are submitted. Each
+ * created account is passed to a {@link Sink} along with its key as soon as its receipt is
+ * available.
+ * <p>
+ * If a journal is set, the key and transaction ID of every account are written to it, and synced
+ * to disk, before its transaction is submitted, followed by the outcome once known. If the
+ * process dies mid-batch, {@link #recover(Sink)} then finds out what happened to each account
+ * with no recorded outcome from its receipt, so no key is lost for an account which was created
+ * and no account is created twice. <b>The journal holds private keys in the clear</b>; protect
+ * it as you would the keys themselves, and delete it once the sink has stored them.
+ *
+ * <pre>{@code
+ * AccountProvisioner provisioner = new AccountProvisioner(client, new TransactionPipeline(client, 1000))
+ *     .setInitialBalance(Hbar.of(10))
+ *     .setJournal(Paths.get("provisioning.journal"));
+ *
+ * provisioner.recover(sink);
+ * provisioner.provision(100_000, sink);
+ * }</pre>
+ */
+public final class AccountProvisioner {
+    private final Client client;
+    private final TransactionPipeline pipeline;
+
+    private Hbar initialBalance = Hbar.ZERO;
+    private int batchSize = 256;
+
+    @Nullable
+    private Path journalPath;
+
+    /**
+     * Receives the outcome of creating each account. Called from background threads, possibly
+     * concurrently, so implementations must be thread-safe.
+     */
+    public interface Sink {
+        /**
+         * An account was created.
+         */
+        void onCreated(AccountId accountId, Ed25519PrivateKey key);
+
+        /**
+         * An account could not be created, or it is not known whether it was.
+         *
+         * @param error a {@link HederaReceiptStatusException} or {@link LocalValidationException}
+         *              if the account was not created; otherwise, e.g. for a network error or
+         *              a receipt which can no longer be found, the account may or may not exist
+         *              and if a journal is set, it keeps the key and the transaction ID to try
+         *              {@link #recover(Sink)} with later.
+         */
+        void onFailed(TransactionId transactionId, Ed25519PrivateKey key, Throwable error);
+    }
+
+    /**
+     * @param client   the client to create accounts with; its operator pays for them.
+     * @param pipeline the pipeline to submit transactions through, e.g. to share its limits with
+     *                 other transactions.
+     */
+    public AccountProvisioner(Client client, TransactionPipeline pipeline) {
+        this.client = client;
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Set the balance to transfer from the operator to each new account. Defaults to zero.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public AccountProvisioner setInitialBalance(Hbar initialBalance) {
+        this.initialBalance = initialBalance;
+        return this;
+    }
+
+    /**
+     * Set the number of keys generated at a time. Defaults to 256.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public AccountProvisioner setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be >= 1");
+        }
+
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Set the file to journal progress to; it is appended to if it exists. By default nothing is
+     * journaled.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public AccountProvisioner setJournal(Path journalPath) {
+        this.journalPath = journalPath;
+        return this;
+    }
+
+    /**
+     * Create accounts, waiting until the outcome of each has been passed to the sink.
+     *
+     * @param count the number of accounts to create.
+     * @throws IOException           if the journal could not be written; no more accounts are
+     *                               submitted, those already submitted are still waited for and
+     *                               passed to the sink, and {@link #recover(Sink)} finds out what
+     *                               happened to any whose outcome could not be journaled.
+     * @throws IllegalStateException if the client has no operator.
+     * @throws InterruptedException  if interrupted while waiting for room in the pipeline; the
+     *                               accounts already submitted are still waited for and passed
+     *                               to the sink, and no transaction ID has been minted or
+     *                               journaled for the rest.
+     */
+    public void provision(int count, Sink sink) throws IOException, InterruptedException {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+
+        final AccountId operatorId = client.getOperatorId();
+
+        if (operatorId == null) {
+            throw new IllegalStateException("client must have an operator to create accounts");
+        }
+
+        final List<CompletableFuture<Void>> outcomes = new ArrayList<>(count);
+
+        try (ProvisioningJournal journal = journalPath != null ? ProvisioningJournal.open(journalPath) : null) {
+            try {
+                for (int offset = 0; offset < count; offset += batchSize) {
+                    final Ed25519PrivateKey[] keys = Ed25519PrivateKey.generate(Math.min(batchSize, count - offset));
+
+                    for (int next = 0; next < keys.length; ) {
+                        final int end = next + pipeline.reserve(keys.length - next);
+
+                        submitReserved(operatorId, journal, keys, next, end, sink, outcomes);
+                        next = end;
+                    }
+                }
+            } catch (InterruptedException | IOException | RuntimeException e) {
+                // the accounts in flight still record their outcomes, so the journal must stay
+                // open until they have
+                try {
+                    await(outcomes);
+                } catch (IOException | RuntimeException awaitError) {
+                    e.addSuppressed(awaitError);
+                }
+
+                throw e;
+            }
+
+            await(outcomes);
+        }
+    }
+
+    /**
+     * Mint, journal and submit the transactions creating the accounts for {@code keys[from..to)},
+     * for which room has been reserved in the pipeline. If that fails part way, the room left is
+     * given back and the accounts journaled but not submitted are recorded as failed.
+     */
+    private void submitReserved(
+        AccountId operatorId,
+        @Nullable ProvisioningJournal journal,
+        Ed25519PrivateKey[] keys,
+        int from,
+        int to,
+        Sink sink,
+        List<CompletableFuture<Void>> outcomes
+    ) throws IOException {
+        final TransactionId[] transactionIds = new TransactionId[to - from];
+
+        int journaled = 0;
+        int submitted = 0;
+
+        try {
+            for (; journaled < transactionIds.length; journaled++) {
+                transactionIds[journaled] = new TransactionId(operatorId);
+
+                if (journal != null) {
+                    journal.pending(transactionIds[journaled], keys[from + journaled]);
+                }
+            }
+
+            if (journal != null) {
+                journal.sync();
+            }
+
+            for (; submitted < transactionIds.length; submitted++) {
+                final Ed25519PrivateKey key = keys[from + submitted];
+
+                final AccountCreateTransaction transaction = new AccountCreateTransaction()
+                    .setTransactionId(transactionIds[submitted])
+                    .setKey(key.publicKey)
+                    .setInitialBalance(initialBalance);
+
+                outcomes.add(pipeline.submitReserved(transaction)
+                    .handle(outcomeHandler(journal, transactionIds[submitted], key, sink)));
+            }
+        } catch (IOException | RuntimeException e) {
+            pipeline.release(transactionIds.length - submitted);
+
+            if (journal != null) {
+                try {
+                    for (int i = submitted; i < journaled; i++) {
+                        journal.failed(transactionIds[i]);
+                    }
+
+                    journal.sync();
+                } catch (IOException journalError) {
+                    e.addSuppressed(journalError);
+                }
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Find out what happened to the accounts in the journal with no recorded outcome, e.g.
+     * after a crash, by looking up the receipts of their transactions.
+     * <p>
+     * Receipts are only kept by the network for a few minutes after consensus. Accounts whose
+     * receipts can no longer be found are passed to {@link Sink#onFailed} and remain in the
+     * journal; check for them by their transaction IDs, e.g. in the records of the operator
+     * account or a mirror node.
+     *
+     * @return the number of accounts with no recorded outcome before this was called.
+     * @throws IOException           if the journal could not be read or written.
+     * @throws IllegalStateException if no journal is set.
+     */
+    public int recover(Sink sink) throws IOException {
+        if (journalPath == null) {
+            throw new IllegalStateException("no journal is set");
+        }
+
+        final Map<TransactionId, Ed25519PrivateKey> pending = ProvisioningJournal.readPending(journalPath);
+
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        final List<CompletableFuture<Void>> outcomes = new ArrayList<>(pending.size());
+
+        try (ProvisioningJournal journal = ProvisioningJournal.open(journalPath)) {
+            for (final Map.Entry<TransactionId, Ed25519PrivateKey> entry : pending.entrySet()) {
+                outcomes.add(entry.getKey().getReceiptFuture(client)
+                    .handle(outcomeHandler(journal, entry.getKey(), entry.getValue(), sink)));
+            }
+
+            await(outcomes);
+        }
+
+        return pending.size();
+    }
+
+    private static BiFunction<TransactionReceipt, Throwable, Void> outcomeHandler(
+        @Nullable ProvisioningJournal journal,
+        TransactionId transactionId,
+        Ed25519PrivateKey key,
+        Sink sink)
+    {
+        // the sink is told first, so an account is never kept from it by a failure to journal
+        // its outcome; at worst, recover() reports it again
+        return (receipt, error) -> {
+            try {
+                if (error == null) {
+                    final AccountId accountId = receipt.getAccountId();
+
+                    sink.onCreated(accountId, key);
+
+                    if (journal != null) {
+                        journal.created(transactionId, accountId);
+                    }
+
+                    return null;
+                }
+
+                final Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+
+                sink.onFailed(transactionId, key, cause);
+
+                if (journal != null && isDefinitelyNotCreated(cause)) {
+                    journal.failed(transactionId);
+                }
+
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private static boolean isDefinitelyNotCreated(Throwable error) {
+        if (error instanceof HederaReceiptStatusException || error instanceof LocalValidationException) {
+            return true;
+        }
+
+        if (error instanceof HederaPrecheckStatusException) {
+            // a duplicate may mean an earlier attempt went through, and a missing receipt or
+            // an unknown status tells us nothing
+            final Status status = ((HederaPrecheckStatusException) error).status;
+            return status != Status.DuplicateTransaction
+                && status != Status.ReceiptNotFound
+                && status != Status.Unknown;
+        }
+
+        return false;
+    }
+
+    private static void await(List<CompletableFuture<Void>> outcomes) throws IOException {
+        try {
+            CompletableFuture.allOf(outcomes.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+
+            throw e;
+        }
+    }
+}
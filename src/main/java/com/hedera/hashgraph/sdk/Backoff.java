@@ -1,63 +1,116 @@
 package com.hedera.hashgraph.sdk;
 
 import java.time.Duration;
-import java.time.Instant;
-import java.util.Optional;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
+
+import io.grpc.StatusRuntimeException;
+
+/**
+ * Drives the retries of a single call according to a {@link RetryPolicy}.
+ */
 final class Backoff {
-    private int attempt = 0;
+    private final RetryPolicy policy;
+
+    // call-specific check for "the answer isn't ready yet", e.g. polling for a receipt
+    private final Predicate<HederaThrowable> isPending;
 
-    private final Duration baseDelay;
-    private final Instant expiration;
+    private final long deadline;
 
-    Backoff(Duration baseDelay, Duration timeout) {
-        this.baseDelay = baseDelay;
-        this.expiration = Instant.now().plus(timeout);
+    private int retries = 0;
+    private int failedAttempts = 0;
+
+    Backoff(RetryPolicy policy, Predicate<HederaThrowable> isPending, Duration timeout) {
+        this.policy = policy;
+        this.isPending = isPending;
+        this.deadline = System.nanoTime() + timeout.toNanos();
     }
 
-    private Optional<Duration> getNextDelay() {
-        attempt += 1;
+    /**
+     * Get the delay before retrying after {@code error}, or {@code null} if the call should fail.
+     */
+    @Nullable
+    private Duration getNextDelay(HederaThrowable error) {
+        final boolean pending = isPending.test(error);
+
+        if (!pending) {
+            if (!policy.isRetryable(error)) {
+                return null;
+            }
+
+            failedAttempts += 1;
+
+            if (failedAttempts >= policy.getMaxAttempts()) {
+                return null;
+            }
+        }
+
+        retries += 1;
+
+        final Duration nextDelay = policy.getRetryDelay(retries);
 
-        final Duration nextDelay = baseDelay.multipliedBy(
-            ThreadLocalRandom.current().nextLong(1L << attempt));
+        if (System.nanoTime() + nextDelay.toNanos() - deadline >= 0) {
+            return null;
+        }
 
-        if (Instant.now().plus(nextDelay).isBefore(expiration)) {
-            return Optional.of(nextDelay);
-        } else {
-            return Optional.empty();
+        // checked last so the budget is only spent on retries that will actually happen
+        if (!pending && !policy.tryAcquireRetry()) {
+            return null;
         }
+
+        return nextDelay;
     }
 
-    <T, E extends Exception> T tryWhile(Predicate<E> shouldRetry, FallibleProducer<T, E> producer) throws E {
+    <T> T tryWhile(FallibleProducer<T, HederaStatusException> producer) throws HederaStatusException {
         for (;;) {
+            final HederaThrowable error;
+
             try {
                 return producer.tryProduce();
-            } catch (Exception e) {
-                final Optional<Duration> nextDelay = getNextDelay();
-
-                // `producer` can only throw `E` as a checked exception
-                // noinspection unchecked
-                if (!(e instanceof RuntimeException) && shouldRetry.test((E) e) && nextDelay.isPresent()) {
-                    ThreadUtil.sleepDuration(nextDelay.get());
-                } else {
-                    throw e;
+            } catch (HederaStatusException e) {
+                error = e;
+            } catch (StatusRuntimeException e) {
+                error = new HederaNetworkException(e);
+            }
+
+            final Duration nextDelay = getNextDelay(error);
+
+            if (nextDelay == null) {
+                if (error instanceof HederaNetworkException) {
+                    // the synchronous API has always thrown the transport error as-is
+                    throw (StatusRuntimeException) ((HederaNetworkException) error).getCause();
                 }
+
+                throw (HederaStatusException) error;
             }
+
+            ThreadUtil.sleepDuration(nextDelay);
         }
     }
 
-    <T, E> void asyncTryWhile(Predicate<E> shouldRetry, Consumer<Consumer<E>> onTry, Consumer<E> onError) {
+    void asyncTryWhile(
+        ScheduledExecutorService scheduler,
+        Consumer<Consumer<HederaThrowable>> onTry,
+        Consumer<HederaThrowable> onError)
+    {
         onTry.accept(e -> {
-            final Optional<Duration> nextDelay = getNextDelay();
+            final Duration nextDelay = getNextDelay(e);
+
+            if (nextDelay == null) {
+                onError.accept(e);
+                return;
+            }
 
-            if (shouldRetry.test(e) && nextDelay.isPresent()) {
-                ThreadUtil.schedule(() ->
-                        asyncTryWhile(shouldRetry, onTry, onError),
-                    nextDelay.get());
-            } else {
+            try {
+                scheduler.schedule(() -> asyncTryWhile(scheduler, onTry, onError),
+                    nextDelay.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException rejected) {
+                // the scheduler was shut down; fail with the error we would have retried
                 onError.accept(e);
             }
         });
@@ -0,0 +1,95 @@
+package com.hedera.hashgraph.sdk;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * A thread-safe map which holds at most a fixed number of entries, evicting the least recently
+ * used entry to make room for a new one.
+ * <p>
+ * Meant for caching values which are expensive to compute but small, where a short critical
+ * section per lookup costs far less than the value saves.
+ *
+ * @param <K> the type of key.
+ * @param <V> the type of value.
+ */
+@Internal
+public final class BoundedCache<K, V> {
+    // guarded by `this`; in access order, so the eldest entry is the least recently used
+    private final LinkedHashMap<K, V> entries;
+
+    /**
+     * @param maxSize the maximum number of entries; at least 1.
+     */
+    public BoundedCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be >= 1");
+        }
+
+        this.entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Nullable
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    /**
+     * Get the value for a key, computing and adding it if there is none.
+     * <p>
+     * The value is computed without holding the lock, so two threads missing the same key at once
+     * may both compute it; only the first to finish is kept, and both get that one.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> compute) {
+        final V cached = get(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final V computed = compute.apply(key);
+
+        synchronized (this) {
+            final V raced = entries.get(key);
+
+            if (raced != null) {
+                return raced;
+            }
+
+            entries.put(key, computed);
+        }
+
+        return computed;
+    }
+
+    /**
+     * Remove the entry for a key, but only if its value is still {@code value}.
+     */
+    public synchronized void remove(K key, V value) {
+        entries.remove(key, value);
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
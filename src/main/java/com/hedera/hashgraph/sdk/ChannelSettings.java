@@ -0,0 +1,51 @@
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+
+/**
+ * Connection settings shared by all the {@link Node}s of a {@link Client}.
+ * <p>
+ * Nodes open their channels lazily, so changes only apply to channels opened afterwards.
+ */
+final class ChannelSettings {
+    volatile int channelsPerNode = 1;
+
+    @Nullable
+    volatile Duration keepAliveTime;
+
+    @Nullable
+    volatile Duration keepAliveTimeout;
+
+    @Nullable
+    volatile Duration idleTimeout;
+
+    ManagedChannel buildChannel(String address) {
+        final ManagedChannelBuilder<?> builder = ManagedChannelBuilder.forTarget(address)
+            .usePlaintext();
+
+        // read each volatile once so a concurrent setter can't null it out under us
+        final Duration keepAliveTime = this.keepAliveTime;
+        final Duration keepAliveTimeout = this.keepAliveTimeout;
+        final Duration idleTimeout = this.idleTimeout;
+
+        if (keepAliveTime != null) {
+            builder.keepAliveTime(keepAliveTime.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        if (keepAliveTimeout != null) {
+            builder.keepAliveTimeout(keepAliveTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        if (idleTimeout != null) {
+            builder.idleTimeout(idleTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        return builder.build();
+    }
+}
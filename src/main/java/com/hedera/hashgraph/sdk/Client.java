@@ -5,6 +5,8 @@ import com.hedera.hashgraph.sdk.account.AccountBalanceQuery;
 import com.hedera.hashgraph.sdk.account.AccountId;
 import com.hedera.hashgraph.sdk.account.AccountInfo;
 import com.hedera.hashgraph.sdk.account.AccountInfoQuery;
+import com.hedera.hashgraph.sdk.crypto.AsyncTransactionSigner;
+import com.hedera.hashgraph.sdk.crypto.BatchTransactionSigner;
 import com.hedera.hashgraph.sdk.crypto.PrivateKey;
 import com.hedera.hashgraph.sdk.crypto.PublicKey;
 import com.hedera.hashgraph.sdk.crypto.TransactionSigner;
@@ -16,10 +18,16 @@ import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -50,9 +58,21 @@ import javax.annotation.Nullable;
  * channels have been shut down.
  */
 public final class Client implements AutoCloseable {
-    final Random random = new Random();
     private Map<AccountId, Node> nodes;
 
+    // snapshot of `nodes.keySet()` handed to the node selector; replaced when nodes change
+    private volatile List<AccountId> nodeIds;
+
+    private NodeSelector nodeSelector = new LatencyAwareNodeSelector();
+
+    private RetryPolicy retryPolicy = new DefaultRetryPolicy();
+
+    private ScheduledExecutorService retryScheduler = ThreadUtil.getDefaultScheduler();
+
+    private final ChannelSettings channelSettings = new ChannelSettings();
+
+    private final QueryCostCache queryCostCache = new QueryCostCache();
+
     static final long DEFAULT_MAX_TXN_FEE = 100_000_000; // 1 hbar
 
     // todo: transaction fees should be defaulted to whatever the transaction fee schedule is
@@ -70,6 +90,10 @@ public final class Client implements AutoCloseable {
     @Nullable
     private TransactionSigner operatorSigner;
 
+    // set only by `setOperatorWithAsync()`, in which case `operatorSigner` waits for it
+    @Nullable
+    private AsyncTransactionSigner operatorAsyncSigner;
+
     public Client(Map<AccountId, String> nodes) {
         if (nodes.isEmpty()) {
             throw new IllegalArgumentException("List of nodes must not be empty");
@@ -77,7 +101,9 @@ public final class Client implements AutoCloseable {
 
         this.nodes = nodes.entrySet()
             .stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, t -> new Node(t.getKey(), t.getValue())));
+            .collect(Collectors.toMap(Map.Entry::getKey, t -> new Node(t.getKey(), t.getValue(), channelSettings)));
+
+        this.nodeIds = Collections.unmodifiableList(new ArrayList<>(this.nodes.keySet()));
     }
 
     /**
@@ -203,13 +229,148 @@ public final class Client implements AutoCloseable {
 
             // replace node
             if (newNodeUrl != null) {
-                return new Node(nodeAcct, newNodeUrl);
+                return new Node(nodeAcct, newNodeUrl, channelSettings);
             }
 
             // remove
             return null;
         });
 
+        // `replaceAll()` leaves the removed nodes behind as `null` values
+        this.nodes.values().removeIf(Objects::isNull);
+        this.nodeIds = Collections.unmodifiableList(new ArrayList<>(this.nodes.keySet()));
+
+        return this;
+    }
+
+    /**
+     * Set the strategy used to pick a node for transactions and queries which do not have one set
+     * explicitly.
+     * <p>
+     * Defaults to a {@link LatencyAwareNodeSelector}, which avoids slow and failing nodes.
+     *
+     * @param nodeSelector the strategy to use.
+     * @return {@code this} for fluent usage.
+     */
+    public Client setNodeSelector(NodeSelector nodeSelector) {
+        this.nodeSelector = nodeSelector;
+        return this;
+    }
+
+    /**
+     * Set the policy deciding whether and when failed transactions and queries are retried.
+     * <p>
+     * Defaults to a {@link DefaultRetryPolicy}.
+     *
+     * @param retryPolicy the policy to use.
+     * @return {@code this} for fluent usage.
+     */
+    public Client setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
+    /**
+     * Set the scheduler used to wait between retries of asynchronous calls.
+     * <p>
+     * Only the retry itself runs on the scheduler, which then sends the call without blocking.
+     * Defaults to a daemon thread pool, shared by all clients, sized to the number of processors.
+     * The client does not shut down a scheduler set here when it is closed.
+     *
+     * @param retryScheduler the scheduler to use.
+     * @return {@code this} for fluent usage.
+     */
+    public Client setRetryScheduler(ScheduledExecutorService retryScheduler) {
+        this.retryScheduler = retryScheduler;
+        return this;
+    }
+
+    /**
+     * Set how long the cost of a paid query is remembered, so that executing a query of the same
+     * kind again pays directly instead of first asking the node for the cost.
+     * <p>
+     * Costs are remembered per node, per kind of query and per value of the fields the query is
+     * priced by: the gas and parameters of a contract call, or the entity for queries priced by the
+     * size of its contents or records (file contents, contract bytecode and records). Other
+     * queries, such as account info, share one cost whichever entity they are about.
+     * If a node rejects a payment based on a remembered cost because the cost went up, the cost is
+     * asked for again and the query retried once. Note that if the cost goes down before the
+     * remembered cost expires, queries pay the higher, remembered cost until then.
+     * <p>
+     * Defaults to {@link Duration#ZERO}, which disables the cache.
+     *
+     * @param ttl how long to remember each cost.
+     * @return {@code this} for fluent usage.
+     */
+    public Client setQueryCostCacheTtl(Duration ttl) {
+        queryCostCache.setTtl(ttl);
+        return this;
+    }
+
+    /**
+     * Set the number of connections (gRPC channels) opened to each node.
+     * <p>
+     * Each connection is limited in how many calls it can carry at once by the node's HTTP/2
+     * settings; with many thousands of calls in flight, spreading them across several connections
+     * increases throughput. Calls are sent over whichever connection to the node has the fewest
+     * calls in flight.
+     * <p>
+     * Defaults to 1. Connections are opened lazily, so this only applies to nodes that have not
+     * been used yet; set it before executing any transactions or queries.
+     *
+     * @param channelsPerNode the number of connections per node; must be at least 1.
+     * @return {@code this} for fluent usage.
+     */
+    public Client setChannelsPerNode(int channelsPerNode) {
+        if (channelsPerNode < 1) {
+            throw new IllegalArgumentException("channelsPerNode must be >= 1");
+        }
+
+        channelSettings.channelsPerNode = channelsPerNode;
+        return this;
+    }
+
+    /**
+     * Set the interval at which a keepalive ping is sent on idle connections to the nodes.
+     * <p>
+     * Like {@link #setChannelsPerNode(int)}, this only applies to connections opened afterwards.
+     *
+     * @param keepAliveTime the time without reads on a connection before sending a ping.
+     * @return {@code this} for fluent usage.
+     * @see io.grpc.ManagedChannelBuilder#keepAliveTime(long, TimeUnit)
+     */
+    public Client setKeepAliveTime(Duration keepAliveTime) {
+        channelSettings.keepAliveTime = keepAliveTime;
+        return this;
+    }
+
+    /**
+     * Set how long to wait for a keepalive ping to be acknowledged before the connection is
+     * considered dead.
+     * <p>
+     * Like {@link #setChannelsPerNode(int)}, this only applies to connections opened afterwards.
+     *
+     * @param keepAliveTimeout the time to wait for a ping acknowledgement.
+     * @return {@code this} for fluent usage.
+     * @see io.grpc.ManagedChannelBuilder#keepAliveTimeout(long, TimeUnit)
+     */
+    public Client setKeepAliveTimeout(Duration keepAliveTimeout) {
+        channelSettings.keepAliveTimeout = keepAliveTimeout;
+        return this;
+    }
+
+    /**
+     * Set how long a connection may go without any calls before it is closed; it will be
+     * re-established transparently on the next call.
+     * <p>
+     * Like {@link #setChannelsPerNode(int)}, this only applies to connections opened afterwards.
+     *
+     * @param idleTimeout the time without calls before closing the connection.
+     * @return {@code this} for fluent usage.
+     * @see io.grpc.ManagedChannelBuilder#idleTimeout(long, TimeUnit)
+     */
+    public Client setIdleTimeout(Duration idleTimeout) {
+        channelSettings.idleTimeout = idleTimeout;
         return this;
     }
 
@@ -305,6 +466,7 @@ public final class Client implements AutoCloseable {
         this.operatorId = operatorId;
         this.operatorPublicKey = operatorKey.publicKey;
         this.operatorSigner = operatorKey::sign;
+        this.operatorAsyncSigner = null;
 
         return this;
     }
@@ -321,6 +483,50 @@ public final class Client implements AutoCloseable {
         this.operatorId = accountId;
         this.operatorPublicKey = publicKey;
         this.operatorSigner = signer;
+        this.operatorAsyncSigner = null;
+
+        return this;
+    }
+
+    /**
+     * Set the account that will, by default, be paying for transactions and queries built with
+     * this client, and a signer which returns its signatures asynchronously, e.g. a remote
+     * signing service.
+     * <p>
+     * Transactions and query payments executed without blocking, e.g. with
+     * {@link HederaCall#executeFuture(Client)} or through a {@link TransactionPipeline}, are sent
+     * once their signature arrives without a thread waiting for it; if the signer fails, they
+     * complete with a {@link TransactionSignerException}. Calls which block anyway, such as
+     * {@link HederaCall#execute(Client)}, wait for the signature.
+     * <p>
+     * If the signer is a {@link BatchTransactionSigner}, transactions waiting for the operator's
+     * signature while a batch is being signed are sent to it together as the next batch.
+     * <p>
+     * Currently only {@link Ed25519PublicKey} is allowed.
+     */
+    public Client setOperatorWithAsync(AccountId accountId, PublicKey publicKey, AsyncTransactionSigner signer) {
+        final AsyncTransactionSigner asyncSigner = signer instanceof BatchTransactionSigner
+            ? new SignatureBatcher((BatchTransactionSigner) signer)
+            : signer;
+
+        this.operatorId = accountId;
+        this.operatorPublicKey = publicKey;
+        this.operatorAsyncSigner = asyncSigner;
+        this.operatorSigner = new TransactionSigner() {
+            @Override
+            public byte[] signTransaction(byte[] transactionBytes) {
+                return signTransaction(ByteBuffer.wrap(transactionBytes).asReadOnlyBuffer());
+            }
+
+            @Override
+            public byte[] signTransaction(ByteBuffer transactionBytes) {
+                try {
+                    return asyncSigner.signTransactionAsync(transactionBytes).toCompletableFuture().join();
+                } catch (CompletionException e) {
+                    throw new TransactionSignerException(e);
+                }
+            }
+        };
 
         return this;
     }
@@ -348,20 +554,74 @@ public final class Client implements AutoCloseable {
         return operatorSigner;
     }
 
+    /**
+     * Get the operator's signer if it was set with
+     * {@link #setOperatorWithAsync(AccountId, PublicKey, AsyncTransactionSigner)}.
+     */
+    @Nullable
+    AsyncTransactionSigner getOperatorAsyncSigner() {
+        return operatorAsyncSigner;
+    }
+
     Node pickNode() {
-        if (nodes.isEmpty()) {
+        final List<AccountId> nodeIds = this.nodeIds;
+
+        if (nodeIds.isEmpty()) {
             throw new IllegalStateException("List of channels has become empty");
         }
 
-        int r = random.nextInt(nodes.size());
-        Iterator<Node> channelIter = nodes.values()
-            .iterator();
+        return getNodeForId(nodeSelector.selectNode(nodeIds));
+    }
+
+    /**
+     * Report the outcome of a single call attempt to {@link #nodeSelector} and
+     * {@link #retryPolicy}.
+     *
+     * @param node      the node the call was sent to, or {@code null} if it was sent over a
+     *                  channel of the caller's choosing, in which case only {@link #retryPolicy}
+     *                  is told.
+     * @param startedAt the value of {@link System#nanoTime()} when the call was started.
+     * @param error     the error the call completed with, if any.
+     */
+    void onNodeCallCompleted(@Nullable Node node, long startedAt, @Nullable HederaThrowable error) {
+        final Duration latency = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        if (error == null) {
+            retryPolicy.onSuccess();
+        }
+
+        if (node == null) {
+            return;
+        }
 
-        for (int i = 1; i < r; i++) {
-            channelIter.next();
+        if (error != null && isNodeFailure(error)) {
+            nodeSelector.onError(node.accountId, latency, error);
+        } else {
+            nodeSelector.onResponse(node.accountId, latency);
         }
+    }
+
+    private static boolean isNodeFailure(HederaThrowable error) {
+        if (error instanceof HederaNetworkException) {
+            return true;
+        }
+
+        // only these statuses reflect on the node itself; anything else is a valid answer
+        return error instanceof HederaPrecheckStatusException
+            && ((HederaStatusException) error).status.equalsAny(
+                Status.Busy, Status.PlatformTransactionNotCreated, Status.PlatformNotActive);
+    }
+
+    QueryCostCache getQueryCostCache() {
+        return queryCostCache;
+    }
+
+    RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
 
-        return channelIter.next();
+    ScheduledExecutorService getRetryScheduler() {
+        return retryScheduler;
     }
 
     Node getNodeForId(AccountId node) {
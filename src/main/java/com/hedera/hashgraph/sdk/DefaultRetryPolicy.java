@@ -0,0 +1,187 @@
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The default {@link RetryPolicy}: capped exponential backoff with full jitter and a shared
+ * retry budget.
+ * <p>
+ * The delay before retry {@code n} is chosen uniformly at random between zero and
+ * {@code min(maxDelay, baseDelay * 2^n)}, which spreads out retries from many callers that
+ * failed at the same time.
+ * <p>
+ * The retry budget is a token bucket modelled on gRPC's retry throttling: it starts full at
+ * {@code maxTokens}, every retryable failure removes one token and every successful call adds
+ * back {@code tokenRatio} tokens. While the bucket is at or below half full, failed calls are not
+ * retried. When a large share of calls start failing, retries therefore back off across the whole
+ * client instead of adding to the load.
+ * <p>
+ * By default {@link Status#Busy}, {@link Status#PlatformTransactionNotCreated} and
+ * {@link Status#PlatformNotActive} (from the precheck) are retried, as well as the transport
+ * error {@link io.grpc.Status.Code#UNAVAILABLE}.
+ */
+public final class DefaultRetryPolicy implements RetryPolicy {
+    private static final int TOKEN_SCALE = 1000;
+
+    private volatile Duration baseDelay = Duration.ofMillis(500);
+    private volatile Duration maxDelay = Duration.ofSeconds(8);
+    private volatile int maxAttempts = 10;
+
+    private volatile Set<Status> retryableStatuses = Collections.unmodifiableSet(EnumSet.of(
+        Status.Busy, Status.PlatformTransactionNotCreated, Status.PlatformNotActive));
+
+    private volatile Set<io.grpc.Status.Code> retryableCodes = Collections.unmodifiableSet(
+        EnumSet.of(io.grpc.Status.Code.UNAVAILABLE));
+
+    // tokens are scaled by `TOKEN_SCALE` so fractional ratios can be kept in a long
+    private volatile long maxTokens = 100L * TOKEN_SCALE;
+    private volatile long tokenRatio = TOKEN_SCALE / 10;
+    private final AtomicLong tokens = new AtomicLong(maxTokens);
+
+    /**
+     * Set the delay the backoff grows from.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public DefaultRetryPolicy setBaseDelay(Duration baseDelay) {
+        if (baseDelay.isNegative()) {
+            throw new IllegalArgumentException("baseDelay must not be negative");
+        }
+
+        this.baseDelay = baseDelay;
+        return this;
+    }
+
+    /**
+     * Set the maximum delay between two attempts.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public DefaultRetryPolicy setMaxDelay(Duration maxDelay) {
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("maxDelay must not be negative");
+        }
+
+        this.maxDelay = maxDelay;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of attempts for a single call, including the first.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public DefaultRetryPolicy setMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be >= 1");
+        }
+
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Set the precheck statuses which are retried, replacing the defaults.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public DefaultRetryPolicy setRetryableStatuses(Status... statuses) {
+        this.retryableStatuses = statuses.length == 0
+            ? Collections.emptySet()
+            : Collections.unmodifiableSet(EnumSet.copyOf(Arrays.asList(statuses)));
+
+        return this;
+    }
+
+    /**
+     * Set the gRPC status codes of transport errors which are retried, replacing the defaults.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public DefaultRetryPolicy setRetryableCodes(io.grpc.Status.Code... codes) {
+        this.retryableCodes = codes.length == 0
+            ? Collections.emptySet()
+            : Collections.unmodifiableSet(EnumSet.copyOf(Arrays.asList(codes)));
+
+        return this;
+    }
+
+    /**
+     * Set the size of the retry budget and how much of it is restored by each successful call.
+     * This also refills the budget.
+     *
+     * @param maxTokens  the size of the bucket; retries stop when it is half empty.
+     * @param tokenRatio the number of tokens (usually a fraction) added for each success.
+     * @return {@code this} for fluent usage.
+     */
+    public DefaultRetryPolicy setRetryBudget(int maxTokens, double tokenRatio) {
+        if (maxTokens < 1 || tokenRatio <= 0) {
+            throw new IllegalArgumentException("maxTokens must be >= 1 and tokenRatio must be > 0");
+        }
+
+        this.maxTokens = (long) maxTokens * TOKEN_SCALE;
+        this.tokenRatio = Math.max(1, (long) (tokenRatio * TOKEN_SCALE));
+        this.tokens.set(this.maxTokens);
+
+        return this;
+    }
+
+    @Override
+    public boolean isRetryable(HederaThrowable error) {
+        if (error instanceof HederaPrecheckStatusException) {
+            return retryableStatuses.contains(((HederaPrecheckStatusException) error).status);
+        }
+
+        if (error instanceof HederaNetworkException) {
+            return retryableCodes.contains(
+                io.grpc.Status.fromThrowable((HederaNetworkException) error).getCode());
+        }
+
+        return false;
+    }
+
+    @Override
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    @Override
+    public Duration getRetryDelay(int retry) {
+        final long maxNanos = maxDelay.toNanos();
+        final long baseNanos = baseDelay.toNanos();
+
+        // stop doubling before it could overflow; by then it's well past any sane cap
+        final long ceiling = retry >= 30 || baseNanos > (maxNanos >> retry)
+            ? maxNanos
+            : baseNanos << retry;
+
+        return ceiling <= 0
+            ? Duration.ZERO
+            : Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    @Override
+    public boolean tryAcquireRetry() {
+        final long max = maxTokens;
+        final long remaining = tokens.updateAndGet(t -> Math.max(0, t - TOKEN_SCALE));
+
+        return remaining > max / 2;
+    }
+
+    @Override
+    public void onSuccess() {
+        final long max = maxTokens;
+        final long ratio = tokenRatio;
+
+        // skip the CAS entirely in the common case where the bucket is already full
+        if (tokens.get() < max) {
+            tokens.updateAndGet(t -> Math.min(max, t + ratio));
+        }
+    }
+}
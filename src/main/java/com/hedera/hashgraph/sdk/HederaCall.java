@@ -6,6 +6,7 @@ import com.google.protobuf.ByteString;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
@@ -21,14 +22,43 @@ public abstract class HederaCall<Req, RawResp, Resp, T extends HederaCall<Req, R
     private @Nullable
     List<String> validationErrors;
 
-    private static final Duration RETRY_DELAY = Duration.ofMillis(500);
-
     protected abstract io.grpc.MethodDescriptor<Req, RawResp> getMethod();
 
     @Internal
     public abstract Req toProto();
 
-    protected abstract Channel getChannel(Client client);
+    /**
+     * Get the node this call is sent to, so the outcome of each call can be reported to the
+     * client's {@link NodeSelector}. Defaults to none, in which case nothing is reported.
+     */
+    @Internal
+    @Nullable
+    protected Node getNode(Client client) {
+        return null;
+    }
+
+    /**
+     * Get the channel to send this call over; called for every attempt.
+     * <p>
+     * Defaults to a channel of the node from {@link #getNode(Client)}. The outcome of a call sent
+     * over any other channel is not reported to the client's {@link NodeSelector}.
+     */
+    protected Channel getChannel(Client client) {
+        final Node node = getNode(client);
+
+        if (node == null) {
+            throw new IllegalStateException(getClass().getName() + " must override getChannel()");
+        }
+
+        return node.getChannel();
+    }
+
+    // the node to report the outcome of a call over `channel` against, if the channel is its own
+    @Nullable
+    private Node getNode(Client client, Channel channel) {
+        final Node node = getNode(client);
+        return node != null && node.ownsChannel(channel) ? node : null;
+    }
 
     protected abstract Resp mapResponse(RawResp raw) throws HederaStatusException;
 
@@ -36,8 +66,15 @@ public abstract class HederaCall<Req, RawResp, Resp, T extends HederaCall<Req, R
         return Duration.ZERO;
     }
 
+    /**
+     * Check if the error means the answer is not ready yet, so the call should be sent again
+     * until the retry timeout elapses.
+     * <p>
+     * Transient failures (e.g. {@link Status#Busy}) are instead retried according to the
+     * client's {@link RetryPolicy}.
+     */
     protected boolean shouldRetry(HederaThrowable e) {
-        return e instanceof HederaStatusException && ((HederaStatusException) e).status == Status.Busy;
+        return false;
     }
 
     public final Resp execute(Client client) throws HederaStatusException, HederaNetworkException {
@@ -51,11 +88,29 @@ public abstract class HederaCall<Req, RawResp, Resp, T extends HederaCall<Req, R
         // N.B. only QueryBuilder used onPreExecute() so instead it should just override this
         // method instead
 
-        final Backoff.FallibleProducer<Resp, HederaStatusException> tryProduce = () ->
-            mapResponse(ClientCalls.blockingUnaryCall(getChannel(client).newCall(getMethod(), CallOptions.DEFAULT), toProto()));
+        final Backoff.FallibleProducer<Resp, HederaStatusException> tryProduce = () -> {
+            final Channel channel = getChannel(client);
+            final Node node = getNode(client, channel);
+            final Req request = toProto();
+            final long startedAt = System.nanoTime();
+
+            try {
+                final Resp response = mapResponse(ClientCalls.blockingUnaryCall(
+                    channel.newCall(getMethod(), CallOptions.DEFAULT), request));
 
-        return new Backoff(RETRY_DELAY, retryTimeout)
-            .tryWhile(this::shouldRetry, tryProduce);
+                client.onNodeCallCompleted(node, startedAt, null);
+                return response;
+            } catch (HederaStatusException e) {
+                client.onNodeCallCompleted(node, startedAt, e);
+                throw e;
+            } catch (StatusRuntimeException e) {
+                client.onNodeCallCompleted(node, startedAt, new HederaNetworkException(e));
+                throw e;
+            }
+        };
+
+        return new Backoff(client.getRetryPolicy(), this::shouldRetry, retryTimeout)
+            .tryWhile(tryProduce);
     }
 
     public final void executeAsync(Client client, Consumer<Resp> onSuccess, Consumer<HederaThrowable> onError) {
@@ -66,11 +121,55 @@ public abstract class HederaCall<Req, RawResp, Resp, T extends HederaCall<Req, R
         // Run local validator just before execute
         localValidate();
 
-        final Consumer<Consumer<HederaThrowable>> executeCall = (onError2) -> ClientCalls.asyncUnaryCall(getChannel(client).newCall(getMethod(), CallOptions.DEFAULT), toProto(),
-            new CallStreamObserver(onSuccess, onError2));
+        final Consumer<Consumer<HederaThrowable>> executeCall = (onError2) -> {
+            final Channel channel = getChannel(client);
+            final Node node = getNode(client, channel);
+
+            ClientCalls.asyncUnaryCall(channel.newCall(getMethod(), CallOptions.DEFAULT), toProto(),
+                new CallStreamObserver(client, node, onSuccess, onError2));
+        };
+
+        new Backoff(client.getRetryPolicy(), this::shouldRetry, retryTimeout)
+            .asyncTryWhile(client.getRetryScheduler(), executeCall, onError);
+    }
+
+    /**
+     * Execute this call without blocking, using the default retry timeout.
+     *
+     * @see #executeFuture(Client, Duration)
+     */
+    public final CompletableFuture<Resp> executeFuture(Client client) {
+        return executeFuture(client, getDefaultTimeout());
+    }
+
+    /**
+     * Execute this call without blocking, returning a future which completes with the response.
+     * <p>
+     * No thread is blocked at any point, including while waiting to retry, so many calls may be in
+     * flight at once and composed with {@link CompletableFuture#thenCompose} or
+     * {@link CompletableFuture#allOf}.
+     * <p>
+     * The future completes on a gRPC or SDK background thread; dependent stages that may block
+     * should use the {@code *Async} variants of the {@link CompletableFuture} methods with an
+     * executor of your choosing.
+     *
+     * @param client       the client to execute with.
+     * @param retryTimeout how long to keep retrying if the network is busy.
+     * @return a future completed with the response, or exceptionally with one of the types
+     * documented on {@link HederaThrowable} or a {@link LocalValidationException}.
+     */
+    public final CompletableFuture<Resp> executeFuture(Client client, Duration retryTimeout) {
+        final CompletableFuture<Resp> future = new CompletableFuture<>();
+
+        try {
+            executeAsync(client, retryTimeout, future::complete,
+                error -> future.completeExceptionally((Throwable) error));
+        } catch (RuntimeException e) {
+            // local validation is done before anything is sent
+            future.completeExceptionally(e);
+        }
 
-        new Backoff(RETRY_DELAY, retryTimeout)
-            .asyncTryWhile(this::shouldRetry, executeCall, onError);
+        return future;
     }
 
     @VisibleForTesting
@@ -129,12 +228,19 @@ public abstract class HederaCall<Req, RawResp, Resp, T extends HederaCall<Req, R
 
     private final class CallStreamObserver implements StreamObserver<RawResp> {
 
+        private final Client client;
+        @Nullable
+        private final Node node;
+        private final long startedAt = System.nanoTime();
+
         private final Consumer<Resp> onSuccess;
         private final Consumer<HederaThrowable> onError;
 
         private volatile boolean onNextCalled = false;
 
-        private CallStreamObserver(Consumer<Resp> onSuccess, Consumer<HederaThrowable> onError) {
+        private CallStreamObserver(Client client, @Nullable Node node, Consumer<Resp> onSuccess, Consumer<HederaThrowable> onError) {
+            this.client = client;
+            this.node = node;
             this.onSuccess = onSuccess;
             this.onError = onError;
         }
@@ -144,12 +250,18 @@ public abstract class HederaCall<Req, RawResp, Resp, T extends HederaCall<Req, R
             if (onNextCalled) return;
             onNextCalled = true;
 
+            final Resp response;
+
             try {
-                Resp response = mapResponse(value);
-                onSuccess.accept(response);
+                response = mapResponse(value);
             } catch (HederaStatusException e) {
+                client.onNodeCallCompleted(node, startedAt, e);
                 onError.accept(e);
+                return;
             }
+
+            client.onNodeCallCompleted(node, startedAt, null);
+            onSuccess.accept(response);
         }
 
         @Override
@@ -164,6 +276,7 @@ public abstract class HederaCall<Req, RawResp, Resp, T extends HederaCall<Req, R
                 throw new RuntimeException("unhandled exception type", t);
             }
 
+            client.onNodeCallCompleted(node, startedAt, exception);
             onError.accept(exception);
         }
 
@@ -8,6 +8,7 @@ package com.hedera.hashgraph.sdk;
  * <li> {@link HederaStatusException} </li>
  * <li> {@link HederaNetworkException}</li>
  * <li> {@link MaxQueryPaymentExceededException}</li> (thrown for queries)
+ * <li> {@link TransactionSignerException}</li> (with an asynchronous operator signer)
  * </ul>
  */
 public interface HederaThrowable {
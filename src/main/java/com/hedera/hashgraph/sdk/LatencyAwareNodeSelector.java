@@ -0,0 +1,205 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.Nullable;
+
+/**
+ * The default {@link NodeSelector}, which prefers nodes that have recently been answering quickly
+ * and successfully.
+ * <p>
+ * For every node an exponentially weighted moving average (EWMA) of the response latency and of
+ * the error rate is kept. Each selection samples two distinct nodes at random and picks the one
+ * with the lower score ("power of two choices"), which steers traffic away from slow nodes
+ * without piling everything onto the single fastest one.
+ * <p>
+ * A node that fails {@code maxConsecutiveFailures} times in a row is ejected for
+ * {@code baseEjectionTime}. Once that elapses a single probe call is let through; if the probe
+ * also fails the node is ejected again for twice as long (up to {@code maxEjectionTime}),
+ * otherwise it returns to normal rotation. A probe that never reports back (e.g. the transaction
+ * it was picked for was never submitted) is abandoned after another {@code baseEjectionTime}.
+ * If every node is ejected, selection falls back to picking among all of them so calls are never
+ * refused outright.
+ */
+public final class LatencyAwareNodeSelector implements NodeSelector {
+    /**
+     * Weight given to the newest sample in the moving averages.
+     */
+    private static final double DECAY = 0.2;
+
+    /**
+     * Latency charged per unit of error rate, so a node failing half of its calls scores as if
+     * it were 500ms slower than its observed latency.
+     */
+    private static final double ERROR_PENALTY_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private static final Duration DEFAULT_BASE_EJECTION_TIME = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_MAX_EJECTION_TIME = Duration.ofMinutes(5);
+    private static final int DEFAULT_MAX_CONSECUTIVE_FAILURES = 3;
+
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+    private final int maxConsecutiveFailures;
+
+    private final ConcurrentHashMap<AccountId, NodeStats> stats = new ConcurrentHashMap<>();
+
+    public LatencyAwareNodeSelector() {
+        this(DEFAULT_BASE_EJECTION_TIME, DEFAULT_MAX_EJECTION_TIME, DEFAULT_MAX_CONSECUTIVE_FAILURES);
+    }
+
+    /**
+     * @param baseEjectionTime       how long a node is ejected for the first time it trips.
+     * @param maxEjectionTime        the cap for the ejection time, which doubles every time a
+     *                               probe of an ejected node fails.
+     * @param maxConsecutiveFailures the number of failures in a row after which a node is ejected.
+     */
+    public LatencyAwareNodeSelector(Duration baseEjectionTime, Duration maxEjectionTime, int maxConsecutiveFailures) {
+        if (baseEjectionTime.isNegative() || maxEjectionTime.compareTo(baseEjectionTime) < 0) {
+            throw new IllegalArgumentException("maxEjectionTime must be >= baseEjectionTime >= 0");
+        }
+
+        if (maxConsecutiveFailures <= 0) {
+            throw new IllegalArgumentException("maxConsecutiveFailures must be > 0");
+        }
+
+        this.baseEjectionNanos = baseEjectionTime.toNanos();
+        this.maxEjectionNanos = maxEjectionTime.toNanos();
+        this.maxConsecutiveFailures = maxConsecutiveFailures;
+    }
+
+    @Override
+    public AccountId selectNode(List<AccountId> nodeIds) {
+        final int size = nodeIds.size();
+
+        if (size == 1) {
+            return nodeIds.get(0);
+        }
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long now = System.nanoTime();
+
+        final int first = random.nextInt(size);
+        // pick a second, distinct index by offsetting from the first
+        final int second = (first + 1 + random.nextInt(size - 1)) % size;
+
+        final AccountId firstId = nodeIds.get(first);
+        final AccountId secondId = nodeIds.get(second);
+
+        final double firstScore = getStats(firstId).score(now);
+        final double secondScore = getStats(secondId).score(now);
+
+        if (Double.isInfinite(firstScore) && Double.isInfinite(secondScore)) {
+            // both candidates are ejected; look for any node that is not before giving up
+            final AccountId available = findAvailable(nodeIds, random.nextInt(size), now);
+            return available != null ? available : firstId;
+        }
+
+        final AccountId chosen = firstScore <= secondScore ? firstId : secondId;
+        getStats(chosen).onSelected(now);
+
+        return chosen;
+    }
+
+    @Override
+    public void onResponse(AccountId nodeId, Duration latency) {
+        getStats(nodeId).onResponse(latency.toNanos());
+    }
+
+    @Override
+    public void onError(AccountId nodeId, Duration latency, HederaThrowable error) {
+        getStats(nodeId).onError(System.nanoTime());
+    }
+
+    /**
+     * Check if the given node is currently ejected from rotation.
+     */
+    public boolean isEjected(AccountId nodeId) {
+        return Double.isInfinite(getStats(nodeId).score(System.nanoTime()));
+    }
+
+    @Nullable
+    private AccountId findAvailable(List<AccountId> nodeIds, int startIndex, long now) {
+        final int size = nodeIds.size();
+
+        for (int i = 0; i < size; i++) {
+            final AccountId nodeId = nodeIds.get((startIndex + i) % size);
+            final NodeStats nodeStats = getStats(nodeId);
+
+            if (!Double.isInfinite(nodeStats.score(now))) {
+                nodeStats.onSelected(now);
+                return nodeId;
+            }
+        }
+
+        return null;
+    }
+
+    private NodeStats getStats(AccountId nodeId) {
+        return stats.computeIfAbsent(nodeId, id -> new NodeStats());
+    }
+
+    private final class NodeStats {
+        private double latencyNanos = 0;
+        private double errorRate = 0;
+        private int consecutiveFailures = 0;
+
+        // 0 if the node is not ejected
+        private long ejectedUntil = 0;
+        private long ejectionNanos = 0;
+
+        // 0 if no probe is in flight
+        private long probeStartedAt = 0;
+
+        synchronized double score(long now) {
+            if (ejectedUntil != 0 && (now - ejectedUntil < 0 || isProbing(now))) {
+                // either still ejected or a probe is already in flight
+                return Double.POSITIVE_INFINITY;
+            }
+
+            return latencyNanos + errorRate * ERROR_PENALTY_NANOS;
+        }
+
+        synchronized void onSelected(long now) {
+            if (ejectedUntil != 0 && now - ejectedUntil >= 0) {
+                // the ejection has elapsed; this call is the probe
+                probeStartedAt = now | 1;
+            }
+        }
+
+        private boolean isProbing(long now) {
+            return probeStartedAt != 0 && now - probeStartedAt < baseEjectionNanos;
+        }
+
+        synchronized void onResponse(long latency) {
+            // seed with the first sample so a new node isn't judged against zero
+            latencyNanos = latencyNanos == 0 ? latency : latencyNanos + DECAY * (latency - latencyNanos);
+            errorRate -= DECAY * errorRate;
+            consecutiveFailures = 0;
+            ejectedUntil = 0;
+            ejectionNanos = 0;
+            probeStartedAt = 0;
+        }
+
+        synchronized void onError(long now) {
+            errorRate += DECAY * (1 - errorRate);
+            consecutiveFailures += 1;
+
+            final boolean probeFailed = probeStartedAt != 0;
+
+            if (probeFailed || (ejectedUntil == 0 && consecutiveFailures >= maxConsecutiveFailures)) {
+                ejectionNanos = ejectionNanos == 0
+                    ? baseEjectionNanos
+                    : Math.min(ejectionNanos * 2, maxEjectionNanos);
+
+                // `0` means "not ejected" so make sure we never land on it
+                ejectedUntil = (now + ejectionNanos) | 1;
+                probeStartedAt = 0;
+            }
+        }
+    }
+}
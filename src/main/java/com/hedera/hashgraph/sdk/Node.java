@@ -4,56 +4,174 @@ import com.hedera.hashgraph.sdk.account.AccountId;
 
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
 
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientInterceptors;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
 import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
 
 class Node {
 
     final AccountId accountId;
     final String address;
 
+    private final ChannelSettings channelSettings;
+
+    // rotates the starting point of the least-loaded scan so ties are broken round-robin
+    private final AtomicInteger nextChannel = new AtomicInteger();
+
     // volatile is required for correct double-checked locking
     @Nullable
-    private volatile ManagedChannel channel = null;
+    private volatile PooledChannel[] channels = null;
 
-    Node(AccountId accountId, String address) {
+    Node(AccountId accountId, String address, ChannelSettings channelSettings) {
         this.accountId = accountId;
         this.address = address;
+        this.channelSettings = channelSettings;
+    }
+
+    /**
+     * Get the channel with the fewest calls in flight.
+     * <p>
+     * Each channel in the pool is its own HTTP/2 connection, so spreading calls over them lifts
+     * the per-connection limits on concurrent streams and flow-control window.
+     */
+    Channel getChannel() {
+        final PooledChannel[] channels = getChannels();
+
+        if (channels.length == 1) {
+            return channels[0].channel;
+        }
+
+        final int start = Math.floorMod(nextChannel.getAndIncrement(), channels.length);
+        PooledChannel leastLoaded = channels[start];
+
+        for (int i = 1; i < channels.length && leastLoaded.inFlight.get() > 0; i++) {
+            final PooledChannel candidate = channels[(start + i) % channels.length];
+
+            if (candidate.inFlight.get() < leastLoaded.inFlight.get()) {
+                leastLoaded = candidate;
+            }
+        }
+
+        return leastLoaded.channel;
+    }
+
+    /**
+     * Check if the channel is one of this node's, as returned by {@link #getChannel()}.
+     */
+    boolean ownsChannel(Channel channel) {
+        final PooledChannel[] channels = this.channels;
+
+        if (channels != null) {
+            for (final PooledChannel pooled : channels) {
+                if (pooled.channel == channel) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
     }
 
-    ManagedChannel getChannel() {
-        if (channel == null) {
+    private PooledChannel[] getChannels() {
+        PooledChannel[] channels = this.channels;
+
+        if (channels == null) {
             synchronized (this) {
-                if (channel == null) {
-                    channel = ManagedChannelBuilder.forTarget(address)
-                        .usePlaintext()
-                        .build();
+                channels = this.channels;
+
+                if (channels == null) {
+                    channels = new PooledChannel[Math.max(1, channelSettings.channelsPerNode)];
+
+                    for (int i = 0; i < channels.length; i++) {
+                        channels[i] = new PooledChannel(channelSettings.buildChannel(address));
+                    }
+
+                    this.channels = channels;
                 }
             }
         }
 
-        return channel;
+        return channels;
     }
 
     void closeChannel() {
-        // because `channel` is volatile, we have to explicitly load it so we can null-check it
+        // because `channels` is volatile, we have to explicitly load it so we can null-check it
         // otherwise it could be set to `null` between when we checked it and when we used it
-        final ManagedChannel channel = this.channel;
+        final PooledChannel[] channels = this.channels;
 
-        if (channel != null) {
-            channel.shutdown();
+        if (channels != null) {
+            for (final PooledChannel channel : channels) {
+                channel.managedChannel.shutdown();
+            }
         }
     }
 
     void awaitChannelTermination(long timeout, TimeUnit timeUnit) throws InterruptedException, TimeoutException {
-        final ManagedChannel channel = this.channel;
+        final PooledChannel[] channels = this.channels;
+
+        if (channels == null) {
+            return;
+        }
+
+        final long timeoutAt = System.nanoTime() + timeUnit.toNanos(timeout);
+
+        for (final PooledChannel channel : channels) {
+            final long remaining = timeoutAt - System.nanoTime();
 
-        if (channel != null && channel.shutdown().awaitTermination(timeout, timeUnit)) {
-            throw new TimeoutException("Timed out waiting for node channel to shutdown: "
-                + accountId + " :: " + address);
+            if (!channel.managedChannel.shutdown().awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException("Timed out waiting for node channel to shutdown: "
+                    + accountId + " :: " + address);
+            }
+        }
+    }
+
+    private static final class PooledChannel implements ClientInterceptor {
+        private final ManagedChannel managedChannel;
+        private final Channel channel;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private PooledChannel(ManagedChannel managedChannel) {
+            this.managedChannel = managedChannel;
+            this.channel = ClientInterceptors.intercept(managedChannel, this);
+        }
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+            MethodDescriptor<ReqT, RespT> method,
+            CallOptions callOptions,
+            Channel next)
+        {
+            return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+                @Override
+                public void start(Listener<RespT> responseListener, Metadata headers) {
+                    inFlight.incrementAndGet();
+
+                    try {
+                        super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+                            @Override
+                            public void onClose(io.grpc.Status status, Metadata trailers) {
+                                inFlight.decrementAndGet();
+                                super.onClose(status, trailers);
+                            }
+                        }, headers);
+                    } catch (RuntimeException e) {
+                        // `onClose()` will never be called if the call failed to start
+                        inFlight.decrementAndGet();
+                        throw e;
+                    }
+                }
+            };
         }
     }
 }
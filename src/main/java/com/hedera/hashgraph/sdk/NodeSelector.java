@@ -0,0 +1,48 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Strategy used by {@link Client} to choose which node a transaction or query is sent to when
+ * one was not set explicitly.
+ * <p>
+ * Implementations are invoked concurrently from every thread using the client and must be
+ * thread-safe. The outcome callbacks are invoked once per call attempt (including retries) and
+ * should return quickly as they run on the calling thread or a gRPC callback thread.
+ *
+ * @see Client#setNodeSelector(NodeSelector)
+ * @see LatencyAwareNodeSelector
+ */
+public interface NodeSelector {
+    /**
+     * Choose a node to submit to.
+     *
+     * @param nodeIds the account IDs of the nodes currently configured on the client; never empty.
+     * @return one of {@code nodeIds}.
+     */
+    AccountId selectNode(List<AccountId> nodeIds);
+
+    /**
+     * Called when a node answered a call, including calls that completed with a status that
+     * does not reflect on the health of the node (e.g. {@link Status#InvalidAccountId}).
+     *
+     * @param nodeId  the node that answered.
+     * @param latency the time between starting the call and receiving the response.
+     */
+    default void onResponse(AccountId nodeId, Duration latency) {
+    }
+
+    /**
+     * Called when a call to a node failed with a transport error or a status that may indicate
+     * the node is unhealthy or overloaded (e.g. {@link Status#Busy}).
+     *
+     * @param nodeId  the node that failed.
+     * @param latency the time between starting the call and receiving the error.
+     * @param error   the error, one of the types documented on {@link HederaThrowable}.
+     */
+    default void onError(AccountId nodeId, Duration latency, HederaThrowable error) {
+    }
+}
@@ -0,0 +1,170 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PrivateKey;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * The append-only log {@link AccountProvisioner} keeps of the accounts it creates, one line per
+ * event:
+ *
+ * <pre>
+ * pending &lt;payer&gt; &lt;valid start seconds&gt; &lt;nanos&gt; &lt;private key&gt;
+ * created &lt;payer&gt; &lt;valid start seconds&gt; &lt;nanos&gt; &lt;account&gt;
+ * failed  &lt;payer&gt; &lt;valid start seconds&gt; &lt;nanos&gt;
+ * </pre>
+ * <p>
+ * A key is written as pending, and synced to disk, before the transaction creating its account
+ * is submitted, so the key of every account which may have been created survives a crash.
+ */
+final class ProvisioningJournal implements Closeable {
+    private static final String PENDING = "pending";
+    private static final String CREATED = "created";
+    private static final String FAILED = "failed";
+
+    private final FileOutputStream file;
+
+    // guarded by `this`
+    private final Writer writer;
+
+    private ProvisioningJournal(FileOutputStream file) {
+        this.file = file;
+        this.writer = new BufferedWriter(new OutputStreamWriter(file, StandardCharsets.UTF_8));
+    }
+
+    static ProvisioningJournal open(Path path) throws IOException {
+        return new ProvisioningJournal(new FileOutputStream(path.toFile(), true));
+    }
+
+    synchronized void pending(TransactionId transactionId, Ed25519PrivateKey key) throws IOException {
+        write(PENDING, transactionId, key.toString());
+    }
+
+    synchronized void created(TransactionId transactionId, AccountId accountId) throws IOException {
+        write(CREATED, transactionId, accountId.toString());
+    }
+
+    synchronized void failed(TransactionId transactionId) throws IOException {
+        write(FAILED, transactionId, null);
+    }
+
+    /**
+     * Write out everything recorded so far and wait for it to reach the disk.
+     */
+    synchronized void sync() throws IOException {
+        writer.flush();
+        file.getFD().sync();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void write(String event, TransactionId transactionId, @Nullable String value)
+        throws IOException
+    {
+        writer.write(event);
+        writer.write(' ');
+        writer.write(transactionId.accountId.toString());
+        writer.write(' ');
+        writer.write(Long.toString(transactionId.validStart.getEpochSecond()));
+        writer.write(' ');
+        writer.write(Integer.toString(transactionId.validStart.getNano()));
+
+        if (value != null) {
+            writer.write(' ');
+            writer.write(value);
+        }
+
+        writer.write('\n');
+    }
+
+    /**
+     * Read a journal and get the keys of the accounts whose creation has no recorded outcome,
+     * in the order they were recorded.
+     *
+     * @throws IOException if the journal can't be read or a line other than the last is not
+     *                     valid; the last line is ignored if it is incomplete, as it may have
+     *                     been cut short by a crash.
+     */
+    static Map<TransactionId, Ed25519PrivateKey> readPending(Path path) throws IOException {
+        final Map<TransactionId, Ed25519PrivateKey> pending = new LinkedHashMap<>();
+
+        if (!Files.exists(path)) {
+            return pending;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line = reader.readLine();
+
+            while (line != null) {
+                lineNumber += 1;
+                final String next = reader.readLine();
+
+                try {
+                    readLine(line, pending);
+                } catch (RuntimeException e) {
+                    if (next != null) {
+                        throw new IOException("invalid provisioning journal entry on line " + lineNumber, e);
+                    }
+                }
+
+                line = next;
+            }
+        }
+
+        return pending;
+    }
+
+    private static void readLine(String line, Map<TransactionId, Ed25519PrivateKey> pending) {
+        final String[] parts = line.split(" ");
+
+        if (parts.length < 4) {
+            throw new IllegalArgumentException("too few fields");
+        }
+
+        final TransactionId transactionId = TransactionId.withValidStart(
+            AccountId.fromString(parts[1]),
+            Instant.ofEpochSecond(Long.parseLong(parts[2]), Integer.parseInt(parts[3])));
+
+        switch (parts[0]) {
+            case PENDING:
+                pending.put(transactionId, Ed25519PrivateKey.fromString(parts[4]));
+                break;
+
+            case CREATED:
+                // parsed so a line cut short by a crash isn't taken as the outcome
+                AccountId.fromString(parts[4]);
+                pending.remove(transactionId);
+                break;
+
+            case FAILED:
+                pending.remove(transactionId);
+                break;
+
+            default:
+                throw new IllegalArgumentException("unknown event " + parts[0]);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.hedera.hashgraph.sdk;
 
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.ByteString;
 import com.hedera.hashgraph.proto.AccountAmount;
+import com.hedera.hashgraph.proto.ContractCallLocalQuery;
 import com.hedera.hashgraph.proto.Query;
 import com.hedera.hashgraph.proto.QueryHeader;
 import com.hedera.hashgraph.proto.Response;
@@ -11,17 +13,16 @@ import com.hedera.hashgraph.proto.ResponseType;
 import com.hedera.hashgraph.proto.TransactionBody;
 import com.hedera.hashgraph.sdk.account.AccountId;
 import com.hedera.hashgraph.sdk.account.CryptoTransferTransaction;
-import com.hedera.hashgraph.sdk.crypto.PublicKey;
-import com.hedera.hashgraph.sdk.crypto.TransactionSigner;
+import com.hedera.hashgraph.sdk.crypto.AsyncTransactionSigner;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
-import io.grpc.Channel;
 import io.grpc.MethodDescriptor;
 
 public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extends HederaCall<Query, Response, Resp, T> {
@@ -40,12 +41,9 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
 
     protected abstract QueryHeader.Builder getHeaderBuilder();
 
+    @Internal
     @Override
-    protected Channel getChannel(Client client) {
-        return getNode(client).getChannel();
-    }
-
-    private Node getNode(Client client) {
+    protected Node getNode(Client client) {
         if (nodeId == null && getHeaderBuilder().hasPayment()) {
             TransactionBody paymentBody;
 
@@ -150,40 +148,109 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
         new CostQuery(client).executeAsync(client, withCost, onError);
     }
 
+    public CompletableFuture<Long> getCostFuture(Client client) {
+        return new CostQuery(client).executeFuture(client);
+    }
+
     private void generatePayment(Client client) {
-        if (isPaymentRequired() && !getHeaderBuilder().hasPayment()
-            && client.getOperatorId() != null && client.getOperatorSigner() != null
-            && client.getOperatorPublicKey() != null)
+        final Transaction txPayment = buildPayment(client);
+
+        if (txPayment != null) {
+            setPaymentTransaction(txPayment.signWith(
+                Objects.requireNonNull(client.getOperatorPublicKey()),
+                Objects.requireNonNull(client.getOperatorSigner())));
+        }
+    }
+
+    /**
+     * As {@link #generatePayment(Client)}, then {@code andThen}, without blocking if the
+     * operator's signer is asynchronous.
+     */
+    private void generatePaymentAsync(Client client, Runnable andThen, Consumer<HederaThrowable> onError) {
+        final AsyncTransactionSigner operatorSigner = client.getOperatorAsyncSigner();
+        final Transaction txPayment = operatorSigner != null ? buildPayment(client) : null;
+
+        if (txPayment == null) {
+            generatePayment(client);
+            andThen.run();
+            return;
+        }
+
+        txPayment.signWithAsync(Objects.requireNonNull(client.getOperatorPublicKey()), operatorSigner)
+            .whenComplete((signed, error) -> {
+                if (error != null) {
+                    onError.accept(new TransactionSignerException(error));
+                    return;
+                }
+
+                setPaymentTransaction(signed);
+                andThen.run();
+            });
+    }
+
+    /**
+     * Build, but don't sign, the payment from the operator if one is required and not set.
+     */
+    @Nullable
+    private Transaction buildPayment(Client client) {
+        final AccountId operatorId = client.getOperatorId();
+
+        if (!isPaymentRequired() || getHeaderBuilder().hasPayment()
+            || operatorId == null || client.getOperatorSigner() == null
+            || client.getOperatorPublicKey() == null)
         {
-            AccountId operatorId = client.getOperatorId();
-            AccountId nodeId = getNode(client).accountId;
-            Transaction txPayment = new CryptoTransferTransaction()
-                .setNodeAccountId(nodeId)
-                .setTransactionId(new TransactionId(operatorId))
-                .addSender(operatorId, paymentAmount)
-                .addRecipient(nodeId, paymentAmount)
-                .build(client)
-                .signWith(client.getOperatorPublicKey(), client.getOperatorSigner());
-
-            setPaymentTransaction(txPayment);
+            return null;
         }
+
+        final AccountId nodeId = getNode(client).accountId;
+
+        return new CryptoTransferTransaction()
+            .setNodeAccountId(nodeId)
+            .setTransactionId(new TransactionId(operatorId))
+            .addSender(operatorId, paymentAmount)
+            .addRecipient(nodeId, paymentAmount)
+            .build(client);
     }
 
     @Override
     public final Resp execute(Client client, Duration timeout) throws HederaStatusException, HederaNetworkException, LocalValidationException {
-        final long maxQueryPayment = client.getMaxQueryPayment();
+        final long maxQueryPayment = getMaxPayment(client);
 
-        if (!getHeaderBuilder().hasPayment() && isPaymentRequired() && maxQueryPayment > 0) {
-            if (paymentAmount == 0) {
-                final long cost = getCost(client);
-                if (cost > maxQueryPayment) {
-                    throw new MaxQueryPaymentExceededException(this, cost, maxQueryPayment);
+        if (getHeaderBuilder().hasPayment() || !isPaymentRequired() || maxQueryPayment <= 0) {
+            return super.execute(client, timeout);
+        }
+
+        if (paymentAmount != 0) {
+            generatePayment(client);
+            return super.execute(client, timeout);
+        }
+
+        final QueryCostCache costCache = client.getQueryCostCache();
+        final QueryCostCache.Key costKey = costCache.isEnabled() ? getCostCacheKey(client) : null;
+        final Long cachedCost = costKey != null ? costCache.get(costKey) : null;
+
+        if (costKey != null && cachedCost != null) {
+            payWithCost(client, cachedCost, maxQueryPayment);
+
+            try {
+                return super.execute(client, timeout);
+            } catch (HederaPrecheckStatusException e) {
+                if (e.status != Status.InsufficientTxFee) {
+                    throw e;
                 }
 
-                this.paymentAmount = cost;
+                // the cost went up since we cached it; fall through to asking again
+                costCache.invalidate(costKey);
+                clearPayment();
             }
+        }
 
-            generatePayment(client);
+        final long cost = getCost(client);
+
+        payWithCost(client, cost, maxQueryPayment);
+
+        if (costKey != null) {
+            costCache.put(costKey, cost);
         }
 
         return super.execute(client, timeout);
@@ -191,21 +258,132 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
 
     @Override
     public final void executeAsync(Client client, Duration timeout, Consumer<Resp> onSuccess, Consumer<HederaThrowable> onError) throws LocalValidationException {
-        final long maxQueryPayment = client.getMaxQueryPayment();
+        final long maxQueryPayment = getMaxPayment(client);
 
-        if (!getHeaderBuilder().hasPayment() && isPaymentRequired() && maxQueryPayment > 0) {
-            getCostAsync(client, cost -> {
-                if (cost > maxQueryPayment) {
-                    onError.accept(new MaxQueryPaymentExceededException(this, cost, maxQueryPayment));
-                    return;
-                }
-                paymentAmount = cost;
+        if (getHeaderBuilder().hasPayment() || !isPaymentRequired() || maxQueryPayment <= 0) {
+            super.executeAsync(client, timeout, onSuccess, onError);
+            return;
+        }
+
+        if (paymentAmount != 0) {
+            generatePaymentAsync(client, () -> super.executeAsync(client, timeout, onSuccess, onError), onError);
+            return;
+        }
+
+        final QueryCostCache costCache = client.getQueryCostCache();
+        final QueryCostCache.Key costKey = costCache.isEnabled() ? getCostCacheKey(client) : null;
+        final Long cachedCost = costKey != null ? costCache.get(costKey) : null;
+
+        if (costKey != null && cachedCost != null) {
+            payWithCostAsync(client, cachedCost, maxQueryPayment, () ->
+                super.executeAsync(client, timeout, onSuccess, error -> {
+                    if (error instanceof HederaPrecheckStatusException
+                        && ((HederaPrecheckStatusException) error).status == Status.InsufficientTxFee)
+                    {
+                        // the cost went up since we cached it; ask again
+                        costCache.invalidate(costKey);
+                        clearPayment();
+                        executeWithCostAsync(client, timeout, maxQueryPayment, costKey, onSuccess, onError);
+                    } else {
+                        onError.accept(error);
+                    }
+                }), onError);
+
+            return;
+        }
+
+        executeWithCostAsync(client, timeout, maxQueryPayment, costKey, onSuccess, onError);
+    }
+
+    private void executeWithCostAsync(
+        Client client,
+        Duration timeout,
+        long maxQueryPayment,
+        @Nullable QueryCostCache.Key costKey,
+        Consumer<Resp> onSuccess,
+        Consumer<HederaThrowable> onError)
+    {
+        getCostAsync(client, cost -> payWithCostAsync(client, cost, maxQueryPayment, () -> {
+            if (costKey != null) {
+                client.getQueryCostCache().put(costKey, cost);
+            }
 
-                super.executeAsync(client, timeout, onSuccess, onError);
-            }, onError);
-        } else {
             super.executeAsync(client, timeout, onSuccess, onError);
+        }, onError), onError);
+    }
+
+    private void payWithCost(Client client, long cost, long maxQueryPayment) throws MaxQueryPaymentExceededException {
+        if (cost > maxQueryPayment) {
+            throw new MaxQueryPaymentExceededException(this, cost, maxQueryPayment);
         }
+
+        paymentAmount = cost;
+        generatePayment(client);
+    }
+
+    private void payWithCostAsync(
+        Client client,
+        long cost,
+        long maxQueryPayment,
+        Runnable andThen,
+        Consumer<HederaThrowable> onError)
+    {
+        if (cost > maxQueryPayment) {
+            onError.accept(new MaxQueryPaymentExceededException(this, cost, maxQueryPayment));
+            return;
+        }
+
+        paymentAmount = cost;
+        generatePaymentAsync(client, andThen, onError);
+    }
+
+    private void clearPayment() {
+        getHeaderBuilder().clearPayment();
+        paymentTransactionId = null;
+        paymentAmount = 0;
+    }
+
+    /**
+     * Identify this query for {@link QueryCostCache}: the node it is sent to, the kind of query
+     * and those of its fields that its cost is calculated from.
+     * <p>
+     * Most queries cost the same whichever entity they are about, so the same entry serves e.g.
+     * the info of every account. A contract call is priced by its gas and parameters, and the
+     * queries priced by the size of an entity's contents or records are keyed by the entity.
+     */
+    QueryCostCache.Key getCostCacheKey(Client client) {
+        final AccountId nodeId = getNode(client).accountId;
+        final ByteString pricedFields;
+
+        switch (inner.getQueryCase()) {
+            case CONTRACTCALLLOCAL: {
+                final ContractCallLocalQuery call = inner.getContractCallLocal();
+
+                pricedFields = ContractCallLocalQuery.newBuilder()
+                    .setGas(call.getGas())
+                    .setFunctionParameters(call.getFunctionParameters())
+                    .setMaxResultSize(call.getMaxResultSize())
+                    .build()
+                    .toByteString();
+                break;
+            }
+            case CONTRACTGETBYTECODE:
+                pricedFields = inner.getContractGetBytecode().getContractID().toByteString();
+                break;
+            case CONTRACTGETRECORDS:
+                pricedFields = inner.getContractGetRecords().getContractID().toByteString();
+                break;
+            case CRYPTOGETACCOUNTRECORDS:
+                pricedFields = inner.getCryptoGetAccountRecords().getAccountID().toByteString();
+                break;
+            case FILEGETCONTENTS:
+                pricedFields = inner.getFileGetContents().getFileID().toByteString();
+                break;
+            default:
+                pricedFields = ByteString.EMPTY;
+        }
+
+        return new QueryCostCache.Key(nodeId, inner.getQueryCase(), pricedFields);
     }
 
     protected abstract void doValidate();
@@ -297,6 +475,10 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
     private final class CostQuery extends HederaCall<Query, Response, Long, CostQuery> {
         private final Client client;
 
+        // signed ahead of time when the operator's signer is asynchronous, see `executeAsync()`
+        @Nullable
+        private com.hedera.hashgraph.proto.Transaction signedFakePayment;
+
         CostQuery(Client client) {
             this.client = client;
         }
@@ -306,6 +488,31 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
             return QueryBuilder.this.getMethod();
         }
 
+        @Override
+        public void executeAsync(Client client, Duration retryTimeout, Consumer<Long> onSuccess, Consumer<HederaThrowable> onError) {
+            final AsyncTransactionSigner operatorSigner = client.getOperatorAsyncSigner();
+
+            if (operatorSigner == null || signedFakePayment != null) {
+                super.executeAsync(client, retryTimeout, onSuccess, onError);
+                return;
+            }
+
+            // sign once up front rather than blocking in `toProto()` on every attempt
+            getNode(client);
+
+            buildFakePayment()
+                .signWithAsync(Objects.requireNonNull(client.getOperatorPublicKey()), operatorSigner)
+                .whenComplete((signed, error) -> {
+                    if (error != null) {
+                        onError.accept(new TransactionSignerException(error));
+                        return;
+                    }
+
+                    signedFakePayment = signed.toProto();
+                    super.executeAsync(client, retryTimeout, onSuccess, onError);
+                });
+        }
+
         @Override
         public Query toProto() {
             final QueryHeader.Builder header = getHeaderBuilder();
@@ -313,21 +520,12 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
             final com.hedera.hashgraph.proto.Transaction origPayment = header.hasPayment() ? header.getPayment() : null;
             final ResponseType origResponseType = header.getResponseType();
 
-            final AccountId operatorId = Objects.requireNonNull(
-                client.getOperatorId(),
-                "COST_ANSWER requires an operator ID to be set");
-
-            final PublicKey operatorPublicKey = Objects.requireNonNull(client.getOperatorPublicKey());
-
-            final TransactionSigner operatorSigner = Objects.requireNonNull(client.getOperatorSigner());
-
-            // COST_ANSWER requires a payment to pass validation but doesn't actually process it
-            final com.hedera.hashgraph.proto.Transaction fakePayment = new CryptoTransferTransaction()
-                .addRecipient(Objects.requireNonNull(nodeId), 0)
-                .addSender(operatorId, 0)
-                .build(client)
-                .signWith(operatorPublicKey, operatorSigner)
-                .toProto();
+            final com.hedera.hashgraph.proto.Transaction fakePayment = signedFakePayment != null
+                ? signedFakePayment
+                : buildFakePayment()
+                    .signWith(Objects.requireNonNull(client.getOperatorPublicKey()),
+                        Objects.requireNonNull(client.getOperatorSigner()))
+                    .toProto();
 
             // set our fake values, build and then reset
             header.setPayment(fakePayment);
@@ -346,9 +544,22 @@ public abstract class QueryBuilder<Resp, T extends QueryBuilder<Resp, T>> extend
             return built;
         }
 
+        private Transaction buildFakePayment() {
+            final AccountId operatorId = Objects.requireNonNull(
+                client.getOperatorId(),
+                "COST_ANSWER requires an operator ID to be set");
+
+            // COST_ANSWER requires a payment to pass validation but doesn't actually process it
+            return new CryptoTransferTransaction()
+                .addRecipient(Objects.requireNonNull(nodeId), 0)
+                .addSender(operatorId, 0)
+                .build(client);
+        }
+
+        @Internal
         @Override
-        protected Channel getChannel(Client client) {
-            return QueryBuilder.this.getChannel(client);
+        protected Node getNode(Client client) {
+            return QueryBuilder.this.getNode(client);
         }
 
         @Override
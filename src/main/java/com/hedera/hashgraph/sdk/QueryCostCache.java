@@ -0,0 +1,115 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.proto.Query;
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+/**
+ * Remembers the costs returned by {@code COST_ANSWER} queries so paid queries can skip that round
+ * trip, as configured by {@link Client#setQueryCostCacheTtl(Duration)}.
+ * <p>
+ * Costs are cached per node, per kind of query and per value of the query's fields that its cost
+ * is calculated from, such as the gas and parameters of a contract call (see
+ * {@link QueryBuilder#getCostCacheKey(Client)}). Costs can still change with state on the network,
+ * like the size of a file, so entries expire after the TTL and are dropped as soon as a node
+ * rejects a payment based on them.
+ */
+final class QueryCostCache {
+    // bounds memory for callers that never repeat a query
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final BoundedCache<Key, Entry> entries = new BoundedCache<>(MAX_ENTRIES);
+
+    // zero disables the cache
+    private volatile long ttlNanos = 0;
+
+    void setTtl(Duration ttl) {
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be negative");
+        }
+
+        ttlNanos = ttl.toNanos();
+
+        if (ttlNanos == 0) {
+            entries.clear();
+        }
+    }
+
+    boolean isEnabled() {
+        return ttlNanos > 0;
+    }
+
+    @Nullable
+    Long get(Key key) {
+        final Entry entry = entries.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (System.nanoTime() - entry.expiresAt >= 0) {
+            entries.remove(key, entry);
+            return null;
+        }
+
+        return entry.cost;
+    }
+
+    void put(Key key, long cost) {
+        final long ttlNanos = this.ttlNanos;
+
+        if (ttlNanos == 0) {
+            return;
+        }
+
+        entries.put(key, new Entry(cost, System.nanoTime() + ttlNanos));
+    }
+
+    void invalidate(Key key) {
+        entries.remove(key);
+    }
+
+    static final class Key {
+        private final AccountId nodeId;
+        private final Query.QueryCase queryCase;
+        private final ByteString pricedFields;
+
+        Key(AccountId nodeId, Query.QueryCase queryCase, ByteString pricedFields) {
+            this.nodeId = nodeId;
+            this.queryCase = queryCase;
+            this.pricedFields = pricedFields;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+
+            if (other == null || getClass() != other.getClass()) return false;
+
+            final Key otherKey = (Key) other;
+            return nodeId.equals(otherKey.nodeId)
+                && queryCase == otherKey.queryCase
+                && pricedFields.equals(otherKey.pricedFields);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(nodeId, queryCase, pricedFields);
+        }
+    }
+
+    private static final class Entry {
+        private final long cost;
+        private final long expiresAt;
+
+        private Entry(long cost, long expiresAt) {
+            this.cost = cost;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
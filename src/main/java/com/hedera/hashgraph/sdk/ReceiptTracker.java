@@ -0,0 +1,311 @@
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import io.grpc.StatusRuntimeException;
+
+/**
+ * Waits for the receipts of many transactions at once.
+ * <p>
+ * {@link TransactionId#getReceipt(Client)} and friends poll for a single receipt with their own
+ * backoff, so with thousands of transactions in flight the nodes receive thousands of
+ * independent polling loops. A tracker instead keeps every pending transaction in one queue
+ * ordered by when it should next be polled, and a single timer on the client's
+ * {@link Client#setRetryScheduler(java.util.concurrent.ScheduledExecutorService) retry scheduler}
+ * sends the polls that are due, at most {@link #setMaxConcurrentPolls(int)} at a time. Each poll
+ * goes to the node chosen by the client's {@link NodeSelector}.
+ * <p>
+ * The tracker learns how long transactions take to reach consensus (a moving average and
+ * deviation, as TCP does for round-trip times) and schedules the first poll for each transaction
+ * at the expected time, so most receipts are fetched with a single query. If the receipt is not
+ * ready yet, polls follow at intervals derived from the deviation.
+ * <p>
+ * Receipts are delivered on a gRPC or scheduler thread. A tracker is thread-safe and is meant to
+ * be shared for the lifetime of its client.
+ */
+public final class ReceiptTracker {
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private static final long MIN_POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final long MAX_POLL_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    // the receipt lives for 3 minutes after consensus; see `TransactionReceiptQuery`
+    private static final Duration DEFAULT_TIMEOUT = Transaction.MAX_VALID_DURATION.plus(Duration.ofMinutes(3));
+
+    private final Client client;
+
+    private final LatencyEstimate latency;
+
+    // all guarded by `queue`
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>((a, b) -> Long.compare(a.dueAt - b.dueAt, 0));
+    @Nullable
+    private ScheduledFuture<?> ticker;
+    private int inFlight = 0;
+
+    private volatile int maxConcurrentPolls = 128;
+
+    public ReceiptTracker(Client client) {
+        this(client, Duration.ofSeconds(4));
+    }
+
+    // for tests, which can't wait for real consensus times
+    ReceiptTracker(Client client, Duration initialLatency) {
+        this.client = client;
+        this.latency = new LatencyEstimate(initialLatency.toNanos(), initialLatency.toNanos() / 4);
+    }
+
+    /**
+     * Set the maximum number of receipt queries this tracker has in flight at once. Polls that
+     * are due while at the limit are sent as earlier ones complete.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public ReceiptTracker setMaxConcurrentPolls(int maxConcurrentPolls) {
+        if (maxConcurrentPolls < 1) {
+            throw new IllegalArgumentException("maxConcurrentPolls must be >= 1");
+        }
+
+        this.maxConcurrentPolls = maxConcurrentPolls;
+        return this;
+    }
+
+    /**
+     * Wait for the receipt of a transaction that was just executed.
+     *
+     * @see #track(TransactionId, Duration)
+     */
+    public CompletableFuture<TransactionReceipt> track(TransactionId transactionId) {
+        return track(transactionId, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Wait for the receipt of a transaction that was just executed, giving up after
+     * {@code timeout}.
+     * <p>
+     * The time of this call is taken as the time the transaction was submitted, so it should be
+     * made right after the transaction was executed.
+     *
+     * @return a future completed with the receipt, or exceptionally with a
+     * {@link HederaReceiptStatusException} if the receipt has a failing status, or with the last
+     * error seen if the timeout elapsed.
+     */
+    public CompletableFuture<TransactionReceipt> track(TransactionId transactionId, Duration timeout) {
+        final CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+
+        track(transactionId, timeout, future::complete,
+            error -> future.completeExceptionally((Throwable) error));
+
+        return future;
+    }
+
+    /**
+     * Wait for the receipt of a transaction that was just executed, calling back with the
+     * outcome.
+     *
+     * @see #track(TransactionId, Duration)
+     */
+    public void track(
+        TransactionId transactionId,
+        Duration timeout,
+        Consumer<TransactionReceipt> onReceipt,
+        Consumer<HederaThrowable> onError)
+    {
+        final long now = System.nanoTime();
+        final Entry entry = new Entry(transactionId, now, now + timeout.toNanos(), onReceipt, onError);
+
+        schedule(entry, now + latency.getFirstPollDelay());
+    }
+
+    /**
+     * Get the current estimate of the time between submitting a transaction and its receipt
+     * being available.
+     */
+    public Duration getEstimatedLatency() {
+        return Duration.ofNanos(latency.getFirstPollDelay());
+    }
+
+    /**
+     * Get the number of transactions which are waiting for their receipt.
+     */
+    public int getPendingCount() {
+        synchronized (queue) {
+            return queue.size() + inFlight;
+        }
+    }
+
+    private void schedule(Entry entry, long dueAt) {
+        // always poll once more at the deadline rather than giving up early
+        entry.dueAt = dueAt - entry.deadline > 0 ? entry.deadline : dueAt;
+
+        synchronized (queue) {
+            queue.add(entry);
+
+            if (ticker == null) {
+                ticker = client.getRetryScheduler().scheduleAtFixedRate(
+                    this::tick, TICK_NANOS, TICK_NANOS, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void tick() {
+        final List<Entry> due = new ArrayList<>();
+
+        synchronized (queue) {
+            final long now = System.nanoTime();
+            final int maxConcurrentPolls = this.maxConcurrentPolls;
+
+            while (inFlight < maxConcurrentPolls) {
+                final Entry head = queue.peek();
+
+                if (head == null || head.dueAt - now > 0) {
+                    break;
+                }
+
+                queue.poll();
+                inFlight += 1;
+                due.add(head);
+            }
+
+            if (queue.isEmpty() && ticker != null) {
+                // polls still in flight will restart the timer if they need to
+                ticker.cancel(false);
+                ticker = null;
+            }
+        }
+
+        for (final Entry entry : due) {
+            poll(entry);
+        }
+    }
+
+    private void poll(Entry entry) {
+        final TransactionReceiptQuery query = new TransactionReceiptQuery()
+            .setTransactionId(entry.transactionId);
+
+        entry.sentAt = System.nanoTime();
+
+        try {
+            // a zero timeout means a single attempt; this tracker does the retrying
+            query.executeAsync(client, Duration.ZERO,
+                receipt -> onReceipt(entry, receipt),
+                error -> onPollError(entry, query, error));
+        } catch (RuntimeException e) {
+            // an exception here would cancel the timer, so fail only this transaction
+            onPollError(entry, query, new HederaNetworkException(new StatusRuntimeException(
+                io.grpc.Status.INTERNAL.withDescription("failed to send receipt query").withCause(e))));
+        }
+    }
+
+    private void onReceipt(Entry entry, TransactionReceipt receipt) {
+        synchronized (queue) {
+            inFlight -= 1;
+        }
+
+        latency.record(entry.consensusLatency());
+        entry.onReceipt.accept(receipt);
+    }
+
+    private void onPollError(Entry entry, TransactionReceiptQuery query, HederaThrowable error) {
+        synchronized (queue) {
+            inFlight -= 1;
+        }
+
+        final long now = System.nanoTime();
+        final boolean pending = query.shouldRetry(error);
+
+        if (!pending && !client.getRetryPolicy().isRetryable(error)) {
+            if (error instanceof HederaReceiptStatusException) {
+                // a failing receipt still means the transaction reached consensus
+                latency.record(entry.consensusLatency());
+            }
+
+            entry.onError.accept(error);
+            return;
+        }
+
+        if (now - entry.deadline >= 0) {
+            entry.onError.accept(error);
+            return;
+        }
+
+        if (pending) {
+            entry.lastMissSentAt = entry.sentAt;
+        }
+
+        entry.misses += 1;
+        schedule(entry, now + latency.getPollInterval(entry.misses));
+    }
+
+    private static final class Entry {
+        private final TransactionId transactionId;
+        private final long trackedAt;
+        private final long deadline;
+
+        private final Consumer<TransactionReceipt> onReceipt;
+        private final Consumer<HederaThrowable> onError;
+
+        // only touched by the thread currently scheduling or polling this entry
+        private long dueAt;
+        private long sentAt;
+        private long lastMissSentAt;
+        private int misses = 0;
+
+        private Entry(
+            TransactionId transactionId,
+            long trackedAt,
+            long deadline,
+            Consumer<TransactionReceipt> onReceipt,
+            Consumer<HederaThrowable> onError)
+        {
+            this.transactionId = transactionId;
+            this.trackedAt = trackedAt;
+            this.deadline = deadline;
+            this.onReceipt = onReceipt;
+            this.onError = onError;
+            this.lastMissSentAt = trackedAt;
+        }
+
+        /**
+         * The receipt became available some time after the last poll that found it missing and
+         * before the poll that found it; the midpoint is our best guess.
+         */
+        private long consensusLatency() {
+            return (lastMissSentAt - trackedAt) + (sentAt - lastMissSentAt) / 2;
+        }
+    }
+
+    static final class LatencyEstimate {
+        private double mean;
+        private double deviation;
+
+        LatencyEstimate(long initialMean, long initialDeviation) {
+            this.mean = initialMean;
+            this.deviation = initialDeviation;
+        }
+
+        synchronized void record(long sample) {
+            // same gains as TCP's RTT estimator (RFC 6298)
+            deviation += 0.25 * (Math.abs(sample - mean) - deviation);
+            mean += 0.125 * (sample - mean);
+        }
+
+        synchronized long getFirstPollDelay() {
+            return Math.max(MIN_POLL_INTERVAL_NANOS, (long) mean);
+        }
+
+        synchronized long getPollInterval(int misses) {
+            final long base = Math.max(MIN_POLL_INTERVAL_NANOS, (long) deviation);
+
+            return Math.min(MAX_POLL_INTERVAL_NANOS, base << Math.min(misses - 1, 5));
+        }
+    }
+}
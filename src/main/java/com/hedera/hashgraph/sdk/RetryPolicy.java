@@ -0,0 +1,58 @@
+package com.hedera.hashgraph.sdk;
+
+import java.time.Duration;
+
+/**
+ * Strategy used by {@link Client} to decide whether and when a failed transaction or query is
+ * sent again.
+ * <p>
+ * This only covers transient failures of the network or a node. Calls which are polling for a
+ * result that is not ready yet (e.g. a {@link TransactionReceiptQuery} while the transaction has
+ * not reached consensus) are always retried until their timeout, using
+ * {@link #getRetryDelay(int)} between attempts but without counting against
+ * {@link #getMaxAttempts()} or {@link #tryAcquireRetry()}.
+ * <p>
+ * Implementations are shared by every call made with the client and must be thread-safe.
+ *
+ * @see Client#setRetryPolicy(RetryPolicy)
+ * @see DefaultRetryPolicy
+ */
+public interface RetryPolicy {
+    /**
+     * Check if a call that failed with the given error may succeed if sent again.
+     *
+     * @param error the error, one of the types documented on {@link HederaThrowable}.
+     */
+    boolean isRetryable(HederaThrowable error);
+
+    /**
+     * Get the maximum number of times a call is attempted, including the first attempt.
+     * <p>
+     * A call is also never retried past the timeout it was executed with.
+     */
+    int getMaxAttempts();
+
+    /**
+     * Get the time to wait before the given retry.
+     *
+     * @param retry the number of the retry, starting at 1 for the second attempt.
+     */
+    Duration getRetryDelay(int retry);
+
+    /**
+     * Called once a retryable failure has otherwise been cleared for a retry; returning
+     * {@code false} fails the call instead.
+     * <p>
+     * This lets the policy limit retries across all calls (a retry budget) so that retries do
+     * not multiply the load on a network that is already congested.
+     */
+    default boolean tryAcquireRetry() {
+        return true;
+    }
+
+    /**
+     * Called whenever a node answers a call successfully.
+     */
+    default void onSuccess() {
+    }
+}
@@ -0,0 +1,137 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.crypto.AsyncTransactionSigner;
+import com.hedera.hashgraph.sdk.crypto.BatchTransactionSigner;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+/**
+ * Gathers single signing requests into batches for a {@link BatchTransactionSigner}.
+ * <p>
+ * There is no timer: a request is sent on its own if no batch is being signed, and otherwise
+ * waits for the batch in flight to complete and goes out with every other request that arrived
+ * meanwhile. Under light load this adds no latency, and under heavy load the batches grow to
+ * match, up to {@link #MAX_BATCH_SIZE}; a full batch is sent straight away.
+ */
+final class SignatureBatcher implements AsyncTransactionSigner {
+    static final int MAX_BATCH_SIZE = 256;
+
+    private final BatchTransactionSigner signer;
+
+    // both guarded by `this`
+    private final ArrayDeque<Request> waiting = new ArrayDeque<>();
+    private int inFlight = 0;
+
+    SignatureBatcher(BatchTransactionSigner signer) {
+        this.signer = signer;
+    }
+
+    @Override
+    public CompletionStage<byte[]> signTransactionAsync(ByteBuffer transactionBytes) {
+        final Request request = new Request(transactionBytes);
+        final List<Request> batch;
+
+        synchronized (this) {
+            waiting.add(request);
+            batch = takeBatch();
+        }
+
+        if (batch != null) {
+            send(batch);
+        }
+
+        return request.signature;
+    }
+
+    @Nullable
+    private List<Request> takeBatch() {
+        if (waiting.isEmpty() || (inFlight > 0 && waiting.size() < MAX_BATCH_SIZE)) {
+            return null;
+        }
+
+        final List<Request> batch = new ArrayList<>(Math.min(waiting.size(), MAX_BATCH_SIZE));
+
+        while (!waiting.isEmpty() && batch.size() < MAX_BATCH_SIZE) {
+            batch.add(waiting.poll());
+        }
+
+        inFlight += 1;
+        return batch;
+    }
+
+    private void send(List<Request> batch) {
+        final List<ByteBuffer> bodies = new ArrayList<>(batch.size());
+
+        for (final Request request : batch) {
+            bodies.add(request.body);
+        }
+
+        CompletionStage<List<byte[]>> signatures;
+
+        try {
+            signatures = signer.signTransactions(bodies);
+        } catch (RuntimeException e) {
+            final CompletableFuture<List<byte[]>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            signatures = failed;
+        }
+
+        signatures.whenComplete((signed, error) -> {
+            try {
+                complete(batch, signed, error);
+            } finally {
+                final List<Request> next;
+
+                synchronized (this) {
+                    inFlight -= 1;
+                    next = takeBatch();
+                }
+
+                if (next != null) {
+                    send(next);
+                }
+            }
+        });
+    }
+
+    private static void complete(List<Request> batch, @Nullable List<byte[]> signed, @Nullable Throwable error) {
+        if (error != null) {
+            fail(batch, error);
+            return;
+        }
+
+        if (signed == null || signed.size() != batch.size()) {
+            fail(batch, new IllegalStateException("signer returned "
+                + (signed == null ? "no" : String.valueOf(signed.size()))
+                + " signatures for " + batch.size() + " transactions"));
+
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).signature.complete(signed.get(i));
+        }
+    }
+
+    private static void fail(List<Request> batch, Throwable error) {
+        for (final Request request : batch) {
+            request.signature.completeExceptionally(error);
+        }
+    }
+
+    private static final class Request {
+        private final ByteBuffer body;
+        private final CompletableFuture<byte[]> signature = new CompletableFuture<>();
+
+        private Request(ByteBuffer body) {
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.SignaturePair;
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PublicKey;
+
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of checking the signatures of a transaction locally with
+ * {@link Transaction#verifySignatures()}, e.g. to reject a transaction signed elsewhere before
+ * paying for a round trip to the network to find out its signatures are bad.
+ * <p>
+ * Checking a signature needs the whole public key. Ed25519 signatures added by this SDK carry the
+ * whole key as their prefix; a signature with a shorter prefix, or of another kind, can't be
+ * checked without knowing which keys the network will require, and is counted as unverified.
+ * <p>
+ * Verification doesn't check that the signatures satisfy the keys the transaction needs, only
+ * that each signature is valid for its key.
+ */
+public final class SignatureVerification {
+    static final byte VALID = 0;
+    static final byte INVALID = 1;
+    static final byte UNVERIFIED = 2;
+
+    /**
+     * The ID of the transaction that was checked.
+     */
+    public final TransactionId transactionId;
+
+    private final int signatureCount;
+    private final List<Ed25519PublicKey> invalidKeys;
+    private final int unverifiedCount;
+
+    SignatureVerification(
+        TransactionId transactionId,
+        int signatureCount,
+        List<Ed25519PublicKey> invalidKeys,
+        int unverifiedCount)
+    {
+        this.transactionId = transactionId;
+        this.signatureCount = signatureCount;
+        this.invalidKeys = Collections.unmodifiableList(invalidKeys);
+        this.unverifiedCount = unverifiedCount;
+    }
+
+    /**
+     * Check if the transaction has at least one signature and every signature was checked and is
+     * valid.
+     */
+    public boolean isValid() {
+        return signatureCount > 0 && invalidKeys.isEmpty() && unverifiedCount == 0;
+    }
+
+    /**
+     * Get the number of signatures on the transaction.
+     */
+    public int getSignatureCount() {
+        return signatureCount;
+    }
+
+    /**
+     * Get the keys whose signatures are not valid, in the order they appear in the transaction.
+     */
+    public List<Ed25519PublicKey> getInvalidKeys() {
+        return invalidKeys;
+    }
+
+    /**
+     * Get the number of signatures which could not be checked.
+     */
+    public int getUnverifiedCount() {
+        return unverifiedCount;
+    }
+
+    /**
+     * Check one signature of a transaction body.
+     *
+     * @return {@link #VALID}, {@link #INVALID} or {@link #UNVERIFIED}.
+     */
+    static byte verify(SignaturePair pair, byte[] body) {
+        if (pair.getSignatureCase() != SignaturePair.SignatureCase.ED25519
+            || pair.getPubKeyPrefix().size() != Ed25519.PUBLIC_KEY_SIZE)
+        {
+            return UNVERIFIED;
+        }
+
+        if (pair.getEd25519().size() != Ed25519.SIGNATURE_SIZE) {
+            return INVALID;
+        }
+
+        // also false if the key isn't a valid point
+        return Ed25519.verify(
+            pair.getEd25519().toByteArray(), 0,
+            pair.getPubKeyPrefix().toByteArray(), 0,
+            body, 0, body.length) ? VALID : INVALID;
+    }
+
+    @Override
+    public String toString() {
+        return "SignatureVerification{"
+            + "transactionId=" + transactionId
+            + ", signatureCount=" + signatureCount
+            + ", invalidKeys=" + invalidKeys
+            + ", unverifiedCount=" + unverifiedCount
+            + "}";
+    }
+}
@@ -1,11 +1,12 @@
 package com.hedera.hashgraph.sdk;
 
 import java.time.Duration;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
-final class ThreadUtil {
+@Internal
+public final class ThreadUtil {
     private ThreadUtil() { }
 
     static void sleepDuration(Duration duration) {
@@ -16,11 +17,39 @@ final class ThreadUtil {
         }
     }
 
-    static void schedule(Runnable runnable, Duration delay) {
-        scheduledExecutor.schedule(runnable, delay.toMillis(), TimeUnit.MILLISECONDS);
+    /**
+     * Get the scheduler shared by everything in the SDK that needs to wait without blocking a
+     * thread, e.g. before retrying a call or reconnecting a subscription, unless configured with
+     * another one. Its threads are daemons and are only started on first use.
+     */
+    public static ScheduledExecutorService getDefaultScheduler() {
+        return DefaultScheduler.INSTANCE;
     }
 
-    // we need a background thread to execute timeouts
-    private static final ScheduledExecutorService scheduledExecutor =
-        Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "hedera-async-executor"));
+    // initialized on first use so clients with their own scheduler never start these threads
+    private static final class DefaultScheduler {
+        private static final AtomicInteger threadCount = new AtomicInteger();
+
+        // we need background threads to execute timeouts; only the retry itself runs on these
+        // (the call is then sent asynchronously) so they are never blocked for long, and one
+        // thread per core keeps a retry storm from queueing every retry in the process behind
+        // a single thread
+        private static final ScheduledExecutorService INSTANCE = createScheduler();
+
+        private static ScheduledExecutorService createScheduler() {
+            final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                Math.max(2, Runtime.getRuntime().availableProcessors()),
+                r -> {
+                    final Thread thread = new Thread(r,
+                        "hedera-async-executor-" + threadCount.incrementAndGet());
+
+                    // don't keep the JVM alive just for pending retries
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
 }
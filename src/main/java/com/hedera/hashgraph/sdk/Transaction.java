@@ -6,7 +6,6 @@ import com.hedera.hashgraph.proto.ConsensusServiceGrpc;
 import com.hedera.hashgraph.proto.CryptoServiceGrpc;
 import com.hedera.hashgraph.proto.FileServiceGrpc;
 import com.hedera.hashgraph.proto.FreezeServiceGrpc;
-import com.hedera.hashgraph.proto.SignatureMap;
 import com.hedera.hashgraph.proto.SignatureMapOrBuilder;
 import com.hedera.hashgraph.proto.SignaturePair;
 import com.hedera.hashgraph.proto.SignaturePairOrBuilder;
@@ -15,6 +14,7 @@ import com.hedera.hashgraph.proto.TransactionBody;
 import com.hedera.hashgraph.proto.TransactionBodyOrBuilder;
 import com.hedera.hashgraph.proto.TransactionResponse;
 import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.crypto.AsyncTransactionSigner;
 import com.hedera.hashgraph.sdk.crypto.PrivateKey;
 import com.hedera.hashgraph.sdk.crypto.PublicKey;
 import com.hedera.hashgraph.sdk.crypto.TransactionSigner;
@@ -23,11 +23,22 @@ import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PublicKey;
 import org.bouncycastle.util.encoders.Hex;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
 
-import io.grpc.Channel;
 import io.grpc.MethodDescriptor;
 
 public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Transaction, TransactionResponse, TransactionId, Transaction> {
@@ -44,6 +55,17 @@ public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Tra
 
     private static final int PREFIX_LEN = 6;
 
+    // below this many signatures, verifying them on one thread is faster than splitting them up
+    private static final int VERIFY_PARALLEL_THRESHOLD = 16;
+
+    // lazily built index of the key prefixes in the signature map, see `isSignedBy()`
+    @Nullable
+    private Set<ByteString> signedPrefixes;
+    private final BitSet prefixLengths = new BitSet();
+
+    @Nullable
+    private byte[] bodyBytes;
+
     public final TransactionId id;
 
     Transaction(
@@ -67,7 +89,10 @@ public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Tra
     }
 
     public Transaction sign(PrivateKey<? extends PublicKey> privateKey) {
-        return signWith(privateKey.publicKey, privateKey::sign);
+        requireNotSignedBy(privateKey.publicKey);
+
+        // our own keys neither modify nor keep the message so they can all share one copy
+        return putSignature(privateKey.publicKey, privateKey.sign(getBodyBytes()));
     }
 
     /**
@@ -80,22 +105,97 @@ public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Tra
      * @see TransactionSigner
      */
     public Transaction signWith(PublicKey publicKey, TransactionSigner signer) {
-        SignatureMap.Builder sigMap = inner.getSigMapBuilder();
+        requireNotSignedBy(publicKey);
 
-        for (SignaturePair sigPair : sigMap.getSigPairList()) {
-            ByteString pubKeyPrefix = sigPair.getPubKeyPrefix();
+        return putSignature(publicKey,
+            signer.signTransaction(inner.getBodyBytes().asReadOnlyByteBuffer()));
+    }
 
-            if (publicKey.hasPrefix(pubKeyPrefix)) {
-                throw new IllegalArgumentException(
-                    "transaction already signed with key: " + publicKey.toString());
-            }
+    /**
+     * Sign the transaction with several callbacks at once, each called on the executor, e.g. to
+     * wait for signatures from more than one HSM or user concurrently.
+     * <p>
+     * The signatures are added in the iteration order of {@code signers} once they have all been
+     * produced; the transaction must not be modified until the returned future completes.
+     *
+     * @param signers  the signer for each public key; see {@link #signWith(PublicKey, TransactionSigner)}.
+     * @param executor the executor to call the signers on.
+     * @return a future completed with {@code this} once every signature has been added, or
+     * exceptionally with the first exception thrown by a signer, in which case none are added.
+     * @throws IllegalArgumentException if the transaction is already signed by one of the keys.
+     * @see com.hedera.hashgraph.sdk.crypto.SigningPlanner
+     */
+    public CompletableFuture<Transaction> signWithAsync(
+        Map<? extends PublicKey, ? extends TransactionSigner> signers,
+        Executor executor)
+    {
+        final List<PublicKey> publicKeys = new ArrayList<>(signers.size());
+        final List<CompletableFuture<byte[]>> signatures = new ArrayList<>(signers.size());
+        final ByteString body = inner.getBodyBytes();
+
+        for (final Map.Entry<? extends PublicKey, ? extends TransactionSigner> entry : signers.entrySet()) {
+            requireNotSignedBy(entry.getKey());
+            publicKeys.add(entry.getKey());
         }
 
-        ByteString signatureBytes = ByteString.copyFrom(
-            signer.signTransaction(inner.getBodyBytes().toByteArray()));
+        for (final TransactionSigner signer : signers.values()) {
+            signatures.add(CompletableFuture.supplyAsync(
+                () -> signer.signTransaction(body.asReadOnlyByteBuffer()), executor));
+        }
+
+        return CompletableFuture.allOf(signatures.toArray(new CompletableFuture<?>[0]))
+            .thenApply(done -> {
+                for (int i = 0; i < publicKeys.size(); i++) {
+                    putSignature(publicKeys.get(i), signatures.get(i).join());
+                }
+
+                return this;
+            });
+    }
+
+    /**
+     * Sign the transaction with a signer which returns its signature asynchronously, e.g. a
+     * remote signing service, without blocking.
+     * <p>
+     * The transaction must not be modified until the returned future completes.
+     *
+     * @param publicKey the public key that pairs with the signature.
+     *                  Currently only {@link Ed25519PublicKey} is allowed.
+     * @param signer    the signer.
+     * @return a future completed with {@code this} once the signature has been added, or
+     * exceptionally as the signer's stage does.
+     * @throws IllegalArgumentException if the transaction is already signed by the key.
+     */
+    public CompletableFuture<Transaction> signWithAsync(PublicKey publicKey, AsyncTransactionSigner signer) {
+        requireNotSignedBy(publicKey);
+
+        return signer.signTransactionAsync(inner.getBodyBytes().asReadOnlyByteBuffer())
+            .toCompletableFuture()
+            .thenApply(signature -> putSignature(publicKey, signature));
+    }
+
+    /**
+     * Add a signature of the transaction body produced elsewhere, e.g. by a signer which
+     * returns its signature asynchronously.
+     *
+     * @param publicKey the public key that pairs with the signature.
+     *                  Currently only {@link Ed25519PublicKey} is allowed.
+     * @param signature the signature of the bytes of the transaction body.
+     * @return {@code this} for fluent usage.
+     * @throws IllegalArgumentException if the transaction is already signed by the key.
+     */
+    public Transaction addSignature(PublicKey publicKey, byte[] signature) {
+        requireNotSignedBy(publicKey);
+
+        return putSignature(publicKey, signature);
+    }
+
+    private Transaction putSignature(PublicKey publicKey, byte[] signature) {
+        ByteString signatureBytes = ByteString.copyFrom(signature);
+        ByteString publicKeyBytes = publicKey.toByteString();
 
         SignaturePair.Builder sigPairBuilder = SignaturePair.newBuilder()
-            .setPubKeyPrefix(ByteString.copyFrom(publicKey.toBytes()));
+            .setPubKeyPrefix(publicKeyBytes);
 
         switch (publicKey.getSignatureCase()) {
             case CONTRACT:
@@ -113,37 +213,231 @@ public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Tra
                 throw new IllegalStateException("PublicKey.getSignatureCase() returned SIGNATURE_NOT_SET");
         }
 
-        sigMap.addSigPair(sigPairBuilder);
+        inner.getSigMapBuilder().addSigPair(sigPairBuilder);
+        indexPrefix(publicKeyBytes);
 
         return this;
     }
 
+    private void requireNotSignedBy(PublicKey publicKey) {
+        if (isSignedBy(publicKey)) {
+            throw new IllegalArgumentException(
+                "transaction already signed with key: " + publicKey.toString());
+        }
+    }
+
+    /**
+     * Check if the signature map has a pair whose prefix matches {@code publicKey}.
+     * <p>
+     * Instead of testing the key against every pair, the prefixes are kept in a hash set along
+     * with the distinct prefix lengths (in practice there is one: the full key), so each length
+     * takes a single lookup.
+     */
+    private boolean isSignedBy(PublicKey publicKey) {
+        if (!(publicKey instanceof Ed25519PublicKey)) {
+            // other keys don't implement `hasPrefix()` the same way; keep to its answer
+            for (SignaturePairOrBuilder sigPair : inner.getSigMapOrBuilder().getSigPairOrBuilderList()) {
+                if (publicKey.hasPrefix(sigPair.getPubKeyPrefix())) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        final Set<ByteString> prefixes = getSignedPrefixes();
+        final ByteString keyBytes = publicKey.toByteString();
+
+        for (int len = prefixLengths.nextSetBit(0); len >= 0 && len <= keyBytes.size(); len = prefixLengths.nextSetBit(len + 1)) {
+            // `substring()` shares the bytes instead of copying them
+            if (prefixes.contains(keyBytes.substring(0, len))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private Set<ByteString> getSignedPrefixes() {
+        Set<ByteString> prefixes = signedPrefixes;
+
+        if (prefixes == null) {
+            prefixes = signedPrefixes = new HashSet<>();
+
+            for (SignaturePairOrBuilder sigPair : inner.getSigMapOrBuilder().getSigPairOrBuilderList()) {
+                indexPrefix(sigPair.getPubKeyPrefix());
+            }
+        }
+
+        return prefixes;
+    }
+
+    private void indexPrefix(ByteString prefix) {
+        if (signedPrefixes != null) {
+            signedPrefixes.add(prefix);
+            prefixLengths.set(prefix.size());
+        }
+    }
+
+    private byte[] getBodyBytes() {
+        byte[] bodyBytes = this.bodyBytes;
+
+        if (bodyBytes == null) {
+            // the body never changes once built so one copy serves every signature
+            bodyBytes = this.bodyBytes = inner.getBodyBytes().toByteArray();
+        }
+
+        return bodyBytes;
+    }
+
+    /**
+     * Check every signature of the transaction against its body locally.
+     *
+     * @see SignatureVerification
+     */
+    public SignatureVerification verifySignatures() {
+        return verifySignatures(Collections.singletonList(this)).get(0);
+    }
+
+    /**
+     * Check every signature of many transactions at once, e.g. those received from clients
+     * before forwarding them to the network.
+     * <p>
+     * Given enough signatures, they are checked in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}, all at once rather than one transaction at a
+     * time, so a few transactions with many signatures spread as well as many with one. The
+     * transactions must not be modified until this returns.
+     *
+     * @return the result for each transaction, in the same order.
+     * @see SignatureVerification
+     */
+    public static List<SignatureVerification> verifySignatures(List<Transaction> transactions) {
+        final int[] offsets = new int[transactions.size() + 1];
+        final byte[][] bodies = new byte[transactions.size()][];
+        final List<List<SignaturePair>> pairs = new ArrayList<>(transactions.size());
+
+        // read everything the checks need up front, as reading from a builder isn't thread-safe
+        for (int i = 0; i < transactions.size(); i++) {
+            final Transaction transaction = transactions.get(i);
+
+            bodies[i] = transaction.getBodyBytes();
+            pairs.add(transaction.inner.getSigMap().getSigPairList());
+            offsets[i + 1] = offsets[i] + pairs.get(i).size();
+        }
+
+        final int total = offsets[transactions.size()];
+        final int[] owners = new int[total];
+
+        for (int i = 0; i < transactions.size(); i++) {
+            Arrays.fill(owners, offsets[i], offsets[i + 1], i);
+        }
+
+        final byte[] outcomes = new byte[total];
+        final IntStream range = IntStream.range(0, total);
+
+        (total >= VERIFY_PARALLEL_THRESHOLD ? range.parallel() : range).forEach(j -> {
+            final int i = owners[j];
+            outcomes[j] = SignatureVerification.verify(pairs.get(i).get(j - offsets[i]), bodies[i]);
+        });
+
+        final List<SignatureVerification> results = new ArrayList<>(transactions.size());
+
+        for (int i = 0; i < transactions.size(); i++) {
+            final List<Ed25519PublicKey> invalidKeys = new ArrayList<>();
+            int unverifiedCount = 0;
+
+            for (int j = offsets[i]; j < offsets[i + 1]; j++) {
+                if (outcomes[j] == SignatureVerification.INVALID) {
+                    invalidKeys.add(Ed25519PublicKey.fromBytes(
+                        pairs.get(i).get(j - offsets[i]).getPubKeyPrefix().toByteArray()));
+                } else if (outcomes[j] == SignatureVerification.UNVERIFIED) {
+                    unverifiedCount += 1;
+                }
+            }
+
+            results.add(new SignatureVerification(
+                transactions.get(i).id, offsets[i + 1] - offsets[i], invalidKeys, unverifiedCount));
+        }
+
+        return results;
+    }
+
     @Override
     public final TransactionId execute(Client client, Duration timeout) throws HederaStatusException, HederaNetworkException, LocalValidationException {
-        // Sign with the operator if there is a client; the client has an operator; and, the transaction
-        // has a transaction ID that matches that operator ( which it would unless overridden ).
-        if (client.getOperatorPublicKey() != null && client.getOperatorSigner() != null
-            && client.getOperatorId() != null
-            && client.getOperatorId().equals(new AccountId(txnIdProto.getAccountID())))
-        {
-            signWith(client.getOperatorPublicKey(), client.getOperatorSigner());
-        }
+        signWithOperator(client);
 
         return super.execute(client, timeout);
     }
 
     @Override
     public void executeAsync(Client client, Duration retryTimeout, Consumer<TransactionId> onSuccess, Consumer<HederaThrowable> onError) {
-        // Sign with the operator if there is a client; the client has an operator; and, the transaction
-        // has a transaction ID that matches that operator ( which it would unless overridden ).
-        if (client.getOperatorPublicKey() != null && client.getOperatorSigner() != null
-            && client.getOperatorId() != null
-            && client.getOperatorId().equals(new AccountId(txnIdProto.getAccountID())))
+        if (client.getOperatorAsyncSigner() == null) {
+            signWithOperator(client);
+
+            super.executeAsync(client, retryTimeout, onSuccess, onError);
+            return;
+        }
+
+        signWithOperatorAsync(client).whenComplete((transaction, error) -> {
+            if (error != null) {
+                onError.accept(new TransactionSignerException(error));
+                return;
+            }
+
+            // with the operator's signature, local validation can't fail
+            super.executeAsync(client, retryTimeout, onSuccess, onError);
+        });
+    }
+
+    /**
+     * Sign with the operator if the client has an operator and the transaction has a transaction
+     * ID that matches that operator (which it would unless overridden), and it has not already
+     * been signed by the operator.
+     */
+    void signWithOperator(Client client) {
+        final PublicKey operatorPublicKey = getOperatorKeyToSignWith(client);
+        final TransactionSigner operatorSigner = client.getOperatorSigner();
+
+        if (operatorPublicKey != null && operatorSigner != null) {
+            signWith(operatorPublicKey, operatorSigner);
+        }
+    }
+
+    /**
+     * As {@link #signWithOperator(Client)}, without blocking if the operator's signer is
+     * asynchronous.
+     */
+    CompletableFuture<Transaction> signWithOperatorAsync(Client client) {
+        final AsyncTransactionSigner operatorSigner = client.getOperatorAsyncSigner();
+
+        if (operatorSigner == null) {
+            signWithOperator(client);
+            return CompletableFuture.completedFuture(this);
+        }
+
+        final PublicKey operatorPublicKey = getOperatorKeyToSignWith(client);
+
+        return operatorPublicKey != null
+            ? signWithAsync(operatorPublicKey, operatorSigner)
+            : CompletableFuture.completedFuture(this);
+    }
+
+    @Nullable
+    private PublicKey getOperatorKeyToSignWith(Client client) {
+        final PublicKey operatorPublicKey = client.getOperatorPublicKey();
+
+        if (operatorPublicKey == null || client.getOperatorId() == null
+            || !client.getOperatorId().equals(new AccountId(txnIdProto.getAccountID())))
         {
-            signWith(client.getOperatorPublicKey(), client.getOperatorSigner());
+            return null;
+        }
+
+        if (isSignedBy(operatorPublicKey)) {
+            // already signed, e.g. by a pipeline or an earlier attempt to execute
+            return null;
         }
 
-        super.executeAsync(client, retryTimeout, onSuccess, onError);
+        return operatorPublicKey;
     }
 
     /**
@@ -178,6 +472,28 @@ public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Tra
         id.getReceiptAsync(client, timeout, onReceipt, onError);
     }
 
+    /**
+     * Execute this transaction and then wait for its receipt, without blocking.
+     *
+     * @return a future completed with the receipt, or exceptionally with one of the types
+     * documented on {@link HederaThrowable}.
+     * @see TransactionId#getReceiptFuture(Client)
+     */
+    public CompletableFuture<TransactionReceipt> executeForReceiptFuture(Client client) {
+        return executeFuture(client).thenCompose(id -> id.getReceiptFuture(client));
+    }
+
+    /**
+     * Execute this transaction and then wait for its record, without blocking.
+     *
+     * @return a future completed with the record, or exceptionally with one of the types
+     * documented on {@link HederaThrowable}.
+     * @see TransactionId#getRecordFuture(Client)
+     */
+    public CompletableFuture<TransactionRecord> executeForRecordFuture(Client client) {
+        return executeFuture(client).thenCompose(id -> id.getRecordFuture(client));
+    }
+
     /**
      * @deprecated {use {@link TransactionId#getRecord}}
      */
@@ -225,12 +541,13 @@ public final class Transaction extends HederaCall<com.hedera.hashgraph.proto.Tra
         return methodDescriptor;
     }
 
+    @Internal
     @Override
-    protected Channel getChannel(Client client) {
-        Node channel = client.getNodeForId(new AccountId(nodeAccountId));
-        Objects.requireNonNull(channel, "Transaction.nodeAccountId not found on Client");
+    protected Node getNode(Client client) {
+        Node node = client.getNodeForId(new AccountId(nodeAccountId));
+        Objects.requireNonNull(node, "Transaction.nodeAccountId not found on Client");
 
-        return channel.getChannel();
+        return node;
     }
 
     @Override
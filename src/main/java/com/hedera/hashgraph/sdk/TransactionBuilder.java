@@ -10,8 +10,6 @@ import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
-import io.grpc.Channel;
-
 public abstract class TransactionBuilder<T extends TransactionBuilder<T>>
     extends HederaCall<com.hedera.hashgraph.proto.Transaction, TransactionResponse, TransactionId, T>
 {
@@ -210,12 +208,13 @@ public abstract class TransactionBuilder<T extends TransactionBuilder<T>>
         return validDuration;
     }
 
+    @Internal
     @Override
-    protected Channel getChannel(Client client) {
+    protected Node getNode(Client client) {
         if (bodyBuilder.hasNodeAccountID()) {
-            return client.getNodeForId(new AccountId(bodyBuilder.getNodeAccountID())).getChannel();
+            return client.getNodeForId(new AccountId(bodyBuilder.getNodeAccountID()));
         } else {
-            return client.pickNode().getChannel();
+            return client.pickNode();
         }
     }
 
@@ -9,6 +9,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
@@ -23,8 +24,7 @@ public final class TransactionId {
 
     private final TransactionID.Builder inner;
 
-    @Nullable
-    private static Instant lastInstant;
+    private static final ValidStartGenerator validStartGenerator = new ValidStartGenerator(Clock.systemUTC());
 
     private TransactionId(AccountId accountId, Instant transactionValidStart) {
         inner = TransactionID.newBuilder()
@@ -46,7 +46,24 @@ public final class TransactionId {
      * any transaction fees.
      */
     public TransactionId(AccountId accountId) {
-        this(accountId, getIncreasingInstant());
+        this(accountId, validStartGenerator.next(accountId));
+    }
+
+    /**
+     * Partition generated valid start times between several processes that pay for transactions
+     * with the same account, so they never generate the same transaction ID and have
+     * transactions rejected with {@code DUPLICATE_TRANSACTION}.
+     * <p>
+     * Each process must be given a different {@code index} and the same {@code count}; process
+     * {@code index} then only generates valid start times whose nanoseconds since the epoch are
+     * congruent to {@code index} modulo {@code count}. This applies to IDs generated by
+     * {@link #TransactionId(AccountId)} after the call, for every account.
+     *
+     * @param index the index of this process, from {@code 0} up to {@code count - 1}.
+     * @param count the number of processes sharing payer accounts.
+     */
+    public static void setValidStartPartition(int index, int count) {
+        validStartGenerator.setPartition(index, count);
     }
 
     /**
@@ -132,6 +149,8 @@ public final class TransactionId {
                 } else {
                     onSuccess.run();
                 }
+            } else {
+                onError.accept(e);
             }
         };
 
@@ -166,6 +185,31 @@ public final class TransactionId {
             .executeAsync(client, timeout, onReceipt, onError);
     }
 
+    /**
+     * Wait for the receipt of this transaction without blocking.
+     *
+     * @return a future completed with the receipt, or exceptionally with a
+     * {@link HederaReceiptStatusException} if the receipt has a failing status.
+     * @see HederaCall#executeFuture(Client, Duration)
+     */
+    public CompletableFuture<TransactionReceipt> getReceiptFuture(Client client) {
+        return new TransactionReceiptQuery()
+            .setTransactionId(this)
+            .executeFuture(client);
+    }
+
+    /**
+     * Wait for the receipt of this transaction without blocking, retrying for at most
+     * {@code timeout}.
+     *
+     * @see #getReceiptFuture(Client)
+     */
+    public CompletableFuture<TransactionReceipt> getReceiptFuture(Client client, Duration timeout) {
+        return new TransactionReceiptQuery()
+            .setTransactionId(this)
+            .executeFuture(client, timeout);
+    }
+
     public TransactionRecord getRecord(Client client) throws HederaStatusException, HederaNetworkException {
         waitForConsensus(client, null);
 
@@ -198,19 +242,37 @@ public final class TransactionId {
         }, onError);
     }
 
-    // `synchronized` is necessary for correctness with multiple threads
-    private static synchronized Instant getIncreasingInstant() {
-        // Allows the transaction to be accepted as long as the
-        // server is not more than 10 seconds behind us
-        final Instant instant = Clock.systemUTC()
-            .instant()
-            .minusSeconds(10);
+    /**
+     * Wait for consensus on this transaction and then get its record, without blocking.
+     *
+     * @return a future completed with the record, or exceptionally with a
+     * {@link HederaRecordStatusException} if the record has a failing status.
+     * @see HederaCall#executeFuture(Client, Duration)
+     */
+    public CompletableFuture<TransactionRecord> getRecordFuture(Client client) {
+        return waitForConsensusFuture(client, null).thenCompose(v -> new TransactionRecordQuery()
+            .setTransactionId(this)
+            .executeFuture(client));
+    }
+
+    /**
+     * Wait for consensus on this transaction and then get its record, without blocking and
+     * retrying each step for at most {@code timeout}.
+     *
+     * @see #getRecordFuture(Client)
+     */
+    public CompletableFuture<TransactionRecord> getRecordFuture(Client client, Duration timeout) {
+        return waitForConsensusFuture(client, timeout).thenCompose(v -> new TransactionRecordQuery()
+            .setTransactionId(this)
+            .executeFuture(client, timeout));
+    }
+
+    private CompletableFuture<Void> waitForConsensusFuture(Client client, @Nullable Duration timeout) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
 
-        // ensures every instant is at least always greater than the last
-        lastInstant = lastInstant != null && instant.compareTo(lastInstant) <= 0
-            ? lastInstant.plusNanos(1)
-            : instant;
+        waitForConsensusAsync(client, timeout, () -> future.complete(null),
+            error -> future.completeExceptionally((Throwable) error));
 
-        return lastInstant;
+        return future;
     }
 }
@@ -0,0 +1,343 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+/**
+ * Builds, signs, submits and waits for the receipts of many transactions concurrently.
+ * <p>
+ * Each transaction passes through three stages:
+ * <ol>
+ *     <li>It is built and signed (including by the client's operator) on the
+ *     {@link #setSigningExecutor(Executor) signing executor}, which defaults to the common
+ *     {@link ForkJoinPool}. An operator signer set with
+ *     {@link Client#setOperatorWithAsync} is not waited for on the executor, and if it is a
+ *     {@link com.hedera.hashgraph.sdk.crypto.BatchTransactionSigner}, transactions are signed
+ *     in batches.</li>
+ *     <li>It is submitted to its node without blocking, with at most
+ *     {@link #setMaxInFlightPerNode(int)} submissions in flight per node; further transactions for
+ *     a busy node wait in a queue.</li>
+ *     <li>Its receipt is awaited through a shared {@link ReceiptTracker}.</li>
+ * </ol>
+ * <p>
+ * At most {@code maxPending} transactions are in the pipeline at once, from submission until
+ * their receipt is available. {@link #submit(TransactionBuilder)} blocks while the pipeline is
+ * full, which throttles a producer to the rate the network accepts transactions;
+ * {@link #trySubmit(TransactionBuilder)} returns immediately instead.
+ * <p>
+ * A pipeline is thread-safe. The futures it returns complete on a gRPC or SDK background
+ * thread.
+ */
+public final class TransactionPipeline {
+    private final Client client;
+    private final int maxPending;
+    private final Semaphore pending;
+
+    private final ConcurrentHashMap<AccountId, NodeQueue> nodeQueues = new ConcurrentHashMap<>();
+
+    private volatile Executor signingExecutor = ForkJoinPool.commonPool();
+    private volatile ReceiptTracker receiptTracker;
+    private volatile int maxInFlightPerNode = 64;
+
+    /**
+     * @param client     the client to build, sign and submit transactions with.
+     * @param maxPending the maximum number of transactions in the pipeline at once.
+     */
+    public TransactionPipeline(Client client, int maxPending) {
+        if (maxPending < 1) {
+            throw new IllegalArgumentException("maxPending must be >= 1");
+        }
+
+        this.client = client;
+        this.maxPending = maxPending;
+        this.pending = new Semaphore(maxPending);
+        this.receiptTracker = new ReceiptTracker(client);
+    }
+
+    /**
+     * Set the executor that builds and signs transactions. Signing is CPU-bound so this should
+     * usually be a pool sized to the number of processors; it may also be used to sign with a
+     * slower {@link com.hedera.hashgraph.sdk.crypto.TransactionSigner} such as an HSM.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public TransactionPipeline setSigningExecutor(Executor signingExecutor) {
+        this.signingExecutor = signingExecutor;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of transactions submitted to a single node and not yet answered.
+     * Defaults to 64.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public TransactionPipeline setMaxInFlightPerNode(int maxInFlightPerNode) {
+        if (maxInFlightPerNode < 1) {
+            throw new IllegalArgumentException("maxInFlightPerNode must be >= 1");
+        }
+
+        this.maxInFlightPerNode = maxInFlightPerNode;
+        return this;
+    }
+
+    /**
+     * Set the tracker used to wait for receipts, e.g. to share one with other code using the same
+     * client. Defaults to a tracker owned by this pipeline.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public TransactionPipeline setReceiptTracker(ReceiptTracker receiptTracker) {
+        this.receiptTracker = receiptTracker;
+        return this;
+    }
+
+    /**
+     * Submit a transaction, waiting while the pipeline is full.
+     *
+     * @return a future completed with the receipt of the transaction, or exceptionally with a
+     * {@link LocalValidationException} or one of the types documented on {@link HederaThrowable}.
+     * @throws InterruptedException if interrupted while waiting for room in the pipeline.
+     */
+    public CompletableFuture<TransactionReceipt> submit(TransactionBuilder<?> builder) throws InterruptedException {
+        return submit(builder, transaction -> { });
+    }
+
+    /**
+     * Submit a transaction that needs signatures besides the operator's, waiting while the
+     * pipeline is full.
+     *
+     * @param sign called on the signing executor with the built transaction to add any
+     *             signatures it needs, e.g. {@code tx -> tx.sign(key)}.
+     * @see #submit(TransactionBuilder)
+     */
+    public CompletableFuture<TransactionReceipt> submit(
+        TransactionBuilder<?> builder,
+        Consumer<Transaction> sign
+    ) throws InterruptedException {
+        pending.acquire();
+        return start(builder, sign);
+    }
+
+    /**
+     * Submit a transaction if there is room in the pipeline.
+     *
+     * @return a future as for {@link #submit(TransactionBuilder)}, or {@code null} if the
+     * pipeline is full.
+     */
+    @Nullable
+    public CompletableFuture<TransactionReceipt> trySubmit(TransactionBuilder<?> builder) {
+        if (!pending.tryAcquire()) {
+            return null;
+        }
+
+        return start(builder, transaction -> { });
+    }
+
+    /**
+     * Submit every transaction from a stream, in order, waiting while the pipeline is full.
+     *
+     * @return the futures for each transaction, in the order of the stream.
+     * @throws InterruptedException if interrupted while waiting for room in the pipeline; the
+     *                              transactions submitted so far are not cancelled.
+     */
+    public List<CompletableFuture<TransactionReceipt>> submitAll(
+        Stream<? extends TransactionBuilder<?>> builders
+    ) throws InterruptedException {
+        final List<CompletableFuture<TransactionReceipt>> futures = new ArrayList<>();
+
+        final Iterator<? extends TransactionBuilder<?>> iterator = builders.iterator();
+
+        while (iterator.hasNext()) {
+            futures.add(submit(iterator.next()));
+        }
+
+        return futures;
+    }
+
+    /**
+     * Wait for room in the pipeline and reserve it for up to {@code max} transactions, so that
+     * many can be prepared (e.g. given transaction IDs, which start to expire when minted) and
+     * then submitted with {@link #submitReserved(TransactionBuilder)} without waiting. Room which
+     * is not used must be given back with {@link #release(int)}.
+     *
+     * @return the number of transactions room was reserved for, from 1 to {@code max}.
+     * @throws InterruptedException if interrupted while waiting for room; nothing is reserved.
+     */
+    int reserve(int max) throws InterruptedException {
+        pending.acquire();
+
+        int reserved = 1;
+
+        while (reserved < max && pending.tryAcquire()) {
+            reserved += 1;
+        }
+
+        return reserved;
+    }
+
+    /**
+     * Submit a transaction into room reserved with {@link #reserve(int)}.
+     */
+    CompletableFuture<TransactionReceipt> submitReserved(TransactionBuilder<?> builder) {
+        return start(builder, transaction -> { });
+    }
+
+    /**
+     * Give back room reserved with {@link #reserve(int)} which won't be used.
+     */
+    void release(int reserved) {
+        if (reserved > 0) {
+            pending.release(reserved);
+        }
+    }
+
+    /**
+     * Get the number of transactions between submission and receipt.
+     */
+    public int getPendingCount() {
+        return maxPending - pending.availablePermits();
+    }
+
+    private CompletableFuture<TransactionReceipt> start(TransactionBuilder<?> builder, Consumer<Transaction> sign) {
+        final CompletableFuture<TransactionReceipt> result = new CompletableFuture<>();
+        result.whenComplete((receipt, error) -> pending.release());
+
+        try {
+            signingExecutor.execute(() -> {
+                final CompletableFuture<Transaction> signed;
+
+                try {
+                    final Transaction transaction = builder.build(client);
+                    sign.accept(transaction);
+                    signed = transaction.signWithOperatorAsync(client);
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                    return;
+                }
+
+                // an asynchronous operator signer completes this later, without holding the thread
+                signed.whenComplete((transaction, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(new TransactionSignerException(error));
+                        return;
+                    }
+
+                    nodeQueues.computeIfAbsent(new AccountId(transaction.nodeAccountId), id -> new NodeQueue())
+                        .enqueue(new Submission(transaction, result));
+                });
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+
+        return result;
+    }
+
+    private void send(NodeQueue queue, Submission submission) {
+        try {
+            submission.transaction.executeAsync(client,
+                transactionId -> {
+                    queue.onDone();
+                    receiptTracker.track(transactionId).whenComplete((receipt, error) -> {
+                        if (error != null) {
+                            submission.result.completeExceptionally(error);
+                        } else {
+                            submission.result.complete(receipt);
+                        }
+                    });
+                },
+                error -> {
+                    queue.onDone();
+                    submission.result.completeExceptionally((Throwable) error);
+                });
+        } catch (RuntimeException e) {
+            queue.onDone();
+            submission.result.completeExceptionally(e);
+        }
+    }
+
+    private static final class Submission {
+        private final Transaction transaction;
+        private final CompletableFuture<TransactionReceipt> result;
+
+        private Submission(Transaction transaction, CompletableFuture<TransactionReceipt> result) {
+            this.transaction = transaction;
+            this.result = result;
+        }
+    }
+
+    private final class NodeQueue {
+        // all guarded by `this`
+        private final ArrayDeque<Submission> waiting = new ArrayDeque<>();
+        private int inFlight = 0;
+
+        // slots given back by finished submissions and not yet handed on, and whether a thread is
+        // handing them on
+        private int freed = 0;
+        private boolean draining = false;
+
+        void enqueue(Submission submission) {
+            synchronized (this) {
+                if (inFlight >= maxInFlightPerNode) {
+                    waiting.add(submission);
+                    return;
+                }
+
+                inFlight += 1;
+            }
+
+            send(this, submission);
+        }
+
+        void onDone() {
+            synchronized (this) {
+                freed += 1;
+
+                // a submission failing synchronously while slots are handed on below ends up
+                // back here; leave its slot to the loop rather than recursing once per entry
+                if (draining) {
+                    return;
+                }
+
+                draining = true;
+            }
+
+            for (;;) {
+                final Submission next;
+
+                synchronized (this) {
+                    if (freed == 0) {
+                        draining = false;
+                        return;
+                    }
+
+                    freed -= 1;
+                    next = waiting.poll();
+
+                    if (next == null) {
+                        inFlight -= 1;
+                        continue;
+                    }
+                }
+
+                // hand the slot straight to the next submission
+                send(this, next);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.crypto.AsyncTransactionSigner;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * Passed to a callback, or completes a future exceptionally, when a signer the SDK calls on your
+ * behalf without blocking, such as the operator's {@link AsyncTransactionSigner}, fails to
+ * produce a signature. Nothing was sent to the network.
+ */
+public final class TransactionSignerException extends RuntimeException implements HederaThrowable {
+    TransactionSignerException(Throwable cause) {
+        super("signer failed to sign the transaction", unwrap(cause));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
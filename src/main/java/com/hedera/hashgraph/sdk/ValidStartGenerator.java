@@ -0,0 +1,138 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates strictly increasing transaction valid start times per payer account, without locks.
+ * <p>
+ * The last time handed out for each account is kept as nanoseconds since the epoch in an
+ * {@link AtomicLong} and advanced with compare-and-set, so threads building transactions for
+ * different accounts never touch the same state and threads building for the same account only
+ * retry on an actual collision.
+ * <p>
+ * To keep several processes that share a payer account from generating the same ID, each one can
+ * be given its own partition of the nanosecond space: process {@code index} out of {@code count}
+ * only ever generates times that are congruent to {@code index} modulo {@code count}, so the
+ * generated IDs are disjoint regardless of how the clocks of the processes compare.
+ * <p>
+ * An account is only remembered while its last valid start is within the 10 second backdate
+ * window of the one that would be generated now: any later time is past it anyway. Accounts
+ * older than that are dropped at most once per window, so a process paying with many accounts
+ * in turn doesn't hold on to every one of them; only a clock set back by more than the window
+ * could then repeat a valid start.
+ */
+final class ValidStartGenerator {
+    // allows the transaction to be accepted as long as the server is not more than 10 seconds
+    // behind us
+    private static final long BACKDATE_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Clock clock;
+
+    // marks an entry being dropped; whoever reads it looks the account up again
+    private static final long DROPPED = Long.MIN_VALUE;
+
+    private final ConcurrentHashMap<AccountId, AtomicLong> lastNanos = new ConcurrentHashMap<>();
+
+    // the generated time at which stale accounts are next dropped
+    private final AtomicLong nextSweepNanos = new AtomicLong(Long.MIN_VALUE);
+
+    // index and count in one immutable object so they're always read consistently
+    private volatile Partition partition = new Partition(0, 1);
+
+    ValidStartGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    void setPartition(int index, int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("expected 0 <= index < count, got index = "
+                + index + ", count = " + count);
+        }
+
+        partition = new Partition(index, count);
+    }
+
+    Instant next(AccountId accountId) {
+        final Instant now = clock.instant();
+        final long nowNanos = now.getEpochSecond() * NANOS_PER_SECOND + now.getNano() - BACKDATE_NANOS;
+
+        sweep(nowNanos);
+
+        final Partition partition = this.partition;
+
+        for (;;) {
+            final AtomicLong last = lastNanos.computeIfAbsent(accountId, id -> new AtomicLong());
+            final long lastValue = last.get();
+
+            if (lastValue == DROPPED) {
+                // it is removed from the map right after being marked
+                continue;
+            }
+
+            final long next = partition.align(Math.max(nowNanos, lastValue + 1));
+
+            if (last.compareAndSet(lastValue, next)) {
+                return Instant.ofEpochSecond(
+                    Math.floorDiv(next, NANOS_PER_SECOND),
+                    Math.floorMod(next, NANOS_PER_SECOND));
+            }
+        }
+    }
+
+    /**
+     * Drop the accounts whose last valid start is older than the backdate window, if it has been
+     * a window since this was last done.
+     */
+    private void sweep(long nowNanos) {
+        final long sweepAt = nextSweepNanos.get();
+
+        if (nowNanos < sweepAt || !nextSweepNanos.compareAndSet(sweepAt, nowNanos + BACKDATE_NANOS)) {
+            return;
+        }
+
+        final long staleBefore = nowNanos - BACKDATE_NANOS;
+
+        for (final Map.Entry<AccountId, AtomicLong> entry : lastNanos.entrySet()) {
+            final AtomicLong last = entry.getValue();
+            final long lastValue = last.get();
+
+            // marked first, so no thread generates a time from it once it is gone
+            if (lastValue < staleBefore && last.compareAndSet(lastValue, DROPPED)) {
+                lastNanos.remove(entry.getKey(), last);
+            }
+        }
+    }
+
+    @VisibleForTesting
+    int getAccountCount() {
+        return lastNanos.size();
+    }
+
+    private static final class Partition {
+        private final int index;
+        private final int count;
+
+        private Partition(int index, int count) {
+            this.index = index;
+            this.count = count;
+        }
+
+        /**
+         * Round {@code nanos} up to the next value in this partition.
+         */
+        private long align(long nanos) {
+            final long remainder = Math.floorMod(nanos - index, (long) count);
+            return remainder == 0 ? nanos : nanos + (count - remainder);
+        }
+    }
+}
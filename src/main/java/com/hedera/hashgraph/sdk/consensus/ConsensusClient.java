@@ -39,6 +39,11 @@ public class ConsensusClient implements AutoCloseable {
             .build();
     }
 
+    // for tests
+    ConsensusClient(ManagedChannel channel) {
+        this.channel = channel;
+    }
+
     // TODO: enumerate possible throwable types
     /**
      * Set a global error handler for all streams.
@@ -138,6 +143,55 @@ public class ConsensusClient implements AutoCloseable {
         return Iterators.transform(iter, message -> new ConsensusMessage(topicId, Objects.requireNonNull(message)));
     }
 
+    /**
+     * Get a blocking iterator which returns messages for the given topic with consensus timestamps
+     * between two {@link Instant}s, fetched over several concurrent streams.
+     * <p>
+     * The range is split into {@code slices} equal slices of time, each streamed from the mirror
+     * node over its own call at the same time, and the iterator returns the messages of one slice
+     * after the other, so they still come in consensus order. This can replay a long or busy
+     * range many times faster than {@link #getMessages(ConsensusTopicId, Instant, Instant)}.
+     * <p>
+     * Each slice buffers at most {@code sliceBufferSize} messages ahead of the iterator and then
+     * waits for it, so the replay holds at most {@code slices * sliceBufferSize} messages in
+     * memory. A larger buffer lets more of the later slices be fetched while earlier ones are
+     * being read.
+     * <p>
+     * If any slice fails, the others are cancelled and {@code hasNext()} throws the
+     * {@link io.grpc.StatusRuntimeException}. Read the iterator to the end, or close the client,
+     * to end the calls.
+     *
+     * @param topicId
+     * @param startTime       the lower bound for timestamps (inclusive).
+     * @param endTime         the upper bound for timestamps (exclusive).
+     * @param slices          the number of slices to split the range into and stream concurrently.
+     * @param sliceBufferSize the number of messages each slice may receive ahead of the iterator.
+     * @return
+     * @throws IllegalArgumentException if {@code endTime} is not after {@code startTime}, or
+     *                                  {@code slices} or {@code sliceBufferSize} is less than 1.
+     */
+    public Iterator<ConsensusMessage> getMessages(
+        ConsensusTopicId topicId,
+        Instant startTime,
+        Instant endTime,
+        int slices,
+        int sliceBufferSize)
+    {
+        if (!endTime.isAfter(startTime)) {
+            throw new IllegalArgumentException("endTime must be after startTime");
+        }
+
+        if (slices < 1) {
+            throw new IllegalArgumentException("slices must be >= 1");
+        }
+
+        if (sliceBufferSize < 1) {
+            throw new IllegalArgumentException("sliceBufferSize must be >= 1");
+        }
+
+        return new PartitionedMessageIterator(channel, topicId, startTime, endTime, slices, sliceBufferSize);
+    }
+
     /**
      * Get a blocking iterator which returns messages for the given topic with consensus timestamps
      * starting now and continuing until the given {@link Instant}.
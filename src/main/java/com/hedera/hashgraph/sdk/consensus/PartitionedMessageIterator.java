@@ -0,0 +1,249 @@
+package com.hedera.hashgraph.sdk.consensus;
+
+import com.hedera.hashgraph.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicResponse;
+import com.hedera.hashgraph.sdk.TimestampHelper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+/**
+ * Replays the messages of a topic between two times by splitting the range into consecutive
+ * slices, streaming every slice over its own call at once, and returning the slices' messages
+ * one slice after the other.
+ * <p>
+ * As the slices don't overlap and each is returned in order, the messages come out in consensus
+ * order. Each slice only asks the mirror node for as many messages as fit in its buffer, using
+ * gRPC's manual flow control, so a slice which is not being read yet fills its buffer and then
+ * waits; at most {@code slices * bufferSize} messages are held in memory.
+ */
+final class PartitionedMessageIterator implements Iterator<ConsensusMessage> {
+    private final ConsensusTopicId topicId;
+    private final Slice[] slices;
+
+    // guards the state of every slice, `error` and `cancelled`; the consumer waits on it
+    private final Object lock = new Object();
+
+    @Nullable
+    private StatusRuntimeException error;
+
+    // a cancelled call may not be asked for more messages
+    private boolean cancelled = false;
+
+    // the slice being read
+    private int current = 0;
+
+    // the sequence number of the last message returned, to drop any message a slice repeats
+    private long lastSequenceNumber = 0;
+
+    @Nullable
+    private ConsensusMessage next;
+
+    PartitionedMessageIterator(
+        Channel channel,
+        ConsensusTopicId topicId,
+        Instant startTime,
+        Instant endTime,
+        int slices,
+        int bufferSize)
+    {
+        this.topicId = topicId;
+
+        final long totalNanos = Duration.between(startTime, endTime).toNanos();
+        final int count = (int) Math.min(slices, totalNanos);
+
+        this.slices = new Slice[count];
+
+        Instant sliceStart = startTime;
+
+        // a slice may fail before the rest are started; it mustn't see them half-built
+        synchronized (lock) {
+            for (int i = 0; i < count; i++) {
+                // the last slice ends exactly at `endTime`, whatever the rounding of the others
+                final Instant sliceEnd = i == count - 1
+                    ? endTime
+                    : startTime.plusNanos(multiplyDivide(totalNanos, i + 1, count));
+
+                this.slices[i] = new Slice(channel.newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT), bufferSize);
+
+                this.slices[i].start(ConsensusTopicQuery.newBuilder()
+                    .setTopicID(topicId.toProto())
+                    .setConsensusStartTime(TimestampHelper.timestampFrom(sliceStart))
+                    .setConsensusEndTime(TimestampHelper.timestampFrom(sliceEnd))
+                    .build());
+
+                sliceStart = sliceEnd;
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null) {
+            final ConsensusTopicResponse response = take();
+
+            if (response == null) {
+                return false;
+            }
+
+            if (response.getSequenceNumber() > lastSequenceNumber) {
+                lastSequenceNumber = response.getSequenceNumber();
+                next = new ConsensusMessage(topicId, response);
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public ConsensusMessage next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final ConsensusMessage message = next;
+        next = null;
+
+        return message;
+    }
+
+    /**
+     * Block for the next message of the current slice, moving on to the next slice once it has
+     * ended.
+     *
+     * @return the next message, or {@code null} if every slice has ended.
+     * @throws StatusRuntimeException if any slice failed.
+     */
+    @Nullable
+    private ConsensusTopicResponse take() {
+        synchronized (lock) {
+            for (;;) {
+                if (error != null) {
+                    throw error;
+                }
+
+                if (current == slices.length) {
+                    return null;
+                }
+
+                final ConsensusTopicResponse response = slices[current].buffer.poll();
+
+                if (response != null) {
+                    if (!cancelled) {
+                        // replace the message taken out of the buffer; gRPC never calls back
+                        // into the listener from here, so this is safe under the lock
+                        slices[current].call.request(1);
+                    }
+
+                    return response;
+                }
+
+                if (slices[current].ended) {
+                    current += 1;
+                    continue;
+                }
+
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancel("interrupted");
+                    throw Status.CANCELLED.withDescription("interrupted while waiting for a message")
+                        .withCause(e)
+                        .asRuntimeException();
+                }
+            }
+        }
+    }
+
+    private void cancel(String reason) {
+        synchronized (lock) {
+            if (cancelled) {
+                return;
+            }
+
+            cancelled = true;
+
+            for (final Slice slice : slices) {
+                slice.call.cancel(reason, null);
+            }
+        }
+    }
+
+    private void onSliceFailed(Status status, Metadata trailers) {
+        synchronized (lock) {
+            if (error != null) {
+                return;
+            }
+
+            error = status.asRuntimeException(trailers);
+            lock.notifyAll();
+        }
+
+        // the replay can't be completed, so stop streaming the other slices
+        cancel("another slice of the replay failed");
+    }
+
+    // `value * numerator / denominator` without overflowing, for `numerator <= denominator`
+    private static long multiplyDivide(long value, long numerator, long denominator) {
+        return value / denominator * numerator + value % denominator * numerator / denominator;
+    }
+
+    private final class Slice {
+        private final ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call;
+        private final int bufferSize;
+
+        // both guarded by `lock`; the buffer never holds more than `bufferSize` messages as no
+        // more are requested
+        private final ArrayDeque<ConsensusTopicResponse> buffer;
+        private boolean ended = false;
+
+        private Slice(ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call, int bufferSize) {
+            this.call = call;
+            this.bufferSize = bufferSize;
+            this.buffer = new ArrayDeque<>(Math.min(bufferSize, 1024));
+        }
+
+        private void start(ConsensusTopicQuery query) {
+            call.start(new ClientCall.Listener<ConsensusTopicResponse>() {
+                @Override
+                public void onMessage(ConsensusTopicResponse message) {
+                    synchronized (lock) {
+                        buffer.add(message);
+                        lock.notifyAll();
+                    }
+                }
+
+                @Override
+                public void onClose(Status status, Metadata trailers) {
+                    if (!status.isOk()) {
+                        onSliceFailed(status, trailers);
+                        return;
+                    }
+
+                    synchronized (lock) {
+                        ended = true;
+                        lock.notifyAll();
+                    }
+                }
+            }, new Metadata());
+
+            call.sendMessage(query);
+            call.halfClose();
+            call.request(bufferSize);
+        }
+    }
+}
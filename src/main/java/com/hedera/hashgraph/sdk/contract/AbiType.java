@@ -0,0 +1,425 @@
+package com.hedera.hashgraph.sdk.contract;
+
+import com.hedera.hashgraph.sdk.BoundedCache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A parsed Solidity ABI type, e.g. {@code uint256}, {@code string[]} or
+ * {@code (address,uint64[3])}, with its layout in the ABI encoding worked out up front.
+ * <p>
+ * See <a href="https://solidity.readthedocs.io/en/v0.5.7/abi-spec.html#types">the ABI spec</a>
+ * for the types themselves. Fixed-point types are not supported.
+ */
+final class AbiType {
+    enum Kind {
+        INT,
+        UINT,
+        ADDRESS,
+        BOOL,
+        // `bytes1` to `bytes32`
+        FIXED_BYTES,
+        FUNCTION,
+        BYTES,
+        STRING,
+        // `T[]`
+        ARRAY,
+        // `T[k]`
+        FIXED_ARRAY,
+        TUPLE,
+    }
+
+    // bounds memory for callers that generate types
+    private static final int MAX_CACHED = 1_000;
+
+    // types by name, so type names that are used over and over are only parsed once
+    private static final BoundedCache<String, AbiType> cache = new BoundedCache<>(MAX_CACHED);
+
+    final Kind kind;
+
+    /**
+     * The canonical name of this type, as used in function signatures.
+     */
+    final String name;
+
+    /**
+     * Width in bits for {@code int<M>} and {@code uint<M>}, or in bytes for {@code bytes<M>}.
+     */
+    final int size;
+
+    // for `ARRAY` and `FIXED_ARRAY`
+    @Nullable
+    final AbiType elementType;
+
+    // for `FIXED_ARRAY`
+    final int length;
+
+    // for `TUPLE`
+    final List<AbiType> components;
+
+    // for `TUPLE`, where each component starts in the head
+    private final int[] componentOffsets;
+
+    /**
+     * Whether values of this type are stored in the tail of the enclosing encoding and
+     * referenced by offset from its head.
+     */
+    final boolean isDynamic;
+
+    /**
+     * The number of bytes values of this type take up in the head of the enclosing encoding.
+     */
+    final int headLen;
+
+    private AbiType(
+        Kind kind,
+        String name,
+        int size,
+        @Nullable AbiType elementType,
+        int length,
+        List<AbiType> components,
+        int[] componentOffsets,
+        boolean isDynamic,
+        int headLen)
+    {
+        this.kind = kind;
+        this.name = name;
+        this.size = size;
+        this.elementType = elementType;
+        this.length = length;
+        this.components = components;
+        this.componentOffsets = componentOffsets;
+        this.isDynamic = isDynamic;
+        this.headLen = headLen;
+    }
+
+    private static AbiType elementary(Kind kind, String name, int size, boolean isDynamic) {
+        return new AbiType(kind, name, size, null, 0, Collections.emptyList(), new int[0],
+            isDynamic, ContractFunctionParams.WORD_LEN);
+    }
+
+    static AbiType array(AbiType elementType) {
+        return new AbiType(Kind.ARRAY, elementType.name + "[]", 0, elementType, 0,
+            Collections.emptyList(), new int[0], true, ContractFunctionParams.WORD_LEN);
+    }
+
+    static AbiType fixedArray(AbiType elementType, int length) {
+        final int headLen = elementType.isDynamic
+            ? ContractFunctionParams.WORD_LEN
+            : Math.multiplyExact(elementType.headLen, length);
+
+        return new AbiType(Kind.FIXED_ARRAY, elementType.name + "[" + length + "]", 0, elementType,
+            length, Collections.emptyList(), new int[0], elementType.isDynamic, headLen);
+    }
+
+    static AbiType tuple(List<AbiType> components) {
+        final StringBuilder name = new StringBuilder("(");
+        final int[] offsets = new int[components.size()];
+        boolean isDynamic = false;
+        int headLen = 0;
+
+        for (int i = 0; i < components.size(); i++) {
+            final AbiType component = components.get(i);
+
+            if (i > 0) {
+                name.append(',');
+            }
+
+            name.append(component.name);
+            offsets[i] = headLen;
+            isDynamic |= component.isDynamic;
+            headLen = Math.addExact(headLen, component.headLen);
+        }
+
+        name.append(')');
+
+        return new AbiType(Kind.TUPLE, name.toString(), 0, null, 0,
+            Collections.unmodifiableList(new ArrayList<>(components)), offsets, isDynamic,
+            isDynamic ? ContractFunctionParams.WORD_LEN : headLen);
+    }
+
+    /**
+     * Get the offset of the head of a component of this tuple from the start of the tuple.
+     */
+    int componentOffset(int index) {
+        return componentOffsets[index];
+    }
+
+    /**
+     * Get the total length of the heads of the components of this tuple, which is where its
+     * tail starts.
+     */
+    int tupleHeadLen() {
+        return components.isEmpty() ? 0
+            : componentOffsets[components.size() - 1] + components.get(components.size() - 1).headLen;
+    }
+
+    /**
+     * Parse a single type, e.g. {@code uint}, {@code bytes32[]} or {@code (string,bool)}.
+     *
+     * @throws IllegalArgumentException if the type is malformed or not supported.
+     */
+    static AbiType parse(String type) {
+        final Parser parser = new Parser(type);
+        final AbiType parsed = parser.parseType();
+        parser.expectEnd();
+
+        return parsed;
+    }
+
+    /**
+     * Get a type by name, parsing it only if it has not been seen before.
+     *
+     * @throws IllegalArgumentException if the type is malformed or not supported.
+     */
+    static AbiType of(String type) {
+        return cache.computeIfAbsent(type, AbiType::parse);
+    }
+
+    /**
+     * Check whether values encoded for {@code other} are also valid for this type, which is
+     * the case if they only differ in the width of integers or fixed-size byte arrays, as those
+     * are all padded to a whole word.
+     */
+    boolean isCompatible(AbiType other) {
+        if (kind != other.kind || length != other.length
+            || components.size() != other.components.size())
+        {
+            return false;
+        }
+
+        if (elementType != null && other.elementType != null
+            && !elementType.isCompatible(other.elementType))
+        {
+            return false;
+        }
+
+        for (int i = 0; i < components.size(); i++) {
+            if (!components.get(i).isCompatible(other.components.get(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Parse a list of types, either bare ({@code uint256,string}) or parenthesized
+     * ({@code (uint256,string)}), as a tuple. An empty string is the empty tuple.
+     *
+     * @throws IllegalArgumentException if any type is malformed or not supported.
+     */
+    static AbiType parseList(String types) {
+        final String trimmed = types.trim();
+
+        if (trimmed.isEmpty()) {
+            return tuple(Collections.emptyList());
+        }
+
+        if (trimmed.startsWith("(")) {
+            try {
+                final AbiType parsed = parse(trimmed);
+
+                if (parsed.kind == Kind.TUPLE) {
+                    return parsed;
+                }
+            } catch (IllegalArgumentException e) {
+                // e.g. `(uint256,bool),string`, a bare list which starts with a tuple
+            }
+        }
+
+        return parse("(" + trimmed + ")");
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object other) {
+        return other instanceof AbiType && name.equals(((AbiType) other).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    private static final class Parser {
+        private final String input;
+        private int pos = 0;
+
+        private Parser(String input) {
+            this.input = input;
+        }
+
+        private AbiType parseType() {
+            skipWhitespace();
+
+            AbiType type = peek() == '(' ? parseTuple() : parseElementary();
+
+            // array suffixes apply left to right: `uint[2][]` is a dynamic array of `uint[2]`
+            while (peek() == '[') {
+                pos += 1;
+                final int start = pos;
+
+                while (Character.isDigit(peek())) {
+                    pos += 1;
+                }
+
+                final String length = input.substring(start, pos);
+                expect(']');
+
+                if (length.isEmpty()) {
+                    type = array(type);
+                } else {
+                    final int fixedLength = parseInt(length);
+
+                    if (fixedLength == 0) {
+                        throw error("fixed-size arrays must not be empty");
+                    }
+
+                    type = fixedArray(type, fixedLength);
+                }
+            }
+
+            skipWhitespace();
+            return type;
+        }
+
+        private AbiType parseTuple() {
+            expect('(');
+            skipWhitespace();
+
+            final List<AbiType> components = new ArrayList<>();
+
+            if (peek() != ')') {
+                components.add(parseType());
+
+                while (peek() == ',') {
+                    pos += 1;
+                    components.add(parseType());
+                }
+            }
+
+            expect(')');
+            return tuple(components);
+        }
+
+        private AbiType parseElementary() {
+            final int start = pos;
+
+            while (Character.isLetter(peek())) {
+                pos += 1;
+            }
+
+            final String base = input.substring(start, pos);
+
+            final int sizeStart = pos;
+
+            while (Character.isDigit(peek())) {
+                pos += 1;
+            }
+
+            final String sizeStr = input.substring(sizeStart, pos);
+
+            switch (base) {
+                case "uint":
+                case "int": {
+                    final int bits = sizeStr.isEmpty() ? 256 : parseInt(sizeStr);
+
+                    if (bits < 8 || bits > 256 || bits % 8 != 0) {
+                        throw error("integer width must be a multiple of 8 from 8 to 256");
+                    }
+
+                    return elementary(base.equals("int") ? Kind.INT : Kind.UINT, base + bits, bits, false);
+                }
+
+                case "bytes": {
+                    if (sizeStr.isEmpty()) {
+                        return elementary(Kind.BYTES, "bytes", 0, true);
+                    }
+
+                    final int len = parseInt(sizeStr);
+
+                    if (len < 1 || len > 32) {
+                        throw error("fixed byte length must be from 1 to 32");
+                    }
+
+                    return elementary(Kind.FIXED_BYTES, "bytes" + len, len, false);
+                }
+
+                case "address":
+                    requireNoSize(sizeStr);
+                    return elementary(Kind.ADDRESS, "address", 20, false);
+
+                case "bool":
+                    requireNoSize(sizeStr);
+                    return elementary(Kind.BOOL, "bool", 0, false);
+
+                case "string":
+                    requireNoSize(sizeStr);
+                    return elementary(Kind.STRING, "string", 0, true);
+
+                case "function":
+                    requireNoSize(sizeStr);
+                    return elementary(Kind.FUNCTION, "function", 24, false);
+
+                default:
+                    throw error("unsupported type `" + base + sizeStr + "`");
+            }
+        }
+
+        private void requireNoSize(String sizeStr) {
+            if (!sizeStr.isEmpty()) {
+                throw error("unexpected size");
+            }
+        }
+
+        private int parseInt(String digits) {
+            try {
+                return Integer.parseInt(digits);
+            } catch (NumberFormatException e) {
+                throw error("size out of range");
+            }
+        }
+
+        private char peek() {
+            return pos < input.length() ? input.charAt(pos) : '\0';
+        }
+
+        private void skipWhitespace() {
+            while (Character.isWhitespace(peek())) {
+                pos += 1;
+            }
+        }
+
+        private void expect(char c) {
+            skipWhitespace();
+
+            if (peek() != c) {
+                throw error("expected `" + c + "`");
+            }
+
+            pos += 1;
+        }
+
+        private void expectEnd() {
+            skipWhitespace();
+
+            if (pos != input.length()) {
+                throw error("unexpected `" + input.charAt(pos) + "`");
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(
+                "failed to parse ABI type `" + input + "` at " + pos + ": " + message);
+        }
+    }
+}
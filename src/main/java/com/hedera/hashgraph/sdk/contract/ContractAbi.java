@@ -0,0 +1,534 @@
+package com.hedera.hashgraph.sdk.contract;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.protobuf.ByteString;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * The functions and events of a contract, loaded from the JSON ABI the Solidity compiler
+ * produces ({@code solc --abi}, or the {@code abi} property of a Truffle artifact).
+ * <p>
+ * Everything that depends only on the ABI is worked out when it is loaded: function selectors
+ * and event topics are hashed once, and parameter and return types are parsed into plans for
+ * encoding calls and decoding results and logs. Looking up a function by name, signature or
+ * selector, or an event by name, signature or topic, is then a hash table lookup.
+ * <p>
+ * An ABI is immutable and safe to share between threads; load it once per contract.
+ */
+public final class ContractAbi {
+    private final List<Function> functions;
+    private final List<Event> events;
+
+    private final Map<String, List<Function>> functionsByName = new HashMap<>();
+    private final Map<String, Function> functionsBySignature = new HashMap<>();
+    private final Map<Integer, Function> functionsBySelector = new HashMap<>();
+
+    private final Map<String, List<Event>> eventsByName = new HashMap<>();
+    private final Map<String, Event> eventsBySignature = new HashMap<>();
+    private final Map<ByteString, Event> eventsByTopic = new HashMap<>();
+
+    private ContractAbi(List<Function> functions, List<Event> events) {
+        this.functions = Collections.unmodifiableList(functions);
+        this.events = Collections.unmodifiableList(events);
+
+        for (final Function function : functions) {
+            functionsByName.computeIfAbsent(function.name, name -> new ArrayList<>()).add(function);
+            functionsBySignature.put(function.signature, function);
+            functionsBySelector.put(selectorKey(function.selector, 0), function);
+        }
+
+        for (final Event event : events) {
+            eventsByName.computeIfAbsent(event.name, name -> new ArrayList<>()).add(event);
+            eventsBySignature.put(event.signature, event);
+
+            if (!event.anonymous) {
+                eventsByTopic.put(event.topic, event);
+            }
+        }
+    }
+
+    /**
+     * Load an ABI from its JSON representation.
+     *
+     * @throws IllegalArgumentException if the JSON is not a valid ABI or uses a type which is
+     *                                  not supported.
+     */
+    public static ContractAbi fromJson(String json) {
+        return fromJson(new StringReader(json));
+    }
+
+    /**
+     * Load an ABI from its JSON representation.
+     *
+     * @throws IllegalArgumentException if the JSON is not a valid ABI or uses a type which is
+     *                                  not supported.
+     */
+    public static ContractAbi fromJson(Reader json) {
+        final AbiEntry[] entries;
+
+        try {
+            JsonElement root = new JsonParser().parse(json);
+
+            // a compiler artifact with the ABI as one of its properties
+            if (root.isJsonObject() && root.getAsJsonObject().has("abi")) {
+                root = root.getAsJsonObject().get("abi");
+            }
+
+            entries = new Gson().fromJson(root, AbiEntry[].class);
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new IllegalArgumentException("failed to parse contract ABI", e);
+        }
+
+        if (entries == null) {
+            throw new IllegalArgumentException("contract ABI is empty");
+        }
+
+        final List<Function> functions = new ArrayList<>();
+        final List<Event> events = new ArrayList<>();
+
+        for (final AbiEntry entry : entries) {
+            // the default is "function", for ABIs produced by old versions of solc
+            final String type = entry.type != null ? entry.type : "function";
+
+            switch (type) {
+                case "function":
+                    functions.add(new Function(requireName(entry), parseParams(entry.inputs),
+                        parseParams(entry.outputs)));
+                    break;
+
+                case "event":
+                    events.add(new Event(requireName(entry), parseParams(entry.inputs),
+                        indexedFlags(entry.inputs), entry.anonymous));
+                    break;
+
+                default:
+                    // constructors, fallback and receive functions aren't called by selector
+                    break;
+            }
+        }
+
+        return new ContractAbi(functions, events);
+    }
+
+    /**
+     * Load an ABI from a JSON file.
+     *
+     * @throws IOException              if the file does not exist or could not be read.
+     * @throws IllegalArgumentException if the JSON is not a valid ABI or uses a type which is
+     *                                  not supported.
+     */
+    public static ContractAbi fromFile(File file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            return fromJson(reader);
+        }
+    }
+
+    /**
+     * Get all functions, in the order of the ABI.
+     */
+    public List<Function> getFunctions() {
+        return functions;
+    }
+
+    /**
+     * Get all events, in the order of the ABI.
+     */
+    public List<Event> getEvents() {
+        return events;
+    }
+
+    /**
+     * Get a function by its name, or by its signature (e.g. {@code transfer(address,uint256)})
+     * if it is overloaded.
+     *
+     * @throws IllegalArgumentException if there is no such function, or only a name is given for
+     *                                  an overloaded function.
+     */
+    public Function getFunction(String nameOrSignature) {
+        return lookup("function", nameOrSignature, functionsByName, functionsBySignature);
+    }
+
+    /**
+     * Get a function by its selector, e.g. to find out what a transaction called.
+     *
+     * @param selector the first {@value ContractFunctionParams#SELECTOR_LEN} bytes of the call
+     *                 data; any bytes after those are ignored.
+     * @return the function, or {@code null} if it isn't part of this ABI.
+     */
+    @Nullable
+    public Function getFunction(byte[] selector) {
+        if (selector.length < ContractFunctionParams.SELECTOR_LEN) {
+            return null;
+        }
+
+        final Function function = functionsBySelector.get(selectorKey(selector, 0));
+
+        // the key is all of the selector, but make sure we never return the wrong function
+        return function != null && Arrays.equals(function.selector,
+            Arrays.copyOf(selector, ContractFunctionParams.SELECTOR_LEN)) ? function : null;
+    }
+
+    /**
+     * Get an event by its name, or by its signature (e.g. {@code Transfer(address,address,uint256)})
+     * if it is overloaded.
+     *
+     * @throws IllegalArgumentException if there is no such event, or only a name is given for an
+     *                                  overloaded event.
+     */
+    public Event getEvent(String nameOrSignature) {
+        return lookup("event", nameOrSignature, eventsByName, eventsBySignature);
+    }
+
+    /**
+     * Get the (non-anonymous) event which a log was emitted for, by the first topic of the log.
+     *
+     * @return the event, or {@code null} if the log has no topics or its first topic is not
+     * one of the events of this ABI.
+     */
+    @Nullable
+    public Event getEvent(ContractLogInfo log) {
+        return log.topics.isEmpty() ? null : eventsByTopic.get(ByteString.copyFrom(log.topics.get(0)));
+    }
+
+    private static <T> T lookup(
+        String kind,
+        String nameOrSignature,
+        Map<String, List<T>> byName,
+        Map<String, T> bySignature)
+    {
+        final int paren = nameOrSignature.indexOf('(');
+
+        if (paren >= 0) {
+            // accept e.g. `transfer(address, uint)` as well as the canonical signature
+            final String signature = nameOrSignature.substring(0, paren).trim()
+                + AbiType.parseList(nameOrSignature.substring(paren)).name;
+
+            final T found = bySignature.get(signature);
+
+            if (found == null) {
+                throw new IllegalArgumentException("no " + kind + " with signature " + signature);
+            }
+
+            return found;
+        }
+
+        final List<T> found = byName.get(nameOrSignature);
+
+        if (found == null) {
+            throw new IllegalArgumentException("no " + kind + " named " + nameOrSignature);
+        }
+
+        if (found.size() > 1) {
+            throw new IllegalArgumentException(kind + " " + nameOrSignature
+                + " is overloaded; look it up by signature instead");
+        }
+
+        return found.get(0);
+    }
+
+    private static int selectorKey(byte[] selector, int offset) {
+        return (selector[offset] & 0xFF) << 24
+            | (selector[offset + 1] & 0xFF) << 16
+            | (selector[offset + 2] & 0xFF) << 8
+            | (selector[offset + 3] & 0xFF);
+    }
+
+    private static String requireName(AbiEntry entry) {
+        if (entry.name == null) {
+            throw new IllegalArgumentException("contract ABI has a " + entry.type + " without a name");
+        }
+
+        return entry.name;
+    }
+
+    private static AbiType parseParams(@Nullable List<AbiParam> params) {
+        final List<AbiType> types = new ArrayList<>();
+
+        if (params != null) {
+            for (final AbiParam param : params) {
+                types.add(parseParam(param));
+            }
+        }
+
+        return AbiType.tuple(types);
+    }
+
+    private static AbiType parseParam(AbiParam param) {
+        if (param.type == null) {
+            throw new IllegalArgumentException("contract ABI has a parameter without a type");
+        }
+
+        // structs are `tuple`, `tuple[]`, etc. with the fields of the struct in `components`
+        if (param.type.startsWith("tuple")) {
+            final String arraySuffix = param.type.substring("tuple".length());
+            return AbiType.parse(parseParams(param.components).name + arraySuffix);
+        }
+
+        return AbiType.parse(param.type);
+    }
+
+    private static boolean[] indexedFlags(@Nullable List<AbiParam> params) {
+        if (params == null) {
+            return new boolean[0];
+        }
+
+        final boolean[] indexed = new boolean[params.size()];
+
+        for (int i = 0; i < indexed.length; i++) {
+            indexed[i] = params.get(i).indexed;
+        }
+
+        return indexed;
+    }
+
+    /**
+     * A function of a contract, with its selector and parameter and return types.
+     */
+    public static final class Function {
+        private final String name;
+        private final String signature;
+        private final byte[] selector;
+        private final AbiType inputs;
+        private final ContractFunctionDecoder outputDecoder;
+
+        private Function(String name, AbiType inputs, AbiType outputs) {
+            this.name = name;
+            this.signature = name + inputs.name;
+            this.selector = ContractFunctionSelector.forSignature(signature);
+            this.inputs = inputs;
+            this.outputDecoder = new ContractFunctionDecoder(outputs);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the canonical signature, e.g. {@code transfer(address,uint256)}.
+         */
+        public String getSignature() {
+            return signature;
+        }
+
+        public byte[] getSelector() {
+            return selector.clone();
+        }
+
+        /**
+         * Get a decoder for the values this function returns.
+         */
+        public ContractFunctionDecoder getOutputDecoder() {
+            return outputDecoder;
+        }
+
+        /**
+         * Decode the values this function returned.
+         */
+        public ContractFunctionValues decodeResult(ContractFunctionResult result) {
+            return outputDecoder.decode(result);
+        }
+
+        /**
+         * Encode a call to this function, with the selector already computed from the ABI.
+         *
+         * @throws IllegalArgumentException if {@code params} does not have the number of
+         *                                  parameters this function takes, or a parameter's type
+         *                                  is not compatible with the function's, e.g. a
+         *                                  {@code string} where an integer was expected. Integer
+         *                                  and fixed-size byte array widths need not match as they
+         *                                  are encoded the same.
+         */
+        public byte[] encodeCall(ContractFunctionParams params) {
+            return encode(params).toByteArray();
+        }
+
+        ByteString encode(ContractFunctionParams params) {
+            final int count = params.getParamCount();
+
+            if (count != inputs.components.size()) {
+                throw new IllegalArgumentException(signature + " takes "
+                    + inputs.components.size() + " parameters but " + count + " were given");
+            }
+
+            for (int i = 0; i < count; i++) {
+                final AbiType expected = inputs.components.get(i);
+                final AbiType given = AbiType.of(params.getParamType(i));
+
+                if (!expected.isCompatible(given)) {
+                    throw new IllegalArgumentException("parameter " + i + " of " + signature + " is "
+                        + expected.name + " but " + given.name + " was given");
+                }
+            }
+
+            return params.encode(selector);
+        }
+
+        @Override
+        public String toString() {
+            return signature;
+        }
+    }
+
+    /**
+     * An event a contract can emit, with its topic and parameter types.
+     */
+    public static final class Event {
+        private final String name;
+        private final String signature;
+        private final ByteString topic;
+        private final boolean anonymous;
+        private final AbiType inputs;
+        private final boolean[] indexed;
+        private final ContractFunctionDecoder dataDecoder;
+        private final ContractFunctionDecoder indexedDecoder;
+
+        private Event(String name, AbiType inputs, boolean[] indexed, boolean anonymous) {
+            this.name = name;
+            this.signature = name + inputs.name;
+            this.topic = ByteString.copyFrom(ContractFunctionSelector.keccak256(signature));
+            this.anonymous = anonymous;
+            this.inputs = inputs;
+            this.indexed = indexed;
+
+            // indexed parameters are in the topics; the others are encoded together in the data
+            final List<AbiType> dataTypes = new ArrayList<>();
+
+            for (int i = 0; i < indexed.length; i++) {
+                if (!indexed[i]) {
+                    dataTypes.add(inputs.components.get(i));
+                }
+            }
+
+            this.dataDecoder = new ContractFunctionDecoder(AbiType.tuple(dataTypes));
+
+            // the topics after the first hold the indexed values, or their hashes if they're dynamic
+            final List<AbiType> indexedTypes = new ArrayList<>();
+
+            for (int i = 0; i < indexed.length; i++) {
+                if (indexed[i]) {
+                    final AbiType type = inputs.components.get(i);
+                    indexedTypes.add(type.isDynamic || type.kind == AbiType.Kind.TUPLE
+                        || type.kind == AbiType.Kind.FIXED_ARRAY ? AbiType.of("bytes32") : type);
+                }
+            }
+
+            this.indexedDecoder = new ContractFunctionDecoder(AbiType.tuple(indexedTypes));
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the canonical signature, e.g. {@code Transfer(address,address,uint256)}.
+         */
+        public String getSignature() {
+            return signature;
+        }
+
+        /**
+         * Get the hash of the signature, which is the first topic of every log emitted for this
+         * event unless it is anonymous.
+         */
+        public byte[] getTopic() {
+            return topic.toByteArray();
+        }
+
+        public boolean isAnonymous() {
+            return anonymous;
+        }
+
+        /**
+         * Get the number of parameters of this event, indexed or not.
+         */
+        public int getParamCount() {
+            return indexed.length;
+        }
+
+        /**
+         * Check whether the parameter at an index is indexed, so its value (or the hash of its
+         * value if it is dynamic) is one of the topics of the log rather than part of its data.
+         */
+        public boolean isIndexed(int index) {
+            return indexed[index];
+        }
+
+        /**
+         * Get the canonical type of the parameter at an index.
+         */
+        public String getParamType(int index) {
+            return inputs.components.get(index).name;
+        }
+
+        /**
+         * Get a decoder for the data of logs emitted for this event, which holds the values of
+         * the parameters which are not indexed, in order.
+         */
+        public ContractFunctionDecoder getDataDecoder() {
+            return dataDecoder;
+        }
+
+        /**
+         * Get a decoder for the topics of logs emitted for this event, after the first unless it
+         * is anonymous, which hold the values of the indexed parameters in order. Indexed arrays,
+         * strings, bytes and tuples are hashed, so they decode as {@code bytes32}.
+         */
+        public ContractFunctionDecoder getIndexedDecoder() {
+            return indexedDecoder;
+        }
+
+        ByteString getTopicBytes() {
+            return topic;
+        }
+
+        /**
+         * Decode the values of the parameters which are not indexed from a log emitted for this
+         * event.
+         */
+        public ContractFunctionValues decodeData(ContractLogInfo log) {
+            return dataDecoder.decode(log.data);
+        }
+
+        @Override
+        public String toString() {
+            return signature;
+        }
+    }
+
+    private static final class AbiEntry {
+        @Nullable
+        private String type;
+        @Nullable
+        private String name;
+        @Nullable
+        private List<AbiParam> inputs;
+        @Nullable
+        private List<AbiParam> outputs;
+        private boolean anonymous;
+    }
+
+    private static final class AbiParam {
+        @Nullable
+        private String type;
+        @Nullable
+        private List<AbiParam> components;
+        private boolean indexed;
+    }
+}
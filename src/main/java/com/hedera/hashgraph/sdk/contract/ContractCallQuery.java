@@ -93,6 +93,20 @@ public class ContractCallQuery extends QueryBuilder<ContractFunctionResult, Cont
         return this;
     }
 
+    /**
+     * Set the function to call, from a {@link ContractAbi}, and the parameters to pass.
+     *
+     * @param function the function to call; its selector was calculated when the ABI was loaded.
+     * @param params the params to pass to the function being executed.
+     * @return {@code this} for fluent API usage.
+     * @throws IllegalArgumentException if {@code params} do not match the parameters the function
+     *                                  takes.
+     */
+    public ContractCallQuery setFunction(ContractAbi.Function function, ContractFunctionParams params) {
+        builder.setFunctionParameters(function.encode(params));
+        return this;
+    }
+
     public ContractCallQuery setMaxResultSize(long size) {
         builder.setMaxResultSize(size);
         return this;
@@ -0,0 +1,72 @@
+package com.hedera.hashgraph.sdk.contract;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.proto.ContractLoginfo;
+
+/**
+ * A log emitted by a contract for a known {@link ContractAbi.Event}, as found by a
+ * {@link ContractLogFilter}.
+ * <p>
+ * Nothing is copied out of the log until it is asked for; {@link #getData()} and
+ * {@link #getIndexed()} decode lazily, like {@link ContractFunctionDecoder}.
+ */
+public final class ContractEventLog {
+    private final ContractAbi.Event event;
+    private final ContractLoginfo log;
+
+    ContractEventLog(ContractAbi.Event event, ContractLoginfo log) {
+        this.event = event;
+        this.log = log;
+    }
+
+    /**
+     * Get the event this log was emitted for.
+     */
+    public ContractAbi.Event getEvent() {
+        return event;
+    }
+
+    /**
+     * Get the ID of the contract which emitted this log.
+     */
+    public ContractId getContractId() {
+        return new ContractId(log.getContractIDOrBuilder());
+    }
+
+    /**
+     * Get the values of the indexed parameters of the event, in order, decoded from the topics.
+     *
+     * @see ContractAbi.Event#getIndexedDecoder()
+     */
+    public ContractFunctionValues getIndexed() {
+        // the first topic is the event's, unless it's anonymous
+        final int first = event.isAnonymous() ? 0 : 1;
+        final int count = log.getTopicCount() - first;
+
+        return event.getIndexedDecoder().decode(count == 1
+            ? log.getTopic(first)
+            : ByteString.copyFrom(log.getTopicList().subList(first, first + Math.max(count, 0))));
+    }
+
+    /**
+     * Get the values of the parameters of the event which are not indexed, in order, decoded from
+     * the data of the log.
+     *
+     * @see ContractAbi.Event#getDataDecoder()
+     */
+    public ContractFunctionValues getData() {
+        return event.getDataDecoder().decode(log.getData());
+    }
+
+    /**
+     * Convert to the untyped {@link ContractLogInfo}, copying the bloom, topics and data.
+     */
+    public ContractLogInfo toLogInfo() {
+        return new ContractLogInfo(log);
+    }
+
+    @Override
+    public String toString() {
+        return event + " from " + getContractId();
+    }
+}
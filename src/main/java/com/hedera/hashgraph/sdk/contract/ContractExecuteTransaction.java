@@ -97,6 +97,20 @@ public final class ContractExecuteTransaction extends TransactionBuilder<Contrac
         return this;
     }
 
+    /**
+     * Set the function to execute, from a {@link ContractAbi}, and the parameters to pass.
+     *
+     * @param function the function to call; its selector was calculated when the ABI was loaded.
+     * @param params the params to pass to the function being executed.
+     * @return {@code this} for fluent API usage.
+     * @throws IllegalArgumentException if {@code params} do not match the parameters the function
+     *                                  takes.
+     */
+    public ContractExecuteTransaction setFunction(ContractAbi.Function function, ContractFunctionParams params) {
+        builder.setFunctionParameters(function.encode(params));
+        return this;
+    }
+
     @Override
     protected MethodDescriptor<Transaction, TransactionResponse> getMethod() {
         return SmartContractServiceGrpc.getContractCallMethodMethod();
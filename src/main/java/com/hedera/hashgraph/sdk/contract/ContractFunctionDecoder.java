@@ -0,0 +1,87 @@
+package com.hedera.hashgraph.sdk.contract;
+
+import com.google.protobuf.ByteString;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes the ABI-encoded values returned by a contract function, given the Solidity types of
+ * its outputs.
+ * <p>
+ * The types are parsed once when the decoder is created, so a decoder should be created once
+ * per function and reused for every result:
+ *
+ * <pre>{@code
+ * static final ContractFunctionDecoder GET_HOLDERS =
+ *     ContractFunctionDecoder.forTypes("address[],uint256[]");
+ *
+ * ContractFunctionValues values = GET_HOLDERS.decode(result);
+ * String[] holders = values.getAddressArray(0);
+ * BigInteger[] balances = values.getUint256Array(1);
+ * }</pre>
+ * <p>
+ * Decoders are immutable and safe to share between threads.
+ */
+public final class ContractFunctionDecoder {
+    private final AbiType outputTypes;
+
+    ContractFunctionDecoder(AbiType outputTypes) {
+        this.outputTypes = outputTypes;
+    }
+
+    /**
+     * Create a decoder for the given output types, as a comma-separated list with or without
+     * parentheses, e.g. {@code (uint256,string[])} or {@code address,(uint64,bool)[]}.
+     * <p>
+     * All elementary types are supported except fixed-point numbers, as well as tuples and
+     * nested arrays.
+     *
+     * @throws IllegalArgumentException if any type is malformed or not supported.
+     */
+    public static ContractFunctionDecoder forTypes(String outputTypes) {
+        return new ContractFunctionDecoder(AbiType.parseList(outputTypes));
+    }
+
+    /**
+     * Get a view over the values in the result of a contract call.
+     *
+     * @throws IllegalArgumentException if the result is too short for the output types.
+     */
+    public ContractFunctionValues decode(ContractFunctionResult result) {
+        return decode(result.getRawResult());
+    }
+
+    /**
+     * Get a view over ABI-encoded values; the array must not be modified while the view is in
+     * use.
+     *
+     * @throws IllegalArgumentException if the data is too short for the output types.
+     */
+    public ContractFunctionValues decode(byte[] encoded) {
+        return decode(ByteBuffer.wrap(encoded).asReadOnlyBuffer());
+    }
+
+    ContractFunctionValues decode(ByteString encoded) {
+        // `slice()` so index 0 is the start of the data even if it's a substring
+        return decode(encoded.asReadOnlyByteBuffer().slice());
+    }
+
+    private ContractFunctionValues decode(ByteBuffer buffer) {
+        final int headLen = outputTypes.tupleHeadLen();
+
+        if (buffer.limit() < headLen) {
+            throw new IllegalArgumentException("result is " + buffer.limit() + " bytes but "
+                + outputTypes + " needs at least " + headLen);
+        }
+
+        return new ContractFunctionValues(buffer, 0, outputTypes);
+    }
+
+    /**
+     * Get the canonical output types, e.g. {@code (uint256,string[])}.
+     */
+    @Override
+    public String toString() {
+        return outputTypes.name;
+    }
+}
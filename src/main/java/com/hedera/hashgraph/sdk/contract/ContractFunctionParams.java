@@ -1,6 +1,7 @@
 package com.hedera.hashgraph.sdk.contract;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.hedera.hashgraph.sdk.SolidityUtil;
 
 import org.bouncycastle.util.encoders.DecoderException;
@@ -9,14 +10,12 @@ import org.bouncycastle.util.encoders.Hex;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nullable;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 // an implementation of function selector and parameter encoding as specified here:
 // https://solidity.readthedocs.io/en/v0.5.7/abi-spec.html#
 
@@ -43,18 +42,19 @@ public final class ContractFunctionParams {
      * Function selector length in hex characters
      */
     public static final int SELECTOR_LEN_HEX = 8;
-    // padding that we can substring without new allocations
-    private static final ByteString padding = ByteString.copyFrom(new byte[31]);
-    private static final ByteString negativePadding;
-
-    static {
-        final byte[] fill = new byte[31];
-        Arrays.fill(fill, (byte) 0xFF);
-        negativePadding = ByteString.copyFrom(fill);
-    }
+    // every value and every offset is encoded as one 32-byte word
+    static final int WORD_LEN = 32;
 
+    // parameters are kept in a form that can be written straight into the final encoding; the
+    // whole encoding is only produced by `toBytes()`, in a single array of exactly the right size
     private final ArrayList<Argument> args = new ArrayList<>();
 
+    // the selector computed by the last call to `toBytes()`, reused while no parameters are added
+    @Nullable
+    private String selectorFuncName;
+    @Nullable
+    private byte[] selector;
+
     /**
      * Add a parameter of type {@code string}.
      * <p>
@@ -63,9 +63,7 @@ public final class ContractFunctionParams {
      * @return {@code this} for fluent usage
      */
     public ContractFunctionParams addString(String param) {
-        args.add(new Argument("string", encodeString(param), true));
-
-        return this;
+        return addArg(new BytesArg("string", param.getBytes(UTF_8)));
     }
 
     /**
@@ -74,65 +72,62 @@ public final class ContractFunctionParams {
      * @throws NullPointerException if any value in `strings` is null
      */
     public ContractFunctionParams addStringArray(String[] strings) {
-        final List<ByteString> byteStrings = Arrays.stream(strings)
-            .map(ContractFunctionParams::encodeString)
-            .collect(Collectors.toList());
+        final byte[][] elements = new byte[strings.length][];
 
-        final ByteString argBytes = encodeDynArr(byteStrings);
-
-        args.add(new Argument("string[]", argBytes, true));
+        for (int i = 0; i < strings.length; i++) {
+            elements[i] = strings[i].getBytes(UTF_8);
+        }
 
-        return this;
+        return addArg(new BytesArrayArg("string[]", elements));
     }
 
     /**
      * Add a parameter of type {@code bytes}, a byte-string.
      */
     public ContractFunctionParams addBytes(byte[] param) {
-        args.add(new Argument("bytes", encodeBytes(param), true));
-
-        return this;
+        return addArg(new BytesArg("bytes", param.clone()));
     }
 
     /**
      * Add a parameter of type {@code bytes[]}, an array of byte-strings.
      */
     public ContractFunctionParams addBytesArray(byte[][] param) {
-        final List<ByteString> byteArrays = Arrays.stream(param)
-            .map(ContractFunctionParams::encodeBytes)
-            .collect(Collectors.toList());
+        final byte[][] elements = new byte[param.length][];
 
-        args.add(new Argument("bytes[]", encodeDynArr(byteArrays), true));
+        for (int i = 0; i < param.length; i++) {
+            elements[i] = param[i].clone();
+        }
 
-        return this;
+        return addArg(new BytesArrayArg("bytes[]", elements));
     }
 
     /**
      * Add a parameter of type {@code bytes32}, a 32-byte byte-string.
+     * <p>
+     * Shorter values are padded with zeroes on the right; longer values are truncated.
      */
     public ContractFunctionParams addBytes32(byte[] param) {
-        args.add(new Argument("bytes32", encodeBytes32(param), false));
-
-        return this;
+        return addArg(new WordArg("bytes32", Arrays.copyOf(param, WORD_LEN)));
     }
 
     /**
      * Add a parameter of type {@code bytes32[]}, an array of 32-byte byte-strings.
+     * <p>
+     * Shorter values are padded with zeroes on the right; longer values are truncated.
      */
     public ContractFunctionParams addBytes32Array(byte[][] param) {
-        final List<ByteString> byteArrays = Arrays.stream(param)
-            .map(ContractFunctionParams::encodeBytes32)
-            .collect(Collectors.toList());
+        final byte[] words = new byte[param.length * WORD_LEN];
 
-        args.add(new Argument("bytes32[]", encodeDynArr(byteArrays), true));
+        for (int i = 0; i < param.length; i++) {
+            System.arraycopy(param[i], 0, words, i * WORD_LEN, Math.min(param[i].length, WORD_LEN));
+        }
 
-        return this;
+        return addArg(new WordArrayArg("bytes32[]", words));
     }
 
     public ContractFunctionParams addBool(boolean bool) {
         // boolean encodes to `uint8` of values [0, 1]
-        args.add(new Argument("bool", int256(bool ? 1 : 0, 8), false));
-        return this;
+        return addArg(new IntArg("bool", bool ? 1 : 0, 8, true));
     }
 
     /**
@@ -141,27 +136,21 @@ public final class ContractFunctionParams {
      * @implNote The implementation is wasteful as we must pad to 32-bytes to store 1 byte.
      */
     public ContractFunctionParams addInt8(byte value) {
-        args.add(new Argument("int8", int256(value, 32), false));
-
-        return this;
+        return addArg(new IntArg("int8", value, 32, true));
     }
 
     /**
      * Add a 32-bit integer.
      */
     public ContractFunctionParams addInt32(int value) {
-        args.add(new Argument("int32", int256(value, 32), false));
-
-        return this;
+        return addArg(new IntArg("int32", value, 32, true));
     }
 
     /**
      * Add a 64-bit integer.
      */
     public ContractFunctionParams addInt64(long value) {
-        args.add(new Argument("int64", int256(value, 64), false));
-
-        return this;
+        return addArg(new IntArg("int64", value, 64, true));
     }
 
     /**
@@ -172,9 +161,7 @@ public final class ContractFunctionParams {
      */
     public ContractFunctionParams addInt256(BigInteger bigInt) {
         checkBigInt(bigInt);
-        args.add(new Argument("int256", int256(bigInt), false));
-
-        return this;
+        return addArg(new BigIntArg("int256", bigInt));
     }
 
     /**
@@ -183,47 +170,21 @@ public final class ContractFunctionParams {
      * @implNote The implementation is wasteful as we must pad to 32-bytes to store 1 byte.
      */
     public ContractFunctionParams addInt8Array(byte[] intArray) {
-        IntStream intStream = IntStream.range(0, intArray.length).map(idx -> intArray[idx]);
-
-        ByteString arrayBytes = ByteString.copyFrom(
-            intStream.mapToObj(i -> int256(i, 8))
-                .collect(Collectors.toList()));
-
-        arrayBytes = uint256(intArray.length, 32).concat(arrayBytes);
-
-        args.add(new Argument("int8[]", arrayBytes, true));
-
-        return this;
+        return addArg(new IntArrayArg("int8[]", widen(intArray), 8, true));
     }
 
     /**
      * Add a dynamic array of 32-bit integers.
      */
     public ContractFunctionParams addInt32Array(int[] intArray) {
-        ByteString arrayBytes = ByteString.copyFrom(
-            Arrays.stream(intArray).mapToObj(i -> int256(i, 32))
-                .collect(Collectors.toList()));
-
-        arrayBytes = uint256(intArray.length, 32).concat(arrayBytes);
-
-        args.add(new Argument("int32[]", arrayBytes, true));
-
-        return this;
+        return addArg(new IntArrayArg("int32[]", widen(intArray), 32, true));
     }
 
     /**
      * Add a dynamic array of 64-bit integers.
      */
     public ContractFunctionParams addInt64Array(long[] intArray) {
-        ByteString arrayBytes = ByteString.copyFrom(
-            Arrays.stream(intArray).mapToObj(i -> int256(i, 64))
-                .collect(Collectors.toList()));
-
-        arrayBytes = uint256(intArray.length, 64).concat(arrayBytes);
-
-        args.add(new Argument("int64[]", arrayBytes, true));
-
-        return this;
+        return addArg(new IntArrayArg("int64[]", intArray.clone(), 64, true));
     }
 
     /**
@@ -233,15 +194,11 @@ public final class ContractFunctionParams {
      *                                  (max range including the sign bit).
      */
     public ContractFunctionParams addInt256Array(BigInteger[] intArray) {
-        ByteString arrayBytes = ByteString.copyFrom(
-            Arrays.stream(intArray).map(ContractFunctionParams::int256)
-                .collect(Collectors.toList()));
-
-        arrayBytes = uint256(intArray.length, 256).concat(arrayBytes);
-
-        args.add(new Argument("int256[]", arrayBytes, true));
+        for (final BigInteger bigInt : intArray) {
+            checkBigInt(bigInt);
+        }
 
-        return this;
+        return addArg(new BigIntArrayArg("int256[]", intArray.clone()));
     }
 
     /**
@@ -250,9 +207,7 @@ public final class ContractFunctionParams {
      * @implNote The implementation is wasteful as we must pad to 32-bytes to store 1 byte.
      */
     public ContractFunctionParams addUint8(byte value) {
-        args.add(new Argument("uint8", uint256(value, 8), false));
-
-        return this;
+        return addArg(new IntArg("uint8", value, 8, false));
     }
 
     /**
@@ -262,9 +217,7 @@ public final class ContractFunctionParams {
      * sign-extended to 32 bytes).
      */
     public ContractFunctionParams addUint32(int value) {
-        args.add(new Argument("uint32", uint256(value, 32), false));
-
-        return this;
+        return addArg(new IntArg("uint32", value, 32, false));
     }
 
     /**
@@ -274,9 +227,7 @@ public final class ContractFunctionParams {
      * sign-extended to 32 bytes).
      */
     public ContractFunctionParams addUint64(long value) {
-        args.add(new Argument("uint64", uint256(value, 64), false));
-
-        return this;
+        return addArg(new IntArg("uint64", value, 64, false));
     }
 
     /**
@@ -291,9 +242,7 @@ public final class ContractFunctionParams {
      */
     public ContractFunctionParams addUint256(@Nonnegative BigInteger bigUint) {
         checkBigUint(bigUint);
-        args.add(new Argument("uint256", uint256(bigUint), false));
-
-        return this;
+        return addArg(new BigIntArg("uint256", bigUint));
     }
 
     /**
@@ -302,17 +251,7 @@ public final class ContractFunctionParams {
      * @implNote The implementation is wasteful as we must pad to 32-bytes to store 1 byte.
      */
     public ContractFunctionParams addUint8Array(byte[] intArray) {
-        IntStream intStream = IntStream.range(0, intArray.length).map(idx -> intArray[idx]);
-
-        ByteString arrayBytes = ByteString.copyFrom(
-            intStream.mapToObj(i -> uint256(i, 8))
-                .collect(Collectors.toList()));
-
-        arrayBytes = uint256(intArray.length, 32).concat(arrayBytes);
-
-        args.add(new Argument("uint8[]", arrayBytes, true));
-
-        return this;
+        return addArg(new IntArrayArg("uint8[]", widen(intArray), 8, false));
     }
 
     /**
@@ -322,15 +261,7 @@ public final class ContractFunctionParams {
      * sign-extended to 32 bytes).
      */
     public ContractFunctionParams addUint32Array(int[] intArray) {
-        ByteString arrayBytes = ByteString.copyFrom(
-            Arrays.stream(intArray).mapToObj(i -> uint256(i, 32))
-                .collect(Collectors.toList()));
-
-        arrayBytes = uint256(intArray.length, 32).concat(arrayBytes);
-
-        args.add(new Argument("uint32[]", arrayBytes, true));
-
-        return this;
+        return addArg(new IntArrayArg("uint32[]", widen(intArray), 32, false));
     }
 
     /**
@@ -340,15 +271,7 @@ public final class ContractFunctionParams {
      * sign-extended to 32 bytes).
      */
     public ContractFunctionParams addUint64Array(long[] intArray) {
-        ByteString arrayBytes = ByteString.copyFrom(
-            Arrays.stream(intArray).mapToObj(i -> uint256(i, 64))
-                .collect(Collectors.toList()));
-
-        arrayBytes = uint256(intArray.length, 64).concat(arrayBytes);
-
-        args.add(new Argument("uint64[]", arrayBytes, true));
-
-        return this;
+        return addArg(new IntArrayArg("uint64[]", intArray.clone(), 64, false));
     }
 
     /**
@@ -361,15 +284,11 @@ public final class ContractFunctionParams {
      *                                  (max range including the sign bit) or is negative.
      */
     public ContractFunctionParams addUint256Array(BigInteger[] intArray) {
-        ByteString arrayBytes = ByteString.copyFrom(
-            Arrays.stream(intArray).map(ContractFunctionParams::uint256)
-                .collect(Collectors.toList()));
-
-        arrayBytes = uint256(intArray.length, 256).concat(arrayBytes);
-
-        args.add(new Argument("uint256[]", arrayBytes, true));
+        for (final BigInteger bigUint : intArray) {
+            checkBigUint(bigUint);
+        }
 
-        return this;
+        return addArg(new BigIntArrayArg("uint256[]", intArray.clone()));
     }
 
     /**
@@ -383,11 +302,10 @@ public final class ContractFunctionParams {
      *                                  characters long or fails to decode as hexadecimal.
      */
     public ContractFunctionParams addAddress(String address) {
-        final byte[] addressBytes = decodeAddress(address);
-
-        args.add(new Argument("address", leftPad32(ByteString.copyFrom(addressBytes)), false));
+        final byte[] word = new byte[WORD_LEN];
+        decodeAddressInto(address, word, 0);
 
-        return this;
+        return addArg(new WordArg("address", word));
     }
 
     /**
@@ -399,16 +317,13 @@ public final class ContractFunctionParams {
      * @throws NullPointerException     if any value in the array is null.
      */
     public ContractFunctionParams addAddressArray(String[] addresses) {
-        final ByteString addressArray = encodeArray(
-            Arrays.stream(addresses).map(a -> {
-                final byte[] address = decodeAddress(a);
-                checkAddressLen(address);
-                return leftPad32(ByteString.copyFrom(address));
-            }));
+        final byte[] words = new byte[addresses.length * WORD_LEN];
 
-        args.add(new Argument("address[]", addressArray, true));
+        for (int i = 0; i < addresses.length; i++) {
+            decodeAddressInto(addresses[i], words, i * WORD_LEN);
+        }
 
-        return this;
+        return addArg(new WordArrayArg("address[]", words));
     }
 
     /**
@@ -447,82 +362,104 @@ public final class ContractFunctionParams {
      * @return the Solidity encoding of the call parameters in the order they were added.
      */
     ByteString toBytes(@Nullable String funcName) {
-        // offset for dynamic-length data, immediately after value arguments
-        int dynamicOffset = args.size() * 32;
-
-        ArrayList<ByteString> paramsBytes = new ArrayList<ByteString>(args.size() + 1);
+        return encode(funcName != null ? getSelector(funcName) : null);
+    }
 
-        ArrayList<ByteString> dynamicArgs = new ArrayList<ByteString>();
+    /**
+     * Get the encoding of the currently added parameters, prefixed with {@code selector} if it is
+     * not null.
+     */
+    ByteString encode(@Nullable byte[] selector) {
+        final int selectorLen = selector != null ? SELECTOR_LEN : 0;
 
-        final ContractFunctionSelector functionSelector = funcName != null
-            ? new ContractFunctionSelector(funcName) : null;
+        // every argument has one word in the head; dynamic arguments also have their data in
+        // the tail, which starts right after the head
+        final int headLen = args.size() * WORD_LEN;
+        int length = selectorLen + headLen;
 
-        // iterate the arguments and determine whether they are dynamic or not
-        for (Argument arg : args) {
-            if (functionSelector != null) {
-                 functionSelector.addParamType(arg.type);
+        for (final Argument arg : args) {
+            if (arg.isDynamic) {
+                length += arg.encodedLen;
             }
+        }
+
+        final byte[] out = new byte[length];
+
+        if (selector != null) {
+            System.arraycopy(selector, 0, out, 0, SELECTOR_LEN);
+        }
 
+        int headOffset = selectorLen;
+        // offsets in the head are relative to the start of the parameters, after the selector
+        int tailOffset = headLen;
+
+        for (final Argument arg : args) {
             if (arg.isDynamic) {
-                // dynamic arguments supply their offset in value position and append their data at
-                // that offset
-                paramsBytes.add(int256(dynamicOffset, 256));
-                dynamicArgs.add(arg.value);
-                dynamicOffset += arg.value.size();
+                writeInt(out, headOffset, tailOffset, 32, false);
+                arg.encode(out, selectorLen + tailOffset);
+                tailOffset += arg.encodedLen;
             } else {
-                // value arguments are dropped in the current arg position
-                paramsBytes.add(arg.value);
+                arg.encode(out, headOffset);
             }
-        }
 
-        if (functionSelector != null) {
-            paramsBytes.add(0, ByteString.copyFrom(functionSelector.finish()));
+            headOffset += WORD_LEN;
         }
 
-        paramsBytes.addAll(dynamicArgs);
-
-        return ByteString.copyFrom(paramsBytes);
+        // nothing else holds a reference to `out`
+        return UnsafeByteOperations.unsafeWrap(out);
     }
 
-    private static ByteString encodeString(String string) {
-        final ByteString strBytes = ByteString.copyFromUtf8(string);
-        // prepend the size of the string in UTF-8 bytes
-        return int256(strBytes.size(), 32)
-            .concat(rightPad32(strBytes));
+    int getParamCount() {
+        return args.size();
     }
 
-    private static ByteString encodeBytes(byte[] bytes) {
-        return int256(bytes.length, 32)
-            .concat(rightPad32(ByteString.copyFrom(bytes)));
+    String getParamType(int index) {
+        return args.get(index).type;
     }
 
-    private static ByteString encodeBytes32(byte[] bytes) {
-        return rightPad32(ByteString.copyFrom(bytes, 0, 32));
+    private ContractFunctionParams addArg(Argument arg) {
+        args.add(arg);
+
+        // the selector includes the parameter types
+        selector = null;
+        selectorFuncName = null;
+
+        return this;
     }
 
-    private static ByteString encodeArray(Stream<ByteString> elements) {
-        final List<ByteString> list = elements.collect(Collectors.toList());
+    private byte[] getSelector(String funcName) {
+        if (selector == null || !funcName.equals(selectorFuncName)) {
+            final ContractFunctionSelector functionSelector = new ContractFunctionSelector(funcName);
 
-        return int256(list.size(), 32)
-            .concat(ByteString.copyFrom(list));
+            for (final Argument arg : args) {
+                functionSelector.addParamType(arg.type);
+            }
+
+            selector = functionSelector.finish();
+            selectorFuncName = funcName;
+        }
+
+        return selector;
     }
 
-    private static ByteString encodeDynArr(List<ByteString> elements) {
-        final int offsetsLen = elements.size() + 1;
+    private static long[] widen(byte[] values) {
+        final long[] widened = new long[values.length];
 
-        final ArrayList<ByteString> offsets = new ArrayList<ByteString>(offsetsLen);
+        for (int i = 0; i < values.length; i++) {
+            widened[i] = values[i];
+        }
 
-        offsets.add(uint256(elements.size(), 32));
+        return widened;
+    }
 
-        // points to start of dynamic segment
-        long currOffset = offsetsLen * 32L;
+    private static long[] widen(int[] values) {
+        final long[] widened = new long[values.length];
 
-        for (final ByteString elem : elements) {
-            offsets.add(uint256(currOffset, 64));
-            currOffset += elem.size();
+        for (int i = 0; i < values.length; i++) {
+            widened[i] = values[i];
         }
 
-        return ByteString.copyFrom(offsets).concat(ByteString.copyFrom(elements));
+        return widened;
     }
 
     private static void checkBigInt(BigInteger val) {
@@ -552,57 +489,58 @@ public final class ContractFunctionParams {
     }
 
     static ByteString int256(long val, int bitWidth, boolean signed) {
+        final byte[] word = new byte[WORD_LEN];
+        writeInt(word, 0, val, bitWidth, signed);
+        return UnsafeByteOperations.unsafeWrap(word);
+    }
+
+    /**
+     * Write the lowest {@code bitWidth} bits of {@code val} as a 32-byte big-endian word,
+     * sign-extended if {@code signed} or else zero-padded.
+     * <p>
+     * Like all the encoding methods here this expects {@code out} to be zeroed, as freshly
+     * allocated arrays are, and only writes bytes which are not zero.
+     */
+    static void writeInt(byte[] out, int offset, long val, int bitWidth, boolean signed) {
         // don't try to get wider than a `long` as it should just be filled with padding
-        bitWidth = Math.min(bitWidth, 64);
-        final ByteString.Output output = ByteString.newOutput(bitWidth / 8);
+        final int valueLen = Math.min(bitWidth, 64) / 8;
+        final int padLen = WORD_LEN - valueLen;
+
+        if (signed && val < 0) {
+            Arrays.fill(out, offset, offset + padLen, (byte) 0xFF);
+        }
 
         // write bytes in big-endian order
-        for (int i = bitWidth - 8; i >= 0; i -= 8) {
+        for (int i = 0; i < valueLen; i++) {
             // widening conversion sign-extends so we don't have to do anything special when
             // truncating a previously widened value
-            final byte u8 = (byte) (val >> i);
-            output.write(u8);
-        }
-
-        // byte padding will sign-extend appropriately
-        return leftPad32(output.toByteString(), signed && val < 0);
-    }
-
-    static ByteString uint256(BigInteger bigInt) {
-        if (bigInt.bitLength() == 256) {
-            // we have to chop off the sign bit or else we'll have a 33 byte value
-            // we have no choice but to copy twice here but hopefully the JIT elides one
-            return ByteString.copyFrom(bigInt.toByteArray(), 1, 32);
+            out[offset + WORD_LEN - 1 - i] = (byte) (val >> (i * 8));
         }
-
-        return leftPad32(bigInt.toByteArray(), false);
     }
 
-    static ByteString int256(BigInteger bigInt) {
-        return leftPad32(bigInt.toByteArray(), bigInt.signum() < 0);
-    }
+    /**
+     * Write a signed or unsigned {@link BigInteger} which has already been range checked as a
+     * 32-byte big-endian word.
+     */
+    static void writeBigInt(byte[] out, int offset, BigInteger val) {
+        final byte[] bytes = val.toByteArray();
 
-    static ByteString leftPad32(ByteString input) {
-        return leftPad32(input, false);
-    }
+        // a 256-bit unsigned value has an extra byte for the sign bit which we chop off
+        final int skip = Math.max(bytes.length - WORD_LEN, 0);
+        final int len = bytes.length - skip;
 
-    // Solidity contracts require all parameters to be padded to 32 byte multiples but specifies
-    // different requirements for padding for strings/byte arrays vs integers
-    static ByteString leftPad32(ByteString input, boolean negative) {
-        int rem = 32 - input.size() % 32;
-        return rem == 32
-            ? input
-            : (negative ? negativePadding : padding).substring(0, rem)
-            .concat(input);
-    }
+        if (val.signum() < 0) {
+            Arrays.fill(out, offset, offset + WORD_LEN - len, (byte) 0xFF);
+        }
 
-    static ByteString leftPad32(byte[] input, boolean negative) {
-        return leftPad32(ByteString.copyFrom(input), negative);
+        System.arraycopy(bytes, skip, out, offset + WORD_LEN - len, len);
     }
 
-    static ByteString rightPad32(ByteString input) {
-        int rem = 32 - input.size() % 32;
-        return rem == 32 ? input : input.concat(padding.substring(0, rem));
+    /**
+     * Get the length of {@code len} bytes after right-padding them to a multiple of 32.
+     */
+    static int padLen32(int len) {
+        return (len + WORD_LEN - 1) / WORD_LEN * WORD_LEN;
     }
 
     private static void checkAddressLen(byte[] address) {
@@ -625,6 +563,14 @@ public final class ContractFunctionParams {
         }
     }
 
+    private static void decodeAddressInto(String address, byte[] out, int wordOffset) {
+        final byte[] addressBytes = decodeAddress(address);
+        checkAddressLen(addressBytes);
+
+        // addresses are left-padded like integers
+        System.arraycopy(addressBytes, 0, out, wordOffset + WORD_LEN - ADDRESS_LEN, ADDRESS_LEN);
+    }
+
     private ContractFunctionParams addFunction(byte[] address, byte[] selector) {
         checkAddressLen(address);
 
@@ -632,30 +578,189 @@ public final class ContractFunctionParams {
             throw new IllegalArgumentException("function selectors must be 4 bytes or 8 hex chars");
         }
 
-        final ByteString.Output output = ByteString.newOutput(ADDRESS_LEN + SELECTOR_LEN);
-        output.write(address, 0, address.length);
-        output.write(selector, 0, selector.length);
-
-        // function reference encodes as `bytes24`
-        args.add(new Argument("function", rightPad32(output.toByteString()), false));
+        // function reference encodes as `bytes24`, which is right-padded
+        final byte[] word = new byte[WORD_LEN];
+        System.arraycopy(address, 0, word, 0, ADDRESS_LEN);
+        System.arraycopy(selector, 0, word, ADDRESS_LEN, SELECTOR_LEN);
 
-        return this;
+        return addArg(new WordArg("function", word));
     }
 
-    private final static class Argument {
+    private abstract static class Argument {
         private final String type;
-        private final ByteString value;
         private final boolean isDynamic;
 
-        private Argument(String type, ByteString value, boolean isDynamic) {
+        // always one word for static arguments
+        private final int encodedLen;
+
+        private Argument(String type, boolean isDynamic, int encodedLen) {
             this.type = type;
-            if (!isDynamic && value.size() != 32) {
-                throw new IllegalArgumentException("value argument that was not 32 bytes");
-            }
+            this.isDynamic = isDynamic;
+            this.encodedLen = encodedLen;
+        }
+
+        /**
+         * Write exactly {@link #encodedLen} bytes of this argument at {@code offset}.
+         */
+        abstract void encode(byte[] out, int offset);
+    }
+
+    private static final class IntArg extends Argument {
+        private final long value;
+        private final int bitWidth;
+        private final boolean signed;
 
+        private IntArg(String type, long value, int bitWidth, boolean signed) {
+            super(type, false, WORD_LEN);
             this.value = value;
-            this.isDynamic = isDynamic;
+            this.bitWidth = bitWidth;
+            this.signed = signed;
+        }
+
+        @Override
+        void encode(byte[] out, int offset) {
+            writeInt(out, offset, value, bitWidth, signed);
+        }
+    }
+
+    private static final class BigIntArg extends Argument {
+        private final BigInteger value;
+
+        private BigIntArg(String type, BigInteger value) {
+            super(type, false, WORD_LEN);
+            this.value = value;
+        }
+
+        @Override
+        void encode(byte[] out, int offset) {
+            writeBigInt(out, offset, value);
         }
     }
 
+    // a static argument that is already encoded
+    private static final class WordArg extends Argument {
+        private final byte[] word;
+
+        private WordArg(String type, byte[] word) {
+            super(type, false, WORD_LEN);
+            this.word = word;
+        }
+
+        @Override
+        void encode(byte[] out, int offset) {
+            System.arraycopy(word, 0, out, offset, WORD_LEN);
+        }
+    }
+
+    // `bytes` and `string`: the length followed by the data right-padded to a whole word
+    private static final class BytesArg extends Argument {
+        private final byte[] data;
+
+        private BytesArg(String type, byte[] data) {
+            super(type, true, WORD_LEN + padLen32(data.length));
+            this.data = data;
+        }
+
+        @Override
+        void encode(byte[] out, int offset) {
+            writeInt(out, offset, data.length, 32, false);
+            System.arraycopy(data, 0, out, offset + WORD_LEN, data.length);
+        }
+    }
+
+    private static final class IntArrayArg extends Argument {
+        private final long[] values;
+        private final int bitWidth;
+        private final boolean signed;
+
+        private IntArrayArg(String type, long[] values, int bitWidth, boolean signed) {
+            super(type, true, (values.length + 1) * WORD_LEN);
+            this.values = values;
+            this.bitWidth = bitWidth;
+            this.signed = signed;
+        }
+
+        @Override
+        void encode(byte[] out, int offset) {
+            writeInt(out, offset, values.length, 32, false);
+
+            for (int i = 0; i < values.length; i++) {
+                writeInt(out, offset + (i + 1) * WORD_LEN, values[i], bitWidth, signed);
+            }
+        }
+    }
+
+    private static final class BigIntArrayArg extends Argument {
+        private final BigInteger[] values;
+
+        private BigIntArrayArg(String type, BigInteger[] values) {
+            super(type, true, (values.length + 1) * WORD_LEN);
+            this.values = values;
+        }
+
+        @Override
+        void encode(byte[] out, int offset) {
+            writeInt(out, offset, values.length, 32, false);
+
+            for (int i = 0; i < values.length; i++) {
+                writeBigInt(out, offset + (i + 1) * WORD_LEN, values[i]);
+            }
+        }
+    }
+
+    // an array of static elements which are already encoded, e.g. `address[]`
+    private static final class WordArrayArg extends Argument {
+        private final byte[] words;
+
+        private WordArrayArg(String type, byte[] words) {
+            super(type, true, WORD_LEN + words.length);
+            this.words = words;
+        }
+
+        @Override
+        void encode(byte[] out, int offset) {
+            writeInt(out, offset, words.length / WORD_LEN, 32, false);
+            System.arraycopy(words, 0, out, offset + WORD_LEN, words.length);
+        }
+    }
+
+    // an array of `bytes` or `string`: the length, the offset of each element relative to the
+    // first offset, then the elements encoded as `BytesArg` does
+    private static final class BytesArrayArg extends Argument {
+        private final byte[][] elements;
+
+        private BytesArrayArg(String type, byte[][] elements) {
+            super(type, true, encodedLen(elements));
+            this.elements = elements;
+        }
+
+        private static int encodedLen(byte[][] elements) {
+            int len = (elements.length + 1) * WORD_LEN;
+
+            for (final byte[] element : elements) {
+                len += WORD_LEN + padLen32(element.length);
+            }
+
+            return len;
+        }
+
+        @Override
+        void encode(byte[] out, int offset) {
+            writeInt(out, offset, elements.length, 32, false);
+
+            final int offsetsStart = offset + WORD_LEN;
+            int elementOffset = elements.length * WORD_LEN;
+
+            for (int i = 0; i < elements.length; i++) {
+                final byte[] element = elements[i];
+
+                writeInt(out, offsetsStart + i * WORD_LEN, elementOffset, 32, false);
+
+                writeInt(out, offsetsStart + elementOffset, element.length, 32, false);
+                System.arraycopy(element, 0, out, offsetsStart + elementOffset + WORD_LEN, element.length);
+
+                elementOffset += WORD_LEN + padLen32(element.length);
+            }
+        }
+    }
 }
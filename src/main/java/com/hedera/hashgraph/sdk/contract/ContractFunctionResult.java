@@ -2,6 +2,7 @@ package com.hedera.hashgraph.sdk.contract;
 
 import com.google.protobuf.ByteString;
 import com.hedera.hashgraph.proto.ContractFunctionResultOrBuilder;
+import com.hedera.hashgraph.proto.ContractLoginfo;
 import com.hedera.hashgraph.sdk.Internal;
 import com.hedera.hashgraph.sdk.TransactionRecord;
 
@@ -10,7 +11,10 @@ import org.bouncycastle.util.encoders.Hex;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.RandomAccess;
 
 import javax.annotation.Nullable;
 
@@ -28,6 +32,13 @@ import javax.annotation.Nullable;
 public final class ContractFunctionResult {
     private final ByteString rawResult;
 
+    // a view of `rawResult` starting at index 0, only used with absolute gets so it can be shared
+    private final ByteBuffer resultBuffer;
+
+    // kept so `ContractLogFilter` can test them without copying or constructing `ContractLogInfo`
+    private final ByteString rawBloom;
+    private final List<ContractLoginfo> rawLogs;
+
     /**
      * The ID of the contract that was invoked.
      */
@@ -40,6 +51,10 @@ public final class ContractFunctionResult {
 
     public final long gasUsed;
 
+    /**
+     * The logs emitted by the call; each is only converted from its protobuf form when it is
+     * first accessed.
+     */
     public final List<ContractLogInfo> logs;
 
     private static final ByteString errorPrefix = ByteString.copyFrom(new byte[]{8, -61, 121, -96});
@@ -64,11 +79,17 @@ public final class ContractFunctionResult {
             rawResult = callResult;
         }
 
-        bloom = inner.getBloom().toByteArray();
+        resultBuffer = rawResult.asReadOnlyByteBuffer().slice();
+
+        rawBloom = inner.getBloom();
+        bloom = rawBloom.toByteArray();
 
         gasUsed = inner.getGasUsed();
 
-        logs = inner.getLogInfoList().stream().map(ContractLogInfo::new).collect(Collectors.toList());
+        // a builder's list is a view which could change underneath us
+        rawLogs = inner instanceof com.hedera.hashgraph.proto.ContractFunctionResult
+            ? inner.getLogInfoList() : new ArrayList<>(inner.getLogInfoList());
+        logs = rawLogs.isEmpty() ? Collections.emptyList() : new LazyLogList(rawLogs);
     }
 
     /**
@@ -76,6 +97,28 @@ public final class ContractFunctionResult {
      */
     public byte[] asBytes() { return rawResult.toByteArray(); }
 
+    /**
+     * Decode the result with a {@link ContractFunctionDecoder} for the output types of the
+     * function, giving typed access to arrays and tuples as well.
+     *
+     * @see ContractFunctionDecoder#decode(ContractFunctionResult)
+     */
+    public ContractFunctionValues decode(ContractFunctionDecoder decoder) {
+        return decoder.decode(this);
+    }
+
+    ByteString getRawResult() {
+        return rawResult;
+    }
+
+    ByteString getRawBloom() {
+        return rawBloom;
+    }
+
+    List<ContractLoginfo> getRawLogs() {
+        return rawLogs;
+    }
+
     /**
      * Get the nth returned value as a string
      */
@@ -124,7 +167,7 @@ public final class ContractFunctionResult {
      * padded to 32 bytes in the ABI.)
      */
     public byte getInt8(int valIndex) {
-        return getByteBuffer(valIndex * 32 + 31).get();
+        return resultBuffer.get(valIndex * 32 + 31);
     }
 
     /**
@@ -145,7 +188,7 @@ public final class ContractFunctionResult {
      * integer narrowing semantics).
      */
     public long getInt64(int valIndex) {
-        return getByteBuffer(valIndex * 32 + 24).getLong();
+        return resultBuffer.getLong(valIndex * 32 + 24);
     }
 
     /**
@@ -237,20 +280,40 @@ public final class ContractFunctionResult {
     }
 
     private int getIntValueAt(int valueOffset) {
-        return getByteBuffer(valueOffset + 28).getInt();
-    }
-
-    private ByteBuffer getByteBuffer(int offset) {
-        // **NB** `.asReadOnlyByteBuffer()` on a substring returns a `ByteBuffer` with the
-        // offset set as `position()`, so be sure to advance the buffer relative to that
-        ByteBuffer byteBuffer = rawResult.asReadOnlyByteBuffer();
-        byteBuffer.position(byteBuffer.position() + offset);
-
-        return byteBuffer;
+        return resultBuffer.getInt(valueOffset + 28);
     }
 
     private ByteString getByteString(int startIndex, int endIndex) {
         return rawResult.substring(startIndex, endIndex);
     }
 
+
+    private static final class LazyLogList extends AbstractList<ContractLogInfo> implements RandomAccess {
+        private final List<ContractLoginfo> rawLogs;
+
+        // racy but benign: `ContractLogInfo` is immutable, so a log may at worst be converted twice
+        private final ContractLogInfo[] converted;
+
+        LazyLogList(List<ContractLoginfo> rawLogs) {
+            this.rawLogs = rawLogs;
+            this.converted = new ContractLogInfo[rawLogs.size()];
+        }
+
+        @Override
+        public ContractLogInfo get(int index) {
+            ContractLogInfo log = converted[index];
+
+            if (log == null) {
+                log = new ContractLogInfo(rawLogs.get(index));
+                converted[index] = log;
+            }
+
+            return log;
+        }
+
+        @Override
+        public int size() {
+            return converted.length;
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package com.hedera.hashgraph.sdk.contract;
 
+import com.hedera.hashgraph.sdk.BoundedCache;
+
 import org.bouncycastle.jcajce.provider.digest.Keccak;
 
 import java.util.Arrays;
@@ -13,13 +15,20 @@ import static java.nio.charset.StandardCharsets.US_ASCII;
 
 /**
  * Builder class for Solidity function selectors.
+ * <p>
+ * Selectors are interned by their signature, so building the selector of a function which has
+ * been called before in this process is a hash table lookup rather than a Keccak-256 hash.
  */
 @SuppressFBWarnings(value = {"EI_EXPOSE_REP"},
     justification = "we don't care about the contents of `finished`")
 public final class ContractFunctionSelector {
+    // bounds memory for callers that generate function names
+    private static final int MAX_INTERNED = 10_000;
+
+    private static final BoundedCache<String, byte[]> interned = new BoundedCache<>(MAX_INTERNED);
 
     @Nullable
-    private Keccak.Digest256 digest;
+    private StringBuilder signature;
 
     private boolean needsComma = false;
 
@@ -30,9 +39,7 @@ public final class ContractFunctionSelector {
      * Start building a selector for a function with a given name.
      */
     public ContractFunctionSelector(String funcName) {
-        digest = new Keccak.Digest256();
-        digest.update(funcName.getBytes(US_ASCII));
-        digest.update((byte) '(');
+        signature = new StringBuilder(funcName).append('(');
     }
 
     public ContractFunctionSelector addString() {
@@ -120,13 +127,13 @@ public final class ContractFunctionSelector {
             throw new IllegalStateException("FunctionSelector already finished");
         }
 
-        Objects.requireNonNull(digest);
+        Objects.requireNonNull(signature);
 
         if (needsComma) {
-            digest.update((byte) ',');
+            signature.append(',');
         }
 
-        digest.update(typeName.getBytes(US_ASCII));
+        signature.append(typeName);
         needsComma = true;
 
         return this;
@@ -140,17 +147,34 @@ public final class ContractFunctionSelector {
      * <p>
      * However, this can be called multiple times; it will always return the same result.
      *
-     * @return the computed selector bytes.
+     * @return the computed selector bytes, which may be shared and must not be modified.
      */
     byte[] finish() {
         if (finished == null) {
-            Objects.requireNonNull(digest);
-            digest.update((byte) ')');
-            finished = Arrays.copyOf(digest.digest(), 4);
-            // release digest state
-            digest = null;
+            Objects.requireNonNull(signature);
+            finished = forSignature(signature.append(')').toString());
+            // release the builder
+            signature = null;
         }
 
         return finished;
     }
+
+    /**
+     * Get the selector of a function from its canonical signature, e.g.
+     * {@code transfer(address,uint256)}.
+     *
+     * @return the selector, which is shared and must not be modified.
+     */
+    static byte[] forSignature(String signature) {
+        return interned.computeIfAbsent(signature,
+            s -> Arrays.copyOf(keccak256(s), ContractFunctionParams.SELECTOR_LEN));
+    }
+
+    /**
+     * Hash a function or event signature, the full result of which is the topic of an event.
+     */
+    static byte[] keccak256(String signature) {
+        return new Keccak.Digest256().digest(signature.getBytes(US_ASCII));
+    }
 }
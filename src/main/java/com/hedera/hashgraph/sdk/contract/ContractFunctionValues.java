@@ -0,0 +1,457 @@
+package com.hedera.hashgraph.sdk.contract;
+
+import org.bouncycastle.util.encoders.Hex;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import static com.hedera.hashgraph.sdk.contract.ContractFunctionParams.WORD_LEN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A typed view over ABI-encoded values, such as the result of a contract call, created by a
+ * {@link ContractFunctionDecoder}.
+ * <p>
+ * A view is either a tuple (the values returned by a function, or a struct) or an array, and
+ * its values are addressed by index either way. Nothing is decoded until it is accessed, and
+ * values are read directly from the raw result: the bulk getters such as
+ * {@link #getInt64Array(int)} and {@link #getUint256Array(int)} fill the returned array without
+ * creating any intermediate objects per element.
+ * <p>
+ * Getters check that they are called for a value of a compatible type and throw
+ * {@link IllegalArgumentException} if not. The integer getters accept any width of integer
+ * and, like {@link ContractFunctionResult}, truncate values which are wider than the Java type.
+ * If the raw result is shorter than its types say it should be, getters throw
+ * {@link IndexOutOfBoundsException}.
+ * <p>
+ * Views are immutable and safe to share between threads.
+ */
+public final class ContractFunctionValues {
+    // read-only and only read with absolute gets, so it can be shared
+    private final ByteBuffer buffer;
+
+    // where this tuple or array starts; offsets of dynamic values are relative to this
+    private final int base;
+
+    // a `TUPLE`, `ARRAY` or `FIXED_ARRAY`
+    private final AbiType type;
+
+    private final int size;
+
+    ContractFunctionValues(ByteBuffer buffer, int base, AbiType type) {
+        this.buffer = buffer;
+        this.type = type;
+
+        switch (type.kind) {
+            case TUPLE:
+                this.base = base;
+                this.size = type.components.size();
+                break;
+
+            case ARRAY:
+                // the elements follow the length
+                this.size = readLength(buffer, base);
+                this.base = base + WORD_LEN;
+                checkAvailable(this.base, (long) size * elementType().headLen);
+                break;
+
+            case FIXED_ARRAY:
+                this.base = base;
+                this.size = type.length;
+                break;
+
+            default:
+                throw new IllegalArgumentException("not a tuple or array type: " + type);
+        }
+    }
+
+    /**
+     * Get the number of values in this tuple or array.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the canonical Solidity type of the value at an index, e.g. {@code uint256[]}.
+     */
+    public String getType(int index) {
+        return typeAt(index).name;
+    }
+
+    /**
+     * Get the value at an index as a boolean.
+     */
+    public boolean getBool(int index) {
+        return buffer.get(wordAt(index, AbiType.Kind.BOOL) + WORD_LEN - 1) != 0;
+    }
+
+    /**
+     * Get an integer value at an index as an 8-bit integer, truncating it if it is wider.
+     */
+    public byte getInt8(int index) {
+        return buffer.get(intAt(index) + WORD_LEN - 1);
+    }
+
+    /**
+     * Get an integer value at an index as a 32-bit integer, truncating it if it is wider.
+     */
+    public int getInt32(int index) {
+        return buffer.getInt(intAt(index) + WORD_LEN - 4);
+    }
+
+    /**
+     * Get an integer value at an index as a 64-bit integer, truncating it if it is wider.
+     */
+    public long getInt64(int index) {
+        return buffer.getLong(intAt(index) + WORD_LEN - 8);
+    }
+
+    /**
+     * Get an integer value at an index as a signed 256-bit integer.
+     */
+    public BigInteger getInt256(int index) {
+        return readInt256(intAt(index));
+    }
+
+    /**
+     * Get an integer value at an index as an unsigned 256-bit integer.
+     */
+    public BigInteger getUint256(int index) {
+        return readUint256(intAt(index));
+    }
+
+    /**
+     * Get the address at an index as {@value ContractFunctionParams#ADDRESS_LEN_HEX} hex
+     * characters.
+     */
+    public String getAddress(int index) {
+        return readAddress(wordAt(index, AbiType.Kind.ADDRESS));
+    }
+
+    /**
+     * Get the value of a fixed-size byte array type ({@code bytes1} to {@code bytes32}) at an
+     * index, without its padding.
+     */
+    public byte[] getFixedBytes(int index) {
+        final int pos = wordAt(index, AbiType.Kind.FIXED_BYTES);
+        return readBytes(pos, typeAt(index).size);
+    }
+
+    /**
+     * Get the {@code bytes} value at an index.
+     */
+    public byte[] getBytes(int index) {
+        return readDynamicBytes(valueAt(index, AbiType.Kind.BYTES));
+    }
+
+    /**
+     * Get the {@code string} value at an index.
+     */
+    public String getString(int index) {
+        return new String(readDynamicBytes(valueAt(index, AbiType.Kind.STRING)), UTF_8);
+    }
+
+    /**
+     * Get the tuple (struct) at an index as a view of its own.
+     */
+    public ContractFunctionValues getTuple(int index) {
+        return new ContractFunctionValues(buffer, valueAt(index, AbiType.Kind.TUPLE), typeAt(index));
+    }
+
+    /**
+     * Get the array at an index as a view of its own, e.g. to access an array of tuples or of
+     * arrays, or to access only a few elements of a large array.
+     */
+    public ContractFunctionValues getArray(int index) {
+        return new ContractFunctionValues(buffer, valueAt(index, AbiType.Kind.ARRAY, AbiType.Kind.FIXED_ARRAY),
+            typeAt(index));
+    }
+
+    /**
+     * Get an array of booleans at an index.
+     */
+    public boolean[] getBoolArray(int index) {
+        final ContractFunctionValues array = arrayOf(index, AbiType.Kind.BOOL);
+        final boolean[] values = new boolean[array.size];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.get(array.base + i * WORD_LEN + WORD_LEN - 1) != 0;
+        }
+
+        return values;
+    }
+
+    /**
+     * Get an array of integers at an index as 32-bit integers, truncating wider elements.
+     */
+    public int[] getInt32Array(int index) {
+        final ContractFunctionValues array = arrayOf(index, AbiType.Kind.INT, AbiType.Kind.UINT);
+        final int[] values = new int[array.size];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.getInt(array.base + i * WORD_LEN + WORD_LEN - 4);
+        }
+
+        return values;
+    }
+
+    /**
+     * Get an array of integers at an index as 64-bit integers, truncating wider elements.
+     */
+    public long[] getInt64Array(int index) {
+        final ContractFunctionValues array = arrayOf(index, AbiType.Kind.INT, AbiType.Kind.UINT);
+        final long[] values = new long[array.size];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.getLong(array.base + i * WORD_LEN + WORD_LEN - 8);
+        }
+
+        return values;
+    }
+
+    /**
+     * Get an array of integers at an index as signed 256-bit integers.
+     */
+    public BigInteger[] getInt256Array(int index) {
+        final ContractFunctionValues array = arrayOf(index, AbiType.Kind.INT, AbiType.Kind.UINT);
+        final BigInteger[] values = new BigInteger[array.size];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readInt256(array.base + i * WORD_LEN);
+        }
+
+        return values;
+    }
+
+    /**
+     * Get an array of integers at an index as unsigned 256-bit integers.
+     */
+    public BigInteger[] getUint256Array(int index) {
+        final ContractFunctionValues array = arrayOf(index, AbiType.Kind.INT, AbiType.Kind.UINT);
+        final BigInteger[] values = new BigInteger[array.size];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readUint256(array.base + i * WORD_LEN);
+        }
+
+        return values;
+    }
+
+    /**
+     * Get an array of addresses at an index as hex strings.
+     */
+    public String[] getAddressArray(int index) {
+        final ContractFunctionValues array = arrayOf(index, AbiType.Kind.ADDRESS);
+        final String[] values = new String[array.size];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readAddress(array.base + i * WORD_LEN);
+        }
+
+        return values;
+    }
+
+    /**
+     * Get an array of strings at an index.
+     */
+    public String[] getStringArray(int index) {
+        final ContractFunctionValues array = arrayOf(index, AbiType.Kind.STRING);
+        final String[] values = new String[array.size];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new String(readDynamicBytes(array.valueAt(i)), UTF_8);
+        }
+
+        return values;
+    }
+
+    /**
+     * Get an array of {@code bytes} at an index.
+     */
+    public byte[][] getBytesArray(int index) {
+        final ContractFunctionValues array = arrayOf(index, AbiType.Kind.BYTES);
+        final byte[][] values = new byte[array.size][];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readDynamicBytes(array.valueAt(i));
+        }
+
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return type.name;
+    }
+
+    private AbiType typeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of range for " + size + " values");
+        }
+
+        if (type.kind == AbiType.Kind.TUPLE) {
+            return type.components.get(index);
+        }
+
+        return elementType();
+    }
+
+    private AbiType elementType() {
+        // never null for arrays
+        final AbiType elementType = type.elementType;
+
+        if (elementType == null) {
+            throw new IllegalStateException("array type without element type: " + type);
+        }
+
+        return elementType;
+    }
+
+    private int headAt(int index) {
+        return type.kind == AbiType.Kind.TUPLE
+            ? base + type.componentOffset(index)
+            : base + index * elementType().headLen;
+    }
+
+    /**
+     * Get where the encoding of the value at an index starts, following its offset if it is
+     * dynamic.
+     */
+    private int valueAt(int index) {
+        final int head = headAt(index);
+
+        if (!typeAt(index).isDynamic) {
+            return head;
+        }
+
+        final int offset = readLength(buffer, head);
+        checkAvailable(base, offset);
+
+        return base + offset;
+    }
+
+    private int valueAt(int index, AbiType.Kind... kinds) {
+        checkKind(index, typeAt(index), kinds);
+        return valueAt(index);
+    }
+
+    private int wordAt(int index, AbiType.Kind kind) {
+        final int pos = valueAt(index, kind);
+        checkAvailable(pos, WORD_LEN);
+
+        return pos;
+    }
+
+    private int intAt(int index) {
+        final int pos = valueAt(index, AbiType.Kind.INT, AbiType.Kind.UINT);
+        checkAvailable(pos, WORD_LEN);
+
+        return pos;
+    }
+
+    private ContractFunctionValues arrayOf(int index, AbiType.Kind... elementKinds) {
+        final AbiType arrayType = typeAt(index);
+        checkKind(index, arrayType, AbiType.Kind.ARRAY, AbiType.Kind.FIXED_ARRAY);
+
+        final AbiType elementType = arrayType.elementType;
+
+        if (elementType == null) {
+            throw new IllegalStateException("array type without element type: " + arrayType);
+        }
+
+        checkKind(index, elementType, elementKinds);
+
+        final ContractFunctionValues array = new ContractFunctionValues(buffer, valueAt(index), arrayType);
+
+        if (!elementType.isDynamic) {
+            array.checkAvailable(array.base, (long) array.size * WORD_LEN);
+        }
+
+        return array;
+    }
+
+    private static void checkKind(int index, AbiType actual, AbiType.Kind... kinds) {
+        for (final AbiType.Kind kind : kinds) {
+            if (actual.kind == kind) {
+                return;
+            }
+        }
+
+        throw new IllegalArgumentException("value at index " + index + " has type " + actual.name);
+    }
+
+    private void checkAvailable(int pos, long len) {
+        if (pos < 0 || pos + len > buffer.limit()) {
+            throw new IndexOutOfBoundsException("ABI-encoded data is " + buffer.limit()
+                + " bytes but needs " + len + " bytes at offset " + pos);
+        }
+    }
+
+    /**
+     * Read a word which is used as an offset or a length, which must fit in a non-negative
+     * {@code int} to be valid at all.
+     */
+    private static int readLength(ByteBuffer buffer, int pos) {
+        if (pos < 0 || pos + WORD_LEN > buffer.limit()) {
+            throw new IndexOutOfBoundsException("ABI-encoded data is " + buffer.limit()
+                + " bytes but needs " + WORD_LEN + " bytes at offset " + pos);
+        }
+
+        final boolean highBitsClear = buffer.getLong(pos) == 0
+            && buffer.getLong(pos + 8) == 0
+            && buffer.getLong(pos + 16) == 0
+            && buffer.getInt(pos + 24) == 0;
+
+        final int value = buffer.getInt(pos + 28);
+
+        if (!highBitsClear || value < 0) {
+            throw new IndexOutOfBoundsException("ABI-encoded offset or length at " + pos + " is out of range");
+        }
+
+        return value;
+    }
+
+    private byte[] readBytes(int pos, int len) {
+        checkAvailable(pos, len);
+
+        final byte[] bytes = new byte[len];
+        copyTo(pos, bytes, 0, len);
+
+        return bytes;
+    }
+
+    /**
+     * Copy bytes out of the buffer with absolute gets, so no view of the buffer is allocated for
+     * each value read.
+     */
+    private void copyTo(int pos, byte[] dest, int destOffset, int len) {
+        for (int i = 0; i < len; i++) {
+            dest[destOffset + i] = buffer.get(pos + i);
+        }
+    }
+
+    private byte[] readDynamicBytes(int pos) {
+        return readBytes(pos + WORD_LEN, readLength(buffer, pos));
+    }
+
+    private BigInteger readInt256(int pos) {
+        return new BigInteger(readBytes(pos, WORD_LEN));
+    }
+
+    private BigInteger readUint256(int pos) {
+        checkAvailable(pos, WORD_LEN);
+
+        // prepend a zero byte so that `BigInteger` finds a zero sign bit and treats it as positive
+        final byte[] bytes = new byte[WORD_LEN + 1];
+        copyTo(pos, bytes, 1, WORD_LEN);
+
+        return new BigInteger(bytes);
+    }
+
+    private String readAddress(int pos) {
+        // address is a uint160
+        return Hex.toHexString(readBytes(pos + WORD_LEN - ContractFunctionParams.ADDRESS_LEN,
+            ContractFunctionParams.ADDRESS_LEN));
+    }
+}
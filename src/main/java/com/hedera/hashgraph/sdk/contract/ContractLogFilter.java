@@ -0,0 +1,188 @@
+package com.hedera.hashgraph.sdk.contract;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.hedera.hashgraph.proto.ContractIDOrBuilder;
+import com.hedera.hashgraph.proto.ContractLoginfo;
+import com.hedera.hashgraph.sdk.SolidityUtil;
+
+import org.bouncycastle.jcajce.provider.digest.Keccak;
+import org.bouncycastle.util.encoders.Hex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Finds the logs emitted for a set of events in the results of contract calls, e.g. in the
+ * records returned by {@link ContractRecordsQuery}.
+ * <p>
+ * Each result carries a 2048-bit bloom filter of the topics and contract addresses of all its
+ * logs. The bits each event's topic (and the contract address, if set) would set are worked out
+ * when the filter is configured, so a result which cannot contain a matching log is skipped
+ * after testing a few bytes of its bloom, without looking at its logs or allocating anything.
+ * The logs of the results which might match are then checked by their first topic, and the
+ * matching ones returned as {@link ContractEventLog}s which decode lazily.
+ * <p>
+ * Configure a filter before sharing it between threads; filtering does not modify it.
+ *
+ * <pre>{@code
+ * ContractLogFilter filter = new ContractLogFilter()
+ *     .addEvent(abi.getEvent("Transfer"))
+ *     .setContractId(tokenId);
+ *
+ * for (TransactionRecord record : records) {
+ *     for (ContractEventLog log : filter.filter(record.getContractExecuteResult())) {
+ *         BigInteger value = log.getData().getUint256(0);
+ *     }
+ * }
+ * }</pre>
+ */
+public final class ContractLogFilter {
+    static final int BLOOM_LEN = 256;
+
+    private final Map<ByteString, ContractAbi.Event> eventsByTopic = new HashMap<>();
+
+    // for each event, the (byte index, mask) pairs of the bits its topic sets in a bloom
+    private int[][] eventBits = new int[0][];
+
+    private int[] contractBits = new int[0];
+
+    @Nullable
+    private ContractId contractId;
+
+    /**
+     * Add an event to look for; logs emitted for any of the added events match.
+     *
+     * @return {@code this} for fluent usage.
+     * @throws IllegalArgumentException if the event is anonymous, so its logs have no topic to
+     *                                  identify them by.
+     */
+    public ContractLogFilter addEvent(ContractAbi.Event event) {
+        if (event.isAnonymous()) {
+            throw new IllegalArgumentException("cannot filter for anonymous event " + event);
+        }
+
+        if (eventsByTopic.put(event.getTopicBytes(), event) == null) {
+            eventBits = Arrays.copyOf(eventBits, eventBits.length + 1);
+            eventBits[eventBits.length - 1] = bloomBits(event.getTopic());
+        }
+
+        return this;
+    }
+
+    /**
+     * Only match logs emitted by the given contract.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public ContractLogFilter setContractId(ContractId contractId) {
+        this.contractId = contractId;
+        this.contractBits = bloomBits(Hex.decode(SolidityUtil.addressFor(contractId)));
+        return this;
+    }
+
+    /**
+     * Test a 2048-bit log bloom, e.g. {@link ContractFunctionResult#bloom}, for any of the added
+     * events (emitted by the contract, if set).
+     *
+     * @return {@code false} if the bloom shows there is no matching log; {@code true} if there
+     * might be, or if the bloom is not 256 bytes long so cannot rule anything out.
+     */
+    public boolean mightMatch(byte[] bloom) {
+        return mightMatch(UnsafeByteOperations.unsafeWrap(bloom));
+    }
+
+    /**
+     * Get the logs of a contract call which were emitted for any of the added events (by the
+     * contract, if set).
+     *
+     * @return the matching logs, in the order they were emitted; an empty list, which is
+     * not allocated, if there are none.
+     */
+    public List<ContractEventLog> filter(ContractFunctionResult result) {
+        final List<ContractLoginfo> logs = result.getRawLogs();
+
+        if (logs.isEmpty() || !mightMatch(result.getRawBloom())) {
+            return Collections.emptyList();
+        }
+
+        List<ContractEventLog> matched = Collections.emptyList();
+
+        for (final ContractLoginfo log : logs) {
+            if (log.getTopicCount() == 0 || (contractId != null && !isContract(log.getContractIDOrBuilder()))) {
+                continue;
+            }
+
+            final ContractAbi.Event event = eventsByTopic.get(log.getTopic(0));
+
+            if (event != null) {
+                if (matched.isEmpty()) {
+                    matched = new ArrayList<>();
+                }
+
+                matched.add(new ContractEventLog(event, log));
+            }
+        }
+
+        return matched;
+    }
+
+    private boolean mightMatch(ByteString bloom) {
+        if (bloom.size() != BLOOM_LEN) {
+            return true;
+        }
+
+        if (!hasBits(bloom, contractBits)) {
+            return false;
+        }
+
+        for (final int[] bits : eventBits) {
+            if (hasBits(bloom, bits)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isContract(ContractIDOrBuilder id) {
+        return contractId != null
+            && id.getShardNum() == contractId.shard
+            && id.getRealmNum() == contractId.realm
+            && id.getContractNum() == contractId.contract;
+    }
+
+    private static boolean hasBits(ByteString bloom, int[] bits) {
+        for (int i = 0; i < bits.length; i += 2) {
+            if ((bloom.byteAt(bits[i]) & bits[i + 1]) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Get the bits a value sets in a log bloom as (byte index, mask) pairs: three bits, each
+     * given by the low 11 bits of one of the first three pairs of bytes of the value's
+     * Keccak-256 hash, numbered from the end of the bloom.
+     */
+    static int[] bloomBits(byte[] value) {
+        final byte[] hash = new Keccak.Digest256().digest(value);
+        final int[] bits = new int[6];
+
+        for (int i = 0; i < 3; i++) {
+            final int bit = ((hash[2 * i] & 0xFF) << 8 | (hash[2 * i + 1] & 0xFF)) & (BLOOM_LEN * 8 - 1);
+            bits[2 * i] = BLOOM_LEN - 1 - bit / 8;
+            bits[2 * i + 1] = 1 << (bit % 8);
+        }
+
+        return bits;
+    }
+}
@@ -0,0 +1,35 @@
+package com.hedera.hashgraph.sdk.crypto;
+
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Functional interface for signers which return their signature later instead of blocking the
+ * calling thread, such as a remote signing service or an HSM reached over the network.
+ * <p>
+ * Where the SDK signs with an asynchronous signer while executing a transaction or paying for a
+ * query without blocking, e.g. in {@link Transaction#executeFuture(Client)}, no thread waits for
+ * the signature, so many signatures may be outstanding at once.
+ *
+ * @see Client#setOperatorWithAsync(AccountId, PublicKey, AsyncTransactionSigner)
+ * @see Transaction#signWithAsync(PublicKey, AsyncTransactionSigner)
+ * @see BatchTransactionSigner
+ */
+@FunctionalInterface
+public interface AsyncTransactionSigner {
+    /**
+     * Start signing the transaction.
+     * <p>
+     * The kind of signature returned is interpreted based on the kind of {@link PublicKey}
+     * passed alongside this signer.
+     *
+     * @param transactionBytes a read-only view of the bytes of the transaction body, which remain
+     *                         valid after this returns.
+     * @return a stage completed with the signature, or exceptionally if it can't be produced.
+     */
+    CompletionStage<byte[]> signTransactionAsync(ByteBuffer transactionBytes);
+}
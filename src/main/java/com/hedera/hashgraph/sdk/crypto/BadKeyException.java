@@ -15,4 +15,9 @@ public final class BadKeyException extends IllegalArgumentException {
     public BadKeyException(Exception e) {
         super(e);
     }
+
+    @Internal
+    public BadKeyException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
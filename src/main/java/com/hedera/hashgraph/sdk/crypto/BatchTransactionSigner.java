@@ -0,0 +1,39 @@
+package com.hedera.hashgraph.sdk.crypto;
+
+import com.hedera.hashgraph.sdk.Client;
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * An {@link AsyncTransactionSigner} which can sign many transactions in one request, e.g. to a
+ * remote signing service where each round trip costs far more than each signature.
+ * <p>
+ * When set as the operator with
+ * {@link Client#setOperatorWithAsync(AccountId, PublicKey, AsyncTransactionSigner)}, the client
+ * gathers the transactions waiting for the operator's signature while a batch is being signed
+ * and sends them together as the next batch.
+ */
+@FunctionalInterface
+public interface BatchTransactionSigner extends AsyncTransactionSigner {
+    /**
+     * Start signing several transactions.
+     *
+     * @param transactionBytes read-only views of the bytes of each transaction body.
+     * @return a stage completed with the signature of each transaction, in the same order, or
+     * exceptionally if they can't be produced.
+     */
+    CompletionStage<List<byte[]>> signTransactions(List<ByteBuffer> transactionBytes);
+
+    /**
+     * Sign a single transaction as a batch of one.
+     */
+    @Override
+    default CompletionStage<byte[]> signTransactionAsync(ByteBuffer transactionBytes) {
+        return signTransactions(Collections.singletonList(transactionBytes))
+            .thenApply(signatures -> signatures.get(0));
+    }
+}
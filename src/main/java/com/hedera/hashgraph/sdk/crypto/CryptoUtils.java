@@ -4,10 +4,13 @@ import com.hedera.hashgraph.sdk.Internal;
 
 import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.digests.SHA384Digest;
+import org.bouncycastle.crypto.digests.SHA512Digest;
 import org.bouncycastle.crypto.generators.PKCS5S2ParametersGenerator;
 import org.bouncycastle.crypto.macs.HMac;
 import org.bouncycastle.crypto.params.KeyParameter;
+import org.bouncycastle.crypto.prng.SP800SecureRandomBuilder;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.AlgorithmParameters;
 import java.security.InvalidAlgorithmParameterException;
@@ -32,6 +35,18 @@ public final class CryptoUtils {
     // waiting for entropy) so we avoid it
     public static final SecureRandom secureRandom = new SecureRandom();
 
+    // a Hash_DRBG (NIST SP 800-90A) per thread, seeded from `secureRandom`, so generating many
+    // keys in parallel doesn't contend on the platform's source of randomness
+    private static final ThreadLocal<SecureRandom> threadSecureRandom = ThreadLocal.withInitial(() -> {
+        final byte[] nonce = ByteBuffer.allocate(16)
+            .putLong(Thread.currentThread().getId())
+            .putLong(System.nanoTime())
+            .array();
+
+        return new SP800SecureRandomBuilder(secureRandom, false)
+            .buildHash(new SHA512Digest(), nonce, false);
+    });
+
     static final int IV_LEN = 16;
     static final int ITERATIONS = 262144;
     static final int SALT_LEN = 32;
@@ -42,6 +57,13 @@ public final class CryptoUtils {
 
     private CryptoUtils() { }
 
+    /**
+     * Get a {@link SecureRandom} for use by the current thread only.
+     */
+    public static SecureRandom threadSecureRandom() {
+        return threadSecureRandom.get();
+    }
+
     static KeyParameter deriveKeySha256(String passphrase, byte[] salt, int iterations, int dkLenBytes) {
         final PKCS5S2ParametersGenerator gen = new PKCS5S2ParametersGenerator(new SHA256Digest());
         gen.init(passphrase.getBytes(StandardCharsets.UTF_8), salt, iterations);
@@ -0,0 +1,199 @@
+package com.hedera.hashgraph.sdk.crypto;
+
+import com.hedera.hashgraph.sdk.BoundedCache;
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PrivateKey;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.macs.HMac;
+import org.bouncycastle.crypto.params.KeyParameter;
+import org.bouncycastle.util.encoders.Hex;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.annotation.Nullable;
+
+/**
+ * Loads private keys from encrypted keystores, such as those written by
+ * {@link Ed25519PrivateKey#writeKeystore}, many at a time.
+ * <p>
+ * Decrypting a keystore is deliberately slow: its passphrase is stretched with
+ * {@value CryptoUtils#ITERATIONS} rounds of PBKDF2. A loader decrypts keystores concurrently on
+ * an executor, by default the common {@link ForkJoinPool}, so loading many of them takes about
+ * as long as loading one per core.
+ * <p>
+ * A loader can also remember the keys it has decrypted, by an HMAC of the keystore and its
+ * passphrase under a random secret generated for each loader, so loading an unchanged keystore
+ * again (e.g. when re-reading a directory of keystores after one was rotated) skips the KDF.
+ * Keep one loader for the life of the process to make use of this. As the cache holds private
+ * keys in memory, it is disabled by default.
+ * <p>
+ * A loader is thread-safe.
+ */
+public final class KeystoreLoader {
+    // keys the cache keys, so they can't be used to check guesses of a passphrase offline
+    private final byte[] cacheKeySecret = CryptoUtils.randomBytes(32);
+
+    // replaced whenever the size changes; null while the cache is disabled
+    @Nullable
+    private volatile BoundedCache<String, Ed25519PrivateKey> cache;
+
+    private volatile Executor executor = ForkJoinPool.commonPool();
+
+    /**
+     * Set the number of decrypted keys to remember; 0, the default, disables the cache.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public KeystoreLoader setMaxCachedKeys(int maxCachedKeys) {
+        if (maxCachedKeys < 0) {
+            throw new IllegalArgumentException("maxCachedKeys must not be negative");
+        }
+
+        this.cache = maxCachedKeys == 0 ? null : new BoundedCache<>(maxCachedKeys);
+
+        return this;
+    }
+
+    /**
+     * Set the executor to decrypt keystores on. Decryption is CPU-bound, so this should usually
+     * be a pool sized to the number of processors.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public KeystoreLoader setExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Forget all decrypted keys.
+     */
+    public void clearCache() {
+        final BoundedCache<String, Ed25519PrivateKey> cache = this.cache;
+
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Decrypt a keystore on the calling thread.
+     *
+     * @throws BadKeyException if the keystore is malformed or the passphrase is incorrect.
+     */
+    public Ed25519PrivateKey load(byte[] keystore, String passphrase) {
+        final BoundedCache<String, Ed25519PrivateKey> cache = this.cache;
+
+        if (cache == null) {
+            return decrypt(keystore, passphrase);
+        }
+
+        // a wrong passphrase gives a different cache key, so it is never a hit and fails here
+        return cache.computeIfAbsent(cacheKey(keystore, passphrase), k -> decrypt(keystore, passphrase));
+    }
+
+    /**
+     * Decrypt a keystore file on the calling thread.
+     *
+     * @throws IOException     if the file could not be read.
+     * @throws BadKeyException if the keystore is malformed or the passphrase is incorrect.
+     */
+    public Ed25519PrivateKey load(Path keystore, String passphrase) throws IOException {
+        return load(Files.readAllBytes(keystore), passphrase);
+    }
+
+    /**
+     * Decrypt a keystore on the executor.
+     *
+     * @return a future completed with the key, or exceptionally with a {@link BadKeyException}.
+     */
+    public CompletableFuture<Ed25519PrivateKey> loadAsync(byte[] keystore, String passphrase) {
+        return CompletableFuture.supplyAsync(() -> load(keystore, passphrase), executor);
+    }
+
+    /**
+     * Read and decrypt keystore files concurrently on the executor, waiting for all of them.
+     *
+     * @param keystores  the keystore files.
+     * @param passphrase the passphrase of every keystore.
+     * @return the keys, in the order of the files.
+     * @throws IOException     if a file could not be read.
+     * @throws BadKeyException if a keystore is malformed or the passphrase is incorrect for it;
+     *                         the message names the file.
+     */
+    public List<Ed25519PrivateKey> loadAll(List<Path> keystores, String passphrase) throws IOException {
+        final List<CompletableFuture<Ed25519PrivateKey>> futures = new ArrayList<>(keystores.size());
+
+        for (final Path keystore : keystores) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return load(keystore, passphrase);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (BadKeyException e) {
+                    throw new BadKeyException(keystore + ": " + e.getMessage(), e);
+                }
+            }, executor));
+        }
+
+        final List<Ed25519PrivateKey> keys = new ArrayList<>(futures.size());
+
+        try {
+            for (final CompletableFuture<Ed25519PrivateKey> future : futures) {
+                keys.add(future.join());
+            }
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw e;
+        }
+
+        return keys;
+    }
+
+    private static Ed25519PrivateKey decrypt(byte[] keystore, String passphrase) {
+        try {
+            return Keystore.fromStream(new ByteArrayInputStream(keystore), passphrase).getEd25519();
+        } catch (IOException e) {
+            // reading from a byte array can't fail, but the JSON can be malformed
+            throw new BadKeyException(e);
+        }
+    }
+
+    private String cacheKey(byte[] keystore, String passphrase) {
+        final HMac hmac = new HMac(new SHA256Digest());
+        hmac.init(new KeyParameter(cacheKeySecret));
+
+        final byte[] passphraseBytes = passphrase.getBytes(StandardCharsets.UTF_8);
+
+        // length-prefix the keystore so no two (keystore, passphrase) pairs hash the same input
+        hmac.update((byte) (keystore.length >>> 24));
+        hmac.update((byte) (keystore.length >>> 16));
+        hmac.update((byte) (keystore.length >>> 8));
+        hmac.update((byte) keystore.length);
+        hmac.update(keystore, 0, keystore.length);
+        hmac.update(passphraseBytes, 0, passphraseBytes.length);
+
+        final byte[] mac = new byte[hmac.getMacSize()];
+        hmac.doFinal(mac, 0);
+
+        return Hex.toHexString(mac);
+    }
+}
@@ -60,6 +60,15 @@ public abstract class PublicKey {
 
     public abstract byte[] toBytes();
 
+    /**
+     * Get the same bytes as {@link #toBytes()} as an immutable {@link ByteString}, which
+     * implementations may cache so they are not copied for every signature.
+     */
+    @Internal
+    public ByteString toByteString() {
+        return ByteString.copyFrom(toBytes());
+    }
+
     @Internal
     public abstract SignaturePair.SignatureCase getSignatureCase();
 
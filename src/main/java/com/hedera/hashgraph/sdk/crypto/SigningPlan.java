@@ -0,0 +1,68 @@
+package com.hedera.hashgraph.sdk.crypto;
+
+import com.hedera.hashgraph.sdk.Transaction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * The signers chosen by a {@link SigningPlanner} to satisfy a key.
+ * <p>
+ * A plan doesn't depend on the transaction, so it can be worked out once per key and used to
+ * sign any number of transactions.
+ */
+public final class SigningPlan {
+    private final Map<PublicKey, TransactionSigner> signers;
+    private final double cost;
+
+    SigningPlan(Map<PublicKey, TransactionSigner> signers, double cost) {
+        this.signers = Collections.unmodifiableMap(signers);
+        this.cost = cost;
+    }
+
+    /**
+     * Get the public keys of the chosen signers, in the order they were added to the planner.
+     */
+    public List<PublicKey> getKeys() {
+        return new ArrayList<>(signers.keySet());
+    }
+
+    /**
+     * Get the total cost of the chosen signers.
+     */
+    public double getCost() {
+        return cost;
+    }
+
+    /**
+     * Sign a transaction with each chosen signer in turn, on the calling thread.
+     *
+     * @return the transaction, for fluent usage.
+     * @throws IllegalArgumentException if the transaction is already signed by a chosen key.
+     */
+    public Transaction sign(Transaction transaction) {
+        for (final Map.Entry<PublicKey, TransactionSigner> entry : signers.entrySet()) {
+            transaction.signWith(entry.getKey(), entry.getValue());
+        }
+
+        return transaction;
+    }
+
+    /**
+     * Sign a transaction with all chosen signers concurrently, each called on the executor.
+     *
+     * @see Transaction#signWithAsync(Map, Executor)
+     */
+    public CompletableFuture<Transaction> signAsync(Transaction transaction, Executor executor) {
+        return transaction.signWithAsync(signers, executor);
+    }
+
+    @Override
+    public String toString() {
+        return "SigningPlan{keys=" + signers.keySet() + ", cost=" + cost + "}";
+    }
+}
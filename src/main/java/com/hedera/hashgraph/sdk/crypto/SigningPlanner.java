@@ -0,0 +1,239 @@
+package com.hedera.hashgraph.sdk.crypto;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.proto.KeyOrBuilder;
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PublicKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * Works out which of the available signers to sign a transaction with to satisfy a key, such as
+ * the key of an account with a {@link ThresholdKey} or {@link KeyList}, at the least cost.
+ * <p>
+ * Every signature makes a transaction larger and slower to verify, and signers may differ in how
+ * expensive they are to use: a key held in memory signs in microseconds, an HSM or a user
+ * confirming on a device may take seconds. Each signer is given a cost, and
+ * {@link #plan(PublicKey)} picks a set of signers which satisfies the key with the lowest total
+ * cost, which with the default cost of 1 per signer is the fewest signatures.
+ *
+ * <pre>{@code
+ * SigningPlan plan = new SigningPlanner()
+ *     .addSigner(localKey)
+ *     .addSigner(hsmPublicKey, hsmSigner, 50)
+ *     .plan(treasuryKey);
+ *
+ * plan.signAsync(transaction, executor).thenCompose(tx -> tx.executeFuture(client));
+ * }</pre>
+ * <p>
+ * The plan is exact when each key appears at most once in the key being satisfied, which is the
+ * usual case. If a key appears in more than one place, the plan satisfies the key, omits every
+ * signer which turns out not to be needed, and counts the cost of each signer once, but there may
+ * be a slightly cheaper combination.
+ */
+public final class SigningPlanner {
+    // by the raw bytes of the Ed25519 public key, which is how keys appear in a `Key` protobuf
+    private final Map<ByteString, Signer> signers = new LinkedHashMap<>();
+
+    /**
+     * Add a private key held in memory as a signer, with a cost of 1.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public SigningPlanner addSigner(PrivateKey<? extends PublicKey> privateKey) {
+        return addSigner(privateKey.publicKey, bytes -> privateKey.sign(bytes), 1);
+    }
+
+    /**
+     * Add a signer, such as an HSM, for a public key.
+     *
+     * @param publicKey the public key the signer signs for; currently only
+     *                  {@link Ed25519PublicKey} is supported.
+     * @param signer    the signer.
+     * @param cost      the relative cost of signing with this signer, such as its latency; a
+     *                  key held in memory has a cost of 1.
+     * @return {@code this} for fluent usage.
+     * @throws IllegalArgumentException if the key is not an Ed25519 public key or the cost is
+     *                                  negative or not finite.
+     */
+    public SigningPlanner addSigner(PublicKey publicKey, TransactionSigner signer, double cost) {
+        if (!(publicKey instanceof Ed25519PublicKey)) {
+            throw new IllegalArgumentException("only Ed25519 keys can be signers");
+        }
+
+        if (!(cost >= 0) || Double.isInfinite(cost)) {
+            throw new IllegalArgumentException("cost must be finite and not negative");
+        }
+
+        signers.put(publicKey.toByteString(), new Signer(publicKey, signer, cost));
+        return this;
+    }
+
+    /**
+     * Find the cheapest set of signers which satisfies a key.
+     *
+     * @param requiredKey the key to satisfy; a single key, or any nesting of {@link KeyList} and
+     *                    {@link ThresholdKey}.
+     * @throws IllegalArgumentException if the available signers cannot satisfy the key.
+     */
+    public SigningPlan plan(PublicKey requiredKey) {
+        final com.hedera.hashgraph.proto.Key key = requiredKey.toKeyProto();
+        final Choice choice = choose(key);
+
+        if (choice == null) {
+            throw new IllegalArgumentException("the available signers cannot satisfy the key");
+        }
+
+        final Set<ByteString> chosen = new LinkedHashSet<>(choice.keys);
+
+        // drop any signer which the rest satisfy the key without, most expensive first; only
+        // possible when a key appears in more than one place
+        final List<ByteString> byCost = new ArrayList<>(chosen);
+        byCost.sort(Comparator.comparingDouble((ByteString k) -> signers.get(k).cost).reversed());
+
+        for (final ByteString candidate : byCost) {
+            chosen.remove(candidate);
+
+            if (!isSatisfied(key, chosen)) {
+                chosen.add(candidate);
+            }
+        }
+
+        final Map<PublicKey, TransactionSigner> planned = new LinkedHashMap<>();
+        double cost = 0;
+
+        // in the order the signers were added
+        for (final Map.Entry<ByteString, Signer> entry : signers.entrySet()) {
+            if (chosen.contains(entry.getKey())) {
+                planned.put(entry.getValue().publicKey, entry.getValue().signer);
+                cost += entry.getValue().cost;
+            }
+        }
+
+        return new SigningPlan(planned, cost);
+    }
+
+    /**
+     * Choose the cheapest signers for each part of a key, bottom-up.
+     *
+     * @return the choice, or {@code null} if the key can't be satisfied.
+     */
+    @Nullable
+    private Choice choose(KeyOrBuilder key) {
+        switch (key.getKeyCase()) {
+            case ED25519: {
+                final Signer signer = signers.get(key.getEd25519());
+                return signer == null ? null : new Choice(signer.cost, Collections.singleton(key.getEd25519()));
+            }
+
+            case THRESHOLDKEY:
+                return chooseThreshold(key.getThresholdKey().getThreshold(),
+                    key.getThresholdKey().getKeys().getKeysList());
+
+            case KEYLIST:
+                return chooseThreshold(key.getKeyList().getKeysCount(), key.getKeyList().getKeysList());
+
+            default:
+                // contract IDs and other kinds of keys can't be satisfied with a signature
+                return null;
+        }
+    }
+
+    @Nullable
+    private Choice chooseThreshold(int threshold, List<com.hedera.hashgraph.proto.Key> keys) {
+        if (threshold <= 0) {
+            return new Choice(0, Collections.emptySet());
+        }
+
+        final List<Choice> choices = new ArrayList<>(keys.size());
+
+        for (final com.hedera.hashgraph.proto.Key key : keys) {
+            final Choice choice = choose(key);
+
+            if (choice != null) {
+                choices.add(choice);
+            }
+        }
+
+        if (choices.size() < threshold) {
+            return null;
+        }
+
+        // the cheapest `threshold` of the parts, preferring fewer signatures on a tie
+        choices.sort(Comparator.comparingDouble((Choice c) -> c.cost).thenComparingInt(c -> c.keys.size()));
+
+        final Set<ByteString> union = new LinkedHashSet<>();
+
+        for (int i = 0; i < threshold; i++) {
+            union.addAll(choices.get(i).keys);
+        }
+
+        double cost = 0;
+
+        for (final ByteString chosen : union) {
+            cost += signers.get(chosen).cost;
+        }
+
+        return new Choice(cost, union);
+    }
+
+    static boolean isSatisfied(KeyOrBuilder key, Set<ByteString> signedBy) {
+        switch (key.getKeyCase()) {
+            case ED25519:
+                return signedBy.contains(key.getEd25519());
+
+            case THRESHOLDKEY:
+                return countSatisfied(key.getThresholdKey().getKeys().getKeysList(), signedBy)
+                    >= key.getThresholdKey().getThreshold();
+
+            case KEYLIST:
+                return countSatisfied(key.getKeyList().getKeysList(), signedBy)
+                    == key.getKeyList().getKeysCount();
+
+            default:
+                return false;
+        }
+    }
+
+    private static int countSatisfied(List<com.hedera.hashgraph.proto.Key> keys, Set<ByteString> signedBy) {
+        int count = 0;
+
+        for (final com.hedera.hashgraph.proto.Key key : keys) {
+            if (isSatisfied(key, signedBy)) {
+                count += 1;
+            }
+        }
+
+        return count;
+    }
+
+    private static final class Signer {
+        private final PublicKey publicKey;
+        private final TransactionSigner signer;
+        private final double cost;
+
+        private Signer(PublicKey publicKey, TransactionSigner signer, double cost) {
+            this.publicKey = publicKey;
+            this.signer = signer;
+            this.cost = cost;
+        }
+    }
+
+    private static final class Choice {
+        private final double cost;
+        private final Set<ByteString> keys;
+
+        private Choice(double cost, Set<ByteString> keys) {
+            this.cost = cost;
+            this.keys = keys;
+        }
+    }
+}
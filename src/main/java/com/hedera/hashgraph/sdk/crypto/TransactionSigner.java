@@ -4,6 +4,8 @@ import com.hedera.hashgraph.sdk.Client;
 import com.hedera.hashgraph.sdk.Transaction;
 import com.hedera.hashgraph.sdk.account.AccountId;
 
+import java.nio.ByteBuffer;
+
 /**
  * Functional interface for lambdas which can sign and return a transaction.
  *
@@ -23,4 +25,22 @@ public interface TransactionSigner {
      * @return the signature.
      */
     byte[] signTransaction(byte[] transactionBytes);
+
+    /**
+     * Sign the transaction from a read-only view of its body, which is what
+     * {@link Transaction#signWith(PublicKey, TransactionSigner)} calls.
+     * <p>
+     * The default implementation copies the body out of the view and calls
+     * {@link #signTransaction(byte[])}. Signers that can consume a buffer directly (e.g. to hash
+     * it or send it to an HSM) should override this to avoid the copy.
+     *
+     * @param transactionBytes a read-only view of the bytes of the transaction body.
+     * @return the signature.
+     */
+    default byte[] signTransaction(ByteBuffer transactionBytes) {
+        final byte[] bytes = new byte[transactionBytes.remaining()];
+        transactionBytes.get(bytes);
+
+        return signTransaction(bytes);
+    }
 }
@@ -1,5 +1,6 @@
 package com.hedera.hashgraph.sdk.crypto.ed25519;
 
+import com.hedera.hashgraph.sdk.BoundedCache;
 import com.hedera.hashgraph.sdk.crypto.BadKeyException;
 import com.hedera.hashgraph.sdk.crypto.CryptoUtils;
 import com.hedera.hashgraph.sdk.crypto.Keystore;
@@ -32,10 +33,9 @@ import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.Writer;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
+import java.util.stream.IntStream;
 
 import javax.annotation.Nullable;
 
@@ -52,6 +52,21 @@ public final class Ed25519PrivateKey extends PrivateKey<Ed25519PublicKey> {
     @Nullable
     private final KeyParameter chainCode;
 
+    // the HMAC-SHA512 keyed with the chain code, with the prefix of every child's input absorbed;
+    // computed on the first derivation and cloned for each child
+    @Nullable
+    private volatile DerivationState derivationState;
+
+    // public keys of children, by index
+    @Nullable
+    private volatile BoundedCache<Integer, Ed25519PublicKey> derivedPublicKeys;
+
+    // bound the memory a long-lived parent key can hold on to
+    private static final int MAX_DERIVED_PUBLIC_KEYS = 4096;
+
+    // below this many keys, splitting a range across threads costs more than it saves
+    private static final int PARALLEL_THRESHOLD = 16;
+
     private Ed25519PrivateKey(Ed25519PrivateKeyParameters privKeyParams) {
         super(new Ed25519PublicKey(privKeyParams.generatePublicKey()));
         this.privKeyParams = privKeyParams;
@@ -195,33 +210,173 @@ public final class Ed25519PrivateKey extends PrivateKey<Ed25519PublicKey> {
      * @see #supportsDerivation()
      */
     public Ed25519PrivateKey derive(int index) {
-        if (this.chainCode == null) {
+        return getDerivationState().derive(index);
+    }
+
+    /**
+     * Derive the child keys for a range of wallet/account indexes, as if by calling
+     * {@link #derive(int)} for each.
+     * <p>
+     * Large ranges are derived in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param start the index of the first key.
+     * @param count the number of keys to derive.
+     * @return the derived keys; the key at index {@code i} of the array is for the wallet/account
+     * index {@code start + i}.
+     * @throws IllegalArgumentException if {@code start} or {@code count} is negative, or the
+     *                                  range extends past {@link Integer#MAX_VALUE}.
+     * @throws IllegalStateException    if this key does not support derivation.
+     * @see #supportsDerivation()
+     */
+    public Ed25519PrivateKey[] deriveRange(int start, int count) {
+        checkRange(start, count);
+
+        final DerivationState state = getDerivationState();
+        final Ed25519PrivateKey[] keys = new Ed25519PrivateKey[count];
+
+        rangeOf(count).forEach(i -> keys[i] = state.derive(start + i));
+
+        return keys;
+    }
+
+    /**
+     * Derive the public keys of the children for a range of wallet/account indexes, without
+     * keeping the private keys.
+     *
+     * @param start the index of the first key.
+     * @param count the number of keys to derive.
+     * @return the derived public keys; the key at index {@code i} of the array is for the
+     * wallet/account index {@code start + i}.
+     * @throws IllegalArgumentException if {@code start} or {@code count} is negative, or the
+     *                                  range extends past {@link Integer#MAX_VALUE}.
+     * @throws IllegalStateException    if this key does not support derivation.
+     * @see #deriveRange(int, int)
+     */
+    public Ed25519PublicKey[] derivePublicKeyRange(int start, int count) {
+        checkRange(start, count);
+
+        final DerivationState state = getDerivationState();
+        final Ed25519PublicKey[] keys = new Ed25519PublicKey[count];
+
+        rangeOf(count).forEach(i -> keys[i] = state.derive(start + i).publicKey);
+
+        return keys;
+    }
+
+    /**
+     * Get the public key of the child for a wallet/account index.
+     * <p>
+     * The public keys of recently requested children are remembered by their parent, so this is
+     * cheap to call repeatedly, e.g. to look up the key for an account by its index.
+     *
+     * @param index the wallet/account index of the account, 0 for the default account.
+     * @return the public key of the derived key
+     * @throws IllegalStateException if this key does not support derivation.
+     * @see #derive(int)
+     */
+    public Ed25519PublicKey derivePublicKey(int index) {
+        BoundedCache<Integer, Ed25519PublicKey> cache = derivedPublicKeys;
+
+        if (cache == null) {
+            synchronized (this) {
+                cache = derivedPublicKeys;
+
+                if (cache == null) {
+                    cache = new BoundedCache<>(MAX_DERIVED_PUBLIC_KEYS);
+                    derivedPublicKeys = cache;
+                }
+            }
+        }
+
+        return cache.computeIfAbsent(index, i -> derive(i).publicKey);
+    }
+
+    private static void checkRange(int start, int count) {
+        if (start < 0 || count < 0) {
+            throw new IllegalArgumentException("start and count must not be negative");
+        }
+
+        // the last index, `start + count - 1`, may be `Integer.MAX_VALUE` itself
+        if (count > (long) Integer.MAX_VALUE - start + 1) {
+            throw new IllegalArgumentException("range of " + count + " keys from " + start
+                + " extends past the largest index");
+        }
+    }
+
+    private static IntStream rangeOf(int count) {
+        final IntStream range = IntStream.range(0, count);
+        return count >= PARALLEL_THRESHOLD ? range.parallel() : range;
+    }
+
+    private DerivationState getDerivationState() {
+        if (chainCode == null) {
             throw new IllegalStateException("this private key does not support derivation");
         }
 
-        // SLIP-10 child key derivation
-        // https://github.com/satoshilabs/slips/blob/master/slip-0010.md#master-key-generation
-        final HMac hmacSha512 = new HMac(new SHA512Digest());
+        DerivationState state = derivationState;
+
+        // racy but benign: every thread computes the same state
+        if (state == null) {
+            state = new DerivationState(chainCode.getKey(), privKeyParams.getEncoded());
+            derivationState = state;
+        }
+
+        return state;
+    }
+
+    /**
+     * SLIP-10 child key derivation: the child's key and chain code are
+     * {@code HMAC-SHA512(key = chainCode, data = 0x00 || parentKey || hardenedIndex)}.
+     * <p>
+     * HMAC is {@code H((K ^ opad) || H((K ^ ipad) || data))}; `inner` and `outer` are the digests
+     * with their pads (and in the inner's case, all of the data before the index) absorbed, so
+     * deriving a child clones them instead of re-keying and hashing the parent key again.
+     *
+     * @see <a href="https://github.com/satoshilabs/slips/blob/master/slip-0010.md">SLIP-10</a>
+     */
+    private static final class DerivationState {
+        private static final int BLOCK_LEN = 128;
 
-        hmacSha512.init(chainCode);
-        hmacSha512.update((byte) 0);
+        private final SHA512Digest inner = new SHA512Digest();
+        private final SHA512Digest outer = new SHA512Digest();
 
-        hmacSha512.update(privKeyParams.getEncoded(), 0, Ed25519.SECRET_KEY_SIZE);
+        DerivationState(byte[] chainCode, byte[] parentKey) {
+            final byte[] innerPad = new byte[BLOCK_LEN];
+            final byte[] outerPad = new byte[BLOCK_LEN];
 
-        // write the index in big-endian order, setting the 31st bit to mark it "hardened"
-        final byte[] indexBytes = new byte[4];
-        ByteBuffer.wrap(indexBytes).order(ByteOrder.BIG_ENDIAN).putInt(index);
-        indexBytes[0] |= (byte) 0b10000000;
+            // the chain code is shorter than a block so it's used as-is, padded with zeroes
+            for (int i = 0; i < BLOCK_LEN; i++) {
+                final byte keyByte = i < chainCode.length ? chainCode[i] : 0;
+                innerPad[i] = (byte) (keyByte ^ 0x36);
+                outerPad[i] = (byte) (keyByte ^ 0x5c);
+            }
 
-        hmacSha512.update(indexBytes, 0, indexBytes.length);
+            inner.update(innerPad, 0, BLOCK_LEN);
+            inner.update((byte) 0);
+            inner.update(parentKey, 0, Ed25519.SECRET_KEY_SIZE);
+
+            outer.update(outerPad, 0, BLOCK_LEN);
+        }
 
-        byte[] output = new byte[64];
-        hmacSha512.doFinal(output, 0);
+        Ed25519PrivateKey derive(int index) {
+            final byte[] output = new byte[64];
 
-        final Ed25519PrivateKeyParameters childKeyParams = new Ed25519PrivateKeyParameters(output, 0);
-        final KeyParameter childChainCode = new KeyParameter(output, 32, 32);
+            // the digests are only ever copied, never updated, so may be shared between threads
+            final SHA512Digest innerDigest = new SHA512Digest(inner);
 
-        return new Ed25519PrivateKey(childKeyParams, childChainCode);
+            // the index in big-endian order, setting the 31st bit to mark it "hardened"
+            innerDigest.update((byte) ((index >>> 24) | 0x80));
+            innerDigest.update((byte) (index >>> 16));
+            innerDigest.update((byte) (index >>> 8));
+            innerDigest.update((byte) index);
+            innerDigest.doFinal(output, 0);
+
+            final SHA512Digest outerDigest = new SHA512Digest(outer);
+            outerDigest.update(output, 0, output.length);
+            outerDigest.doFinal(output, 0);
+
+            return derivableKey(output);
+        }
     }
 
     /**
@@ -377,6 +532,28 @@ public final class Ed25519PrivateKey extends PrivateKey<Ed25519PublicKey> {
         return Ed25519PrivateKey.derivableKey(deriveData);
     }
 
+    /**
+     * Generate many new, random private keys which support child key derivation.
+     * <p>
+     * Large batches are generated in parallel on the common {@link java.util.concurrent.ForkJoinPool},
+     * each thread drawing from its own DRBG seeded from {@link java.security.SecureRandom}.
+     *
+     * @param count the number of keys to generate.
+     * @return the new keys.
+     * @throws IllegalArgumentException if {@code count} is negative.
+     */
+    public static Ed25519PrivateKey[] generate(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
+        }
+
+        final Ed25519PrivateKey[] keys = new Ed25519PrivateKey[count];
+
+        rangeOf(count).forEach(i -> keys[i] = generate(CryptoUtils.threadSecureRandom()));
+
+        return keys;
+    }
+
     @Override
     public byte[] toBytes() {
         return privKeyParams.getEncoded();
@@ -11,7 +11,6 @@ import org.bouncycastle.math.ec.rfc8032.Ed25519;
 import org.bouncycastle.util.encoders.Hex;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 /**
  * An ed25519 public key.
@@ -23,8 +22,12 @@ import java.util.Arrays;
 public final class Ed25519PublicKey extends PublicKey {
     private final Ed25519PublicKeyParameters pubKeyParams;
 
+    // `pubKeyParams.getEncoded()` copies on every call; we need the bytes for every signature
+    private final ByteString keyBytes;
+
     Ed25519PublicKey(Ed25519PublicKeyParameters pubKeyParams) {
         this.pubKeyParams = pubKeyParams;
+        this.keyBytes = ByteString.copyFrom(pubKeyParams.getEncoded());
     }
 
     /**
@@ -61,7 +64,12 @@ public final class Ed25519PublicKey extends PublicKey {
 
     @Override
     public byte[] toBytes() {
-        return pubKeyParams.getEncoded();
+        return keyBytes.toByteArray();
+    }
+
+    @Override
+    public ByteString toByteString() {
+        return keyBytes;
     }
 
     @Override
@@ -97,26 +105,23 @@ public final class Ed25519PublicKey extends PublicKey {
 
         Ed25519PublicKey that = (Ed25519PublicKey) o;
 
-        // redundant copy, consider not using `Ed25519PublicKeyParameters`
-        return Arrays.equals(
-            pubKeyParams.getEncoded(),
-            that.pubKeyParams.getEncoded());
+        return keyBytes.equals(that.keyBytes);
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(pubKeyParams.getEncoded());
+        return keyBytes.hashCode();
     }
 
     @Override
     public boolean hasPrefix(ByteString prefix) {
-        return ByteString.copyFrom(toBytes()).startsWith(prefix);
+        return keyBytes.startsWith(prefix);
     }
 
     @Override
     public com.hedera.hashgraph.proto.Key toKeyProto() {
         return com.hedera.hashgraph.proto.Key.newBuilder()
-            .setEd25519(ByteString.copyFrom(toBytes()))
+            .setEd25519(keyBytes)
             .build();
     }
 }
@@ -0,0 +1,182 @@
+package com.hedera.hashgraph.sdk.mirror;
+
+import com.hedera.hashgraph.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicResponse;
+
+import javax.annotation.Nullable;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.Status;
+
+/**
+ * A topic subscription which only asks the mirror node for as many messages as its subscriber
+ * has requested, using gRPC's manual flow control.
+ * <p>
+ * Messages not yet asked for stay on the server or in the HTTP/2 flow control window of the
+ * stream, so a slow subscriber applies backpressure all the way to the mirror node.
+ */
+final class FlowControlledCall implements MirrorSubscription {
+    private final ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call;
+    private final ConsensusTopicQuery query;
+    private final MirrorSubscriber<? super MirrorConsensusTopicResponse> subscriber;
+
+    // all guarded by `this`
+    private boolean started = false;
+    private boolean done = false;
+
+    // set by an invalid request; passed to the subscriber once the call has closed, so it is
+    // never called concurrently with `onNext`
+    @Nullable
+    private Throwable failure;
+
+    // outstanding demand from the subscriber, `Long.MAX_VALUE` for unbounded
+    private long demand = 0;
+
+    // how much of `demand` has been passed on to the call; at most `Integer.MAX_VALUE`
+    private int forwarded = 0;
+
+    FlowControlledCall(
+        MirrorClient mirrorClient,
+        ConsensusTopicQuery query,
+        MirrorSubscriber<? super MirrorConsensusTopicResponse> subscriber)
+    {
+        this.call = mirrorClient.nextChannel().newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT);
+        this.query = query;
+        this.subscriber = subscriber;
+    }
+
+    void start() {
+        // before the call is started, so no other signal can overtake it; requests made in the
+        // meantime are held until the call starts
+        subscriber.onSubscribe(this);
+
+        final Throwable failure;
+
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+
+            failure = this.failure;
+
+            if (failure == null) {
+                started = true;
+
+                call.start(new ClientCall.Listener<ConsensusTopicResponse>() {
+                    @Override
+                    public void onMessage(ConsensusTopicResponse message) {
+                        onResponse(message);
+                    }
+
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        onCallClosed(status, trailers);
+                    }
+                }, new Metadata());
+
+                call.sendMessage(query);
+                call.halfClose();
+
+                forwardDemand();
+                return;
+            }
+
+            done = true;
+        }
+
+        // the subscriber made an invalid request from `onSubscribe`, so nothing else is calling
+        // it; fail without opening the call
+        subscriber.onError(failure);
+    }
+
+    @Override
+    public synchronized void request(long n) {
+        if (done || failure != null) {
+            return;
+        }
+
+        if (n > 0) {
+            demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+
+            if (started) {
+                forwardDemand();
+            }
+
+            return;
+        }
+
+        failure = new IllegalArgumentException("must request a positive number of items, got " + n);
+
+        if (started) {
+            call.cancel("subscriber requested " + n + " items", null);
+        }
+    }
+
+    @Override
+    public synchronized void cancel() {
+        if (done) {
+            return;
+        }
+
+        done = true;
+
+        if (started) {
+            call.cancel("cancelled by subscriber", null);
+        }
+    }
+
+    private void forwardDemand() {
+        final long unforwarded = demand - forwarded;
+
+        if (unforwarded > 0 && forwarded < Integer.MAX_VALUE) {
+            final int count = (int) Math.min(unforwarded, Integer.MAX_VALUE - forwarded);
+
+            forwarded += count;
+            call.request(count);
+        }
+    }
+
+    private void onResponse(ConsensusTopicResponse message) {
+        synchronized (this) {
+            if (done || failure != null) {
+                return;
+            }
+
+            forwarded -= 1;
+
+            if (demand != Long.MAX_VALUE) {
+                demand -= 1;
+            } else {
+                // keep an unbounded subscriber topped up
+                forwardDemand();
+            }
+        }
+
+        // gRPC delivers one message at a time, so this is never called concurrently
+        subscriber.onNext(new MirrorConsensusTopicResponse(message));
+    }
+
+    private void onCallClosed(Status status, Metadata trailers) {
+        final Throwable failure;
+
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+
+            done = true;
+            failure = this.failure;
+        }
+
+        if (failure != null) {
+            subscriber.onError(failure);
+        } else if (status.isOk()) {
+            subscriber.onComplete();
+        } else {
+            subscriber.onError(status.asRuntimeException(trailers));
+        }
+    }
+}
@@ -5,16 +5,53 @@ import io.grpc.ManagedChannelBuilder;
 
 import javax.annotation.Nullable;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 public class MirrorClient implements AutoCloseable {
-    final ManagedChannel channel;
+    // subscriptions are spread across all of them
+    private final ManagedChannel[] channels;
+
+    private final AtomicInteger nextChannel = new AtomicInteger();
 
     public MirrorClient(String endpoint) {
-        channel = ManagedChannelBuilder.forTarget(endpoint)
-            .keepAliveTime(2, TimeUnit.MINUTES)
-            .usePlaintext()
-            .build();
+        this(endpoint, 1);
+    }
+
+    /**
+     * Connect to a mirror node with several connections.
+     * <p>
+     * Each connection can only carry so many streams at once, limited by the mirror node's
+     * HTTP/2 settings, and all of a connection's streams share one TCP window; with hundreds or
+     * thousands of subscriptions, spreading them across a few connections keeps one busy topic
+     * from holding up the rest. New subscriptions take the connections in turn.
+     *
+     * @param channelCount the number of connections; must be at least 1.
+     */
+    public MirrorClient(String endpoint, int channelCount) {
+        if (channelCount < 1) {
+            throw new IllegalArgumentException("channelCount must be >= 1");
+        }
+
+        channels = new ManagedChannel[channelCount];
+
+        for (int i = 0; i < channelCount; i++) {
+            channels[i] = ManagedChannelBuilder.forTarget(endpoint)
+                .keepAliveTime(2, TimeUnit.MINUTES)
+                .usePlaintext()
+                .build();
+        }
+    }
+
+    MirrorClient(ManagedChannel... channels) {
+        this.channels = channels;
+    }
+
+    /**
+     * Get the connection for the next subscription.
+     */
+    ManagedChannel nextChannel() {
+        return channels[Math.floorMod(nextChannel.getAndIncrement(), channels.length)];
     }
 
     @Override
@@ -24,7 +61,17 @@ public class MirrorClient implements AutoCloseable {
 
     public boolean close(long timeout, TimeUnit timeoutUnit) throws InterruptedException {
         // shutdownNow() is required because we have by-design infinitely running calls
-        channel.shutdownNow();
-        return channel.awaitTermination(timeout, timeoutUnit);
+        for (final ManagedChannel channel : channels) {
+            channel.shutdownNow();
+        }
+
+        final long deadline = System.nanoTime() + timeoutUnit.toNanos(timeout);
+        boolean terminated = true;
+
+        for (final ManagedChannel channel : channels) {
+            terminated &= channel.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        return terminated;
     }
 }
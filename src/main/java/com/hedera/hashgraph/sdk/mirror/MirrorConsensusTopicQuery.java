@@ -48,7 +48,7 @@ public class MirrorConsensusTopicQuery {
         Consumer<Throwable> onError)
     {
         final ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call =
-            mirrorClient.channel.newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT);
+            mirrorClient.nextChannel().newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT);
 
         final MirrorSubscriptionHandle subscriptionHandle = new MirrorSubscriptionHandle(() -> {
             call.cancel("unsubscribed", null);
@@ -73,4 +73,50 @@ public class MirrorConsensusTopicQuery {
 
         return subscriptionHandle;
     }
+
+    /**
+     * Subscribe to the topic with flow control: messages are only sent by the mirror node as
+     * fast as the subscriber requests them, so a subscriber replaying a topic from an old start
+     * time never has more messages in memory than it asked for.
+     * <p>
+     * {@link #subscribe(MirrorClient, Consumer, Consumer)} instead takes every message as soon as
+     * it arrives.
+     *
+     * @see MirrorSubscriber
+     */
+    public void subscribe(MirrorClient mirrorClient, MirrorSubscriber<? super MirrorConsensusTopicResponse> subscriber) {
+        new FlowControlledCall(mirrorClient, builder.build(), subscriber).start();
+    }
+
+    /**
+     * Subscribe to the topic, reconnecting whenever the stream fails, e.g. because the mirror
+     * node restarted.
+     * <p>
+     * The last consensus timestamp and sequence number received are tracked, and each reconnect,
+     * after a randomized exponential backoff, asks for messages from just after that timestamp
+     * (and for the remaining number of messages, if a limit is set). Messages received again are
+     * dropped, and sequence numbers skipped are reported to {@code onGap} before the message
+     * after them is passed to {@code onNext}.
+     *
+     * @param onNext  called with each message, in order.
+     * @param onGap   called when messages are missing from the stream.
+     * @param onError called if the subscription can't be continued, e.g. because the topic does
+     *                not exist; after this no more messages are delivered.
+     * @return a handle to end the subscription with, including while waiting to reconnect.
+     */
+    public MirrorSubscriptionHandle subscribeResuming(
+        MirrorClient mirrorClient,
+        Consumer<MirrorConsensusTopicResponse> onNext,
+        MirrorGapListener onGap,
+        Consumer<Throwable> onError)
+    {
+        // the subscription simply stops once it reaches its end time or limit
+        final ResumingSubscription subscription =
+            new ResumingSubscription(mirrorClient, builder.build(), onNext, onGap, onError, () -> { });
+
+        subscription.request(Long.MAX_VALUE);
+        subscription.start();
+
+        return new MirrorSubscriptionHandle(subscription::cancel);
+    }
 }
@@ -0,0 +1,15 @@
+package com.hedera.hashgraph.sdk.mirror;
+
+/**
+ * Told about messages missing from a resuming topic subscription.
+ *
+ * @see MirrorConsensusTopicQuery#subscribeResuming
+ */
+@FunctionalInterface
+public interface MirrorGapListener {
+    /**
+     * Messages with sequence numbers from {@code firstMissing} to {@code lastMissing},
+     * inclusive, were not received; the message after them is delivered next.
+     */
+    void onGap(long firstMissing, long lastMissing);
+}
@@ -0,0 +1,39 @@
+package com.hedera.hashgraph.sdk.mirror;
+
+/**
+ * Receives a stream of items at the rate it asks for them, with the same contract as
+ * {@code java.util.concurrent.Flow.Subscriber} (available from Java 9) and Reactive Streams, so it
+ * can be adapted to either with a few lines.
+ * <p>
+ * Nothing is delivered until items are requested with {@link MirrorSubscription#request(long)},
+ * and no more than requested; the demand is passed on to the mirror node, so a subscriber which
+ * falls behind slows the stream down instead of buffering it.
+ * <p>
+ * Calls are made one at a time, but not necessarily from the same thread.
+ *
+ * @param <T> the type of item.
+ * @see MirrorConsensusTopicQuery#subscribe(MirrorClient, MirrorSubscriber)
+ */
+public interface MirrorSubscriber<T> {
+    /**
+     * Called before any other method, with the subscription to request items from or cancel.
+     */
+    void onSubscribe(MirrorSubscription subscription);
+
+    /**
+     * Called with the next item, at most as many times as items have been requested.
+     */
+    void onNext(T item);
+
+    /**
+     * Called if the stream fails, or if {@link MirrorSubscription#request(long)} is called with
+     * a count that is not positive; nothing else is called after this.
+     */
+    void onError(Throwable throwable);
+
+    /**
+     * Called when the stream ends, e.g. when the end time of the query is reached; nothing else is
+     * called after this.
+     */
+    void onComplete();
+}
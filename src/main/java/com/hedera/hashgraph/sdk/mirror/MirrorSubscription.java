@@ -0,0 +1,18 @@
+package com.hedera.hashgraph.sdk.mirror;
+
+/**
+ * The link between a {@link MirrorSubscriber} and its stream, with the same contract as
+ * {@code java.util.concurrent.Flow.Subscription}. Thread-safe.
+ */
+public interface MirrorSubscription {
+    /**
+     * Ask for up to {@code n} more items; {@link Long#MAX_VALUE} asks for every item.
+     */
+    void request(long n);
+
+    /**
+     * Stop the stream. Items already on their way may still be delivered, but after this
+     * returns the subscriber will eventually stop receiving calls.
+     */
+    void cancel();
+}
@@ -0,0 +1,452 @@
+package com.hedera.hashgraph.sdk.mirror;
+
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.TimestampHelper;
+import com.hedera.hashgraph.sdk.consensus.ConsensusTopicId;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Follows many topics at once over one {@link MirrorClient}.
+ * <p>
+ * Each topic's stream is opened on the client's next connection in turn (see
+ * {@link MirrorClient#MirrorClient(String, int)}) and is flow-controlled: at most
+ * {@link #setQueueCapacity(int) queueCapacity} messages per topic are requested from the mirror
+ * node ahead of the listener, so a topic whose listener falls behind is slowed down at the source
+ * rather than buffered without bound.
+ * <p>
+ * Streams are resumed as with {@link MirrorConsensusTopicQuery#subscribeResuming}: if one fails,
+ * e.g. because the mirror node restarted, or is closed by the mirror node, it is reopened after
+ * a backoff from just after the last message received. Messages received again are dropped, and
+ * messages missing from a topic are reported to the {@link #setGapListener(GapListener) gap
+ * listener}.
+ * <p>
+ * Messages are passed to the listener on the executor given to the constructor, never on gRPC
+ * threads. The messages of a topic are delivered one at a time and in order; different topics
+ * are delivered concurrently, up to the parallelism of the executor, and each topic gives up its
+ * thread after a few messages so that busy topics can't starve quiet ones.
+ *
+ * <pre>{@code
+ * MirrorSubscriptionManager manager = new MirrorSubscriptionManager(
+ *     new MirrorClient(endpoint, 4),
+ *     Executors.newFixedThreadPool(8),
+ *     (topicId, message) -> process(topicId, message),
+ *     (topicId, error) -> log.warn("{} failed", topicId, error));
+ *
+ * manager.subscribeAll(topicIds, Instant.now());
+ * }</pre>
+ * <p>
+ * A manager is thread-safe. Closing it ends every subscription but not the client.
+ */
+public final class MirrorSubscriptionManager implements AutoCloseable {
+    // messages a topic delivers before giving its thread to the next topic
+    private static final int DRAIN_BATCH = 64;
+
+    private final MirrorClient mirrorClient;
+    private final Executor executor;
+    private final BiConsumer<ConsensusTopicId, MirrorConsensusTopicResponse> onMessage;
+    private final BiConsumer<ConsensusTopicId, Throwable> onError;
+
+    private final ConcurrentHashMap<ConsensusTopicId, TopicStream> streams = new ConcurrentHashMap<>();
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile int queueCapacity = 1024;
+    private volatile boolean verifyRunningHashes = false;
+    private volatile GapListener gapListener = (topicId, firstMissing, lastMissing) -> { };
+
+    /**
+     * Told about messages missing from a topic's stream.
+     */
+    @FunctionalInterface
+    public interface GapListener {
+        /**
+         * Messages of the topic with sequence numbers from {@code firstMissing} to
+         * {@code lastMissing}, inclusive, were not received; the message after them is passed to
+         * the message listener next.
+         */
+        void onGap(ConsensusTopicId topicId, long firstMissing, long lastMissing);
+    }
+
+    /**
+     * @param mirrorClient the client to open topic streams on.
+     * @param executor     the executor to call the listeners on.
+     * @param onMessage    called with each message and its topic.
+     * @param onError      called if a topic's stream fails in a way reconnecting can't fix (e.g.
+     *                     the topic doesn't exist), if {@code onMessage} throws, or if a running
+     *                     hash is wrong (see {@link #setVerifyRunningHashes}); the topic is then
+     *                     no longer subscribed to.
+     */
+    public MirrorSubscriptionManager(
+        MirrorClient mirrorClient,
+        Executor executor,
+        BiConsumer<ConsensusTopicId, MirrorConsensusTopicResponse> onMessage,
+        BiConsumer<ConsensusTopicId, Throwable> onError)
+    {
+        this.mirrorClient = mirrorClient;
+        this.executor = executor;
+        this.onMessage = onMessage;
+        this.onError = onError;
+    }
+
+    /**
+     * Set the number of messages per topic that may be received ahead of the listener. Defaults
+     * to 1024. Only applies to topics subscribed to afterwards.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public MirrorSubscriptionManager setQueueCapacity(int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be >= 1");
+        }
+
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * Set whether to check the running hash of each message before it is passed to the listener,
+     * with a {@link RunningHashVerifier} per topic. A message whose running hash is wrong fails
+     * its topic with a {@link RunningHashMismatchException} instead. Defaults to {@code false}.
+     * Only applies to topics subscribed to afterwards.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public MirrorSubscriptionManager setVerifyRunningHashes(boolean verifyRunningHashes) {
+        this.verifyRunningHashes = verifyRunningHashes;
+        return this;
+    }
+
+    /**
+     * Set the listener told about messages missing from a topic, which is called on the executor
+     * in order with the topic's messages. By default gaps are ignored.
+     *
+     * @return {@code this} for fluent usage.
+     */
+    public MirrorSubscriptionManager setGapListener(GapListener gapListener) {
+        this.gapListener = gapListener;
+        return this;
+    }
+
+    /**
+     * Subscribe to a topic, unless it is already subscribed to.
+     *
+     * @param startTime the consensus time to start from, which may be in the past; {@code null}
+     *                  for messages from now on.
+     * @return {@code false} if the topic was already subscribed to.
+     */
+    public boolean subscribe(ConsensusTopicId topicId, @Nullable Instant startTime) {
+        final ConsensusTopicQuery.Builder query = ConsensusTopicQuery.newBuilder()
+            .setTopicID(topicId.toProto());
+
+        if (startTime != null) {
+            query.setConsensusStartTime(TimestampHelper.timestampFrom(startTime));
+        }
+
+        final TopicStream stream = new TopicStream(topicId, query.build(), queueCapacity,
+            verifyRunningHashes ? new RunningHashVerifier(topicId) : null);
+
+        if (streams.putIfAbsent(topicId, stream) != null) {
+            return false;
+        }
+
+        stream.start();
+        return true;
+    }
+
+    /**
+     * Subscribe to each of the topics not already subscribed to.
+     *
+     * @see #subscribe(ConsensusTopicId, Instant)
+     */
+    public void subscribeAll(Collection<ConsensusTopicId> topicIds, @Nullable Instant startTime) {
+        for (final ConsensusTopicId topicId : topicIds) {
+            subscribe(topicId, startTime);
+        }
+    }
+
+    /**
+     * End the subscription to a topic. Messages already received for it are discarded.
+     *
+     * @return {@code false} if the topic was not subscribed to.
+     */
+    public boolean unsubscribe(ConsensusTopicId topicId) {
+        final TopicStream stream = streams.remove(topicId);
+
+        if (stream == null) {
+            return false;
+        }
+
+        stream.cancel();
+        return true;
+    }
+
+    /**
+     * End the subscriptions to each of the topics.
+     */
+    public void unsubscribeAll(Collection<ConsensusTopicId> topicIds) {
+        for (final ConsensusTopicId topicId : topicIds) {
+            unsubscribe(topicId);
+        }
+    }
+
+    /**
+     * Get the topics currently subscribed to.
+     */
+    public Set<ConsensusTopicId> getTopicIds() {
+        return Collections.unmodifiableSet(new HashSet<>(streams.keySet()));
+    }
+
+    /**
+     * Get counts across all topics since the manager was created.
+     */
+    public Stats getStats() {
+        long queued = 0;
+
+        for (final TopicStream stream : streams.values()) {
+            queued += stream.queued.get();
+        }
+
+        return new Stats(streams.size(), received.sum(), delivered.sum(), queued, failed.sum());
+    }
+
+    /**
+     * End every subscription.
+     */
+    @Override
+    public void close() {
+        unsubscribeAll(new ArrayList<>(streams.keySet()));
+    }
+
+    /**
+     * A snapshot of the counts of a {@link MirrorSubscriptionManager}.
+     */
+    public static final class Stats {
+        /**
+         * The number of topics subscribed to.
+         */
+        public final int topicCount;
+
+        /**
+         * The number of messages received from the mirror node.
+         */
+        public final long messagesReceived;
+
+        /**
+         * The number of messages passed to the listener.
+         */
+        public final long messagesDelivered;
+
+        /**
+         * The number of messages received and waiting for the listener.
+         */
+        public final long messagesQueued;
+
+        /**
+         * The number of topics whose subscription failed.
+         */
+        public final long topicsFailed;
+
+        private Stats(int topicCount, long messagesReceived, long messagesDelivered, long messagesQueued, long topicsFailed) {
+            this.topicCount = topicCount;
+            this.messagesReceived = messagesReceived;
+            this.messagesDelivered = messagesDelivered;
+            this.messagesQueued = messagesQueued;
+            this.topicsFailed = topicsFailed;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{"
+                + "topicCount=" + topicCount
+                + ", messagesReceived=" + messagesReceived
+                + ", messagesDelivered=" + messagesDelivered
+                + ", messagesQueued=" + messagesQueued
+                + ", topicsFailed=" + topicsFailed
+                + "}";
+        }
+    }
+
+    /**
+     * The queue of one topic, drained on the executor by at most one thread at a time.
+     */
+    private final class TopicStream implements Runnable {
+        private final ConsensusTopicId topicId;
+        private final int capacity;
+        private final ResumingSubscription subscription;
+
+        // both only used by the drain, so by one thread at a time
+        @Nullable
+        private final RunningHashVerifier verifier;
+        private long lastSequenceNumber = 0;
+
+        // never holds more than `capacity` messages, as no more are requested
+        private final ConcurrentLinkedQueue<MirrorConsensusTopicResponse> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+
+        // the number of times the stream was scheduled; only the caller which takes it from 0
+        // submits the drain, and the drain runs until it has caught up with every increment
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled = false;
+
+        // set once the stream has ended, to be acted on after the messages before it
+        private volatile boolean ended = false;
+
+        @Nullable
+        private volatile Throwable error;
+
+        private TopicStream(
+            ConsensusTopicId topicId,
+            ConsensusTopicQuery query,
+            int capacity,
+            @Nullable RunningHashVerifier verifier)
+        {
+            this.topicId = topicId;
+            this.capacity = capacity;
+            this.verifier = verifier;
+
+            // gaps are found again by the drain, so they are reported on the executor in order
+            // with the messages
+            this.subscription = new ResumingSubscription(mirrorClient, query,
+                this::onNext, (firstMissing, lastMissing) -> { }, this::onError, this::onComplete);
+        }
+
+        void start() {
+            subscription.request(capacity);
+            subscription.start();
+        }
+
+        private void onNext(MirrorConsensusTopicResponse item) {
+            received.increment();
+            queued.incrementAndGet();
+            queue.add(item);
+            schedule();
+        }
+
+        private void onError(Throwable throwable) {
+            error = throwable;
+            ended = true;
+            schedule();
+        }
+
+        // not expected: topics here have no end time or limit, so their streams are resumed
+        // rather than completed
+        private void onComplete() {
+            ended = true;
+            schedule();
+        }
+
+        void cancel() {
+            cancelled = true;
+            subscription.cancel();
+
+            // let a drain in progress, or a new one, discard the queue
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = wip.get();
+
+            for (;;) {
+                int count = 0;
+
+                while (count < DRAIN_BATCH && !cancelled) {
+                    final MirrorConsensusTopicResponse message = queue.poll();
+
+                    if (message == null) {
+                        break;
+                    }
+
+                    queued.decrementAndGet();
+                    count += 1;
+
+                    try {
+                        if (lastSequenceNumber != 0 && message.sequenceNumber > lastSequenceNumber + 1) {
+                            gapListener.onGap(topicId, lastSequenceNumber + 1, message.sequenceNumber - 1);
+                        }
+
+                        lastSequenceNumber = message.sequenceNumber;
+
+                        if (verifier != null) {
+                            verifier.verify(message);
+                        }
+
+                        onMessage.accept(topicId, message);
+                    } catch (RuntimeException e) {
+                        fail(e);
+                        break;
+                    }
+
+                    delivered.increment();
+                }
+
+                if (count > 0 && !cancelled) {
+                    // replace what was taken off the queue
+                    subscription.request(count);
+                }
+
+                if (cancelled) {
+                    queued.addAndGet(-drop());
+                } else if (queue.isEmpty() && ended) {
+                    final Throwable error = this.error;
+
+                    if (streams.remove(topicId, this) && error != null) {
+                        fail(error);
+                    }
+
+                    cancelled = true;
+                } else if (count == DRAIN_BATCH) {
+                    // give other topics a turn; `wip` stays above 0 so nobody else submits us
+                    executor.execute(this);
+                    return;
+                }
+
+                missed = wip.addAndGet(-missed);
+
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void fail(Throwable error) {
+            cancel();
+            streams.remove(topicId, this);
+            failed.increment();
+            onError.accept(topicId, error);
+        }
+
+        private int drop() {
+            int dropped = 0;
+
+            while (queue.poll() != null) {
+                dropped += 1;
+            }
+
+            return dropped;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.hedera.hashgraph.sdk.mirror;
+
+import com.hedera.hashgraph.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicResponse;
+import com.hedera.hashgraph.sdk.DefaultRetryPolicy;
+import com.hedera.hashgraph.sdk.RetryPolicy;
+import com.hedera.hashgraph.sdk.ThreadUtil;
+import com.hedera.hashgraph.sdk.TimestampHelper;
+
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.Status;
+
+/**
+ * A topic subscription which reconnects when its stream fails, carrying on from the message
+ * after the last one it received.
+ * <p>
+ * Each message's sequence number is compared with the last one's: messages at or before it,
+ * which a mirror node may send again after a reconnect, are dropped, and a jump forward is
+ * reported as a gap.
+ * <p>
+ * Messages are only asked of the mirror node as they are {@link #request(long) requested}, using
+ * gRPC's manual flow control; demand not yet met when a stream fails is asked of the next one.
+ */
+final class ResumingSubscription {
+    // only its delays are used: capped exponential backoff with full jitter, so subscribers
+    // dropped by the same mirror node restart don't all come back at once
+    private static final RetryPolicy backoff = new DefaultRetryPolicy();
+
+    private final MirrorClient mirrorClient;
+    private final ConsensusTopicQuery query;
+    private final Consumer<MirrorConsensusTopicResponse> onNext;
+    private final MirrorGapListener onGap;
+    private final Consumer<Throwable> onError;
+    private final Runnable onComplete;
+
+    // all guarded by `this`
+    @Nullable
+    private Instant lastConsensusTimestamp;
+    private long lastSequenceNumber = 0;
+    private long received = 0;
+    private int failures = 0;
+    private boolean cancelled = false;
+
+    // messages requested and not yet delivered, `Long.MAX_VALUE` for unbounded
+    private long demand = 0;
+
+    // how much of `demand` has been asked of the current call; at most `Integer.MAX_VALUE`
+    private int forwarded = 0;
+
+    @Nullable
+    private ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call;
+
+    @Nullable
+    private ScheduledFuture<?> pendingResume;
+
+    ResumingSubscription(
+        MirrorClient mirrorClient,
+        ConsensusTopicQuery query,
+        Consumer<MirrorConsensusTopicResponse> onNext,
+        MirrorGapListener onGap,
+        Consumer<Throwable> onError,
+        Runnable onComplete)
+    {
+        this.mirrorClient = mirrorClient;
+        this.query = query;
+        this.onNext = onNext;
+        this.onGap = onGap;
+        this.onError = onError;
+        this.onComplete = onComplete;
+    }
+
+    synchronized void start() {
+        if (cancelled) {
+            return;
+        }
+
+        final ConsensusTopicQuery.Builder resumed = query.toBuilder();
+
+        if (lastConsensusTimestamp != null) {
+            resumed.setConsensusStartTime(TimestampHelper.timestampFrom(lastConsensusTimestamp.plusNanos(1)));
+        }
+
+        if (query.getLimit() > 0) {
+            // `received` is less than the limit, or the stream would have been finished
+            resumed.setLimit(query.getLimit() - received);
+        }
+
+        final ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call = mirrorClient.nextChannel()
+            .newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT);
+
+        this.call = call;
+        this.forwarded = 0;
+
+        call.start(new ClientCall.Listener<ConsensusTopicResponse>() {
+            @Override
+            public void onMessage(ConsensusTopicResponse message) {
+                deliver(call, new MirrorConsensusTopicResponse(message));
+            }
+
+            @Override
+            public void onClose(Status status, Metadata trailers) {
+                onStreamEnd(call, status.isOk() ? null : status.asRuntimeException(trailers));
+            }
+        }, new Metadata());
+
+        call.sendMessage(resumed.build());
+        call.halfClose();
+
+        forwardDemand();
+    }
+
+    /**
+     * Ask for {@code n} more messages; {@code Long.MAX_VALUE} asks for every message.
+     */
+    synchronized void request(long n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("must request a positive number of messages, got " + n);
+        }
+
+        if (cancelled) {
+            return;
+        }
+
+        demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+
+        if (call != null) {
+            forwardDemand();
+        }
+    }
+
+    synchronized void cancel() {
+        cancelled = true;
+
+        if (pendingResume != null) {
+            pendingResume.cancel(false);
+        }
+
+        if (call != null) {
+            call.cancel("unsubscribed", null);
+        }
+    }
+
+    // guarded by `this`; gRPC never calls back into the listener from `request()`
+    private void forwardDemand() {
+        final long unforwarded = demand - forwarded;
+
+        if (call != null && unforwarded > 0 && forwarded < Integer.MAX_VALUE) {
+            final int count = (int) Math.min(unforwarded, Integer.MAX_VALUE - forwarded);
+
+            forwarded += count;
+            call.request(count);
+        }
+    }
+
+    private void deliver(ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> fromCall, MirrorConsensusTopicResponse response) {
+        final long lastSequenceNumber;
+
+        synchronized (this) {
+            if (cancelled || fromCall != call) {
+                return;
+            }
+
+            forwarded -= 1;
+
+            if (this.lastSequenceNumber != 0 && response.sequenceNumber <= this.lastSequenceNumber) {
+                // ask for another in place of the one dropped
+                forwardDemand();
+                return;
+            }
+
+            if (demand != Long.MAX_VALUE) {
+                demand -= 1;
+            } else {
+                // keep an unbounded subscriber topped up
+                forwardDemand();
+            }
+
+            lastSequenceNumber = this.lastSequenceNumber;
+
+            this.lastSequenceNumber = response.sequenceNumber;
+            this.lastConsensusTimestamp = response.consensusTimestamp;
+            this.received += 1;
+            this.failures = 0;
+        }
+
+        // only the stream's own thread delivers, so callbacks stay in order outside the lock
+        if (lastSequenceNumber != 0 && response.sequenceNumber > lastSequenceNumber + 1) {
+            onGap.onGap(lastSequenceNumber + 1, response.sequenceNumber - 1);
+        }
+
+        onNext.accept(response);
+    }
+
+    private void onStreamEnd(ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> endedCall, @Nullable Throwable error) {
+        synchronized (this) {
+            if (cancelled || endedCall != call) {
+                return;
+            }
+
+            final boolean reachedEnd = error == null
+                && (query.hasConsensusEndTime() || (query.getLimit() > 0 && received >= query.getLimit()));
+
+            if (!reachedEnd && (error == null || isResumable(error))) {
+                // a stream with no end closed by the server is resumed like a failed one
+                pendingResume = ThreadUtil.getDefaultScheduler().schedule(
+                    this::start, backoff.getRetryDelay(failures).toNanos(), TimeUnit.NANOSECONDS);
+
+                failures += 1;
+                return;
+            }
+
+            cancelled = true;
+        }
+
+        if (error == null) {
+            onComplete.run();
+        } else {
+            onError.accept(error);
+        }
+    }
+
+    static boolean isResumable(Throwable error) {
+        switch (Status.fromThrowable(error).getCode()) {
+            case UNAVAILABLE:
+            case RESOURCE_EXHAUSTED:
+            case INTERNAL:
+            case UNKNOWN:
+            case ABORTED:
+            case DEADLINE_EXCEEDED:
+                return true;
+
+            default:
+                // e.g. the topic doesn't exist or the query is invalid; retrying won't help
+                return false;
+        }
+    }
+}
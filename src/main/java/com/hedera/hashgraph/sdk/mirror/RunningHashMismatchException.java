@@ -0,0 +1,37 @@
+package com.hedera.hashgraph.sdk.mirror;
+
+import org.bouncycastle.util.encoders.Hex;
+
+import javax.annotation.Nullable;
+
+/**
+ * Thrown by a {@link RunningHashVerifier}, or passed to an error handler, when the running hash of
+ * a message from a mirror node is not the one computed from the message and the one before it.
+ * <p>
+ * The message, or one the mirror node sent before it, is not the one the network reached
+ * consensus on, or a message was left out; messages after it can't be trusted either.
+ */
+public final class RunningHashMismatchException extends RuntimeException {
+    /**
+     * The message whose running hash is wrong.
+     */
+    public final MirrorConsensusTopicResponse response;
+
+    /**
+     * The running hash computed for the message, or {@code null} if its running hash is not
+     * a SHA-384 hash at all.
+     */
+    @Nullable
+    public final byte[] expectedRunningHash;
+
+    RunningHashMismatchException(MirrorConsensusTopicResponse response, @Nullable byte[] expectedRunningHash) {
+        super(expectedRunningHash == null
+            ? "running hash of message " + response.sequenceNumber + " is "
+                + response.runningHash.length + " bytes, not " + RunningHashVerifier.HASH_SIZE
+            : "running hash of message " + response.sequenceNumber + " is "
+                + Hex.toHexString(response.runningHash) + ", expected " + Hex.toHexString(expectedRunningHash));
+
+        this.response = response;
+        this.expectedRunningHash = expectedRunningHash == null ? null : expectedRunningHash.clone();
+    }
+}
@@ -0,0 +1,252 @@
+package com.hedera.hashgraph.sdk.mirror;
+
+import com.hedera.hashgraph.sdk.consensus.ConsensusTopicId;
+
+import org.bouncycastle.crypto.digests.SHA384Digest;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Checks the running hash of each message of a topic, as received from a mirror node, by
+ * recomputing it from the previous message's.
+ * <p>
+ * The running hash after a message is the SHA-384 hash of the following, serialized in order
+ * with a {@link java.io.ObjectOutputStream} as the network does, including the stream header and
+ * block data framing that adds:
+ * <ol>
+ *     <li>the running hash after the previous message, or 48 zero bytes for the first message
+ *     of a topic;</li>
+ *     <li>the running hash version, 2, as a {@code long};</li>
+ *     <li>the shard, realm and number of the topic, each as a {@code long};</li>
+ *     <li>the consensus timestamp, as a {@code long} of seconds and an {@code int} of nanos;</li>
+ *     <li>the sequence number of the message, as a {@code long};</li>
+ *     <li>the message.</li>
+ * </ol>
+ * <p>
+ * A verifier keeps one digest and one buffer which it reuses for every message, so checking a
+ * message allocates nothing. It is not thread-safe; give each topic its own verifier, used by one
+ * thread at a time, e.g. through {@link #verifying(ConsensusTopicId, Consumer, Consumer)}.
+ */
+public final class RunningHashVerifier {
+    static final long RUNNING_HASH_VERSION = 2;
+
+    static final int HASH_SIZE = 48;
+
+    private static final byte[] STREAM_HEADER = { (byte) 0xAC, (byte) 0xED, 0x00, 0x05 };
+
+    // `ObjectOutputStream` frames its data in blocks of up to this many bytes
+    private static final int MAX_BLOCK_SIZE = 1024;
+
+    private static final byte TC_BLOCKDATA = 0x77;
+    private static final byte TC_BLOCKDATALONG = 0x7A;
+
+    private final long topicShard;
+    private final long topicRealm;
+    private final long topicNum;
+
+    private final SHA384Digest digest = new SHA384Digest();
+
+    // the block `ObjectOutputStream` would be buffering, and its length
+    private final byte[] block = new byte[MAX_BLOCK_SIZE];
+    private int blockLen;
+
+    private final byte[] blockHeader = new byte[5];
+
+    private final byte[] runningHash = new byte[HASH_SIZE];
+    private final byte[] computed = new byte[HASH_SIZE];
+
+    // 0 until the first message, unless the verifier was started from a known hash
+    private long sequenceNumber;
+
+    /**
+     * Create a verifier which trusts the running hash of the first message it sees, unless that
+     * is the first message of the topic, and checks every message after it.
+     */
+    public RunningHashVerifier(ConsensusTopicId topicId) {
+        this.topicShard = topicId.shard;
+        this.topicRealm = topicId.realm;
+        this.topicNum = topicId.topic;
+    }
+
+    /**
+     * Create a verifier which checks messages from the one after a known running hash, e.g. one
+     * stored along with the last message processed, or from
+     * {@link com.hedera.hashgraph.sdk.consensus.ConsensusTopicInfo}.
+     *
+     * @param sequenceNumber the sequence number of the message the running hash is after.
+     * @param runningHash    the running hash after that message.
+     */
+    public RunningHashVerifier(ConsensusTopicId topicId, long sequenceNumber, byte[] runningHash) {
+        this(topicId);
+
+        if (runningHash.length != HASH_SIZE) {
+            throw new IllegalArgumentException("running hash must be " + HASH_SIZE + " bytes");
+        }
+
+        this.sequenceNumber = sequenceNumber;
+        System.arraycopy(runningHash, 0, this.runningHash, 0, HASH_SIZE);
+    }
+
+    /**
+     * Wrap a message handler so the running hash of each message is checked before it is
+     * handled.
+     *
+     * @param onNext  called with each message whose running hash is correct, or can't be checked.
+     * @param onError called with a {@link RunningHashMismatchException} for the first message
+     *                whose running hash is wrong; no more messages are passed on after it.
+     */
+    public static Consumer<MirrorConsensusTopicResponse> verifying(
+        ConsensusTopicId topicId,
+        Consumer<MirrorConsensusTopicResponse> onNext,
+        Consumer<Throwable> onError)
+    {
+        final RunningHashVerifier verifier = new RunningHashVerifier(topicId);
+        final boolean[] diverged = { false };
+
+        return response -> {
+            if (diverged[0]) {
+                return;
+            }
+
+            try {
+                verifier.verify(response);
+            } catch (RunningHashMismatchException e) {
+                diverged[0] = true;
+                onError.accept(e);
+                return;
+            }
+
+            onNext.accept(response);
+        };
+    }
+
+    /**
+     * Check the running hash of the next message.
+     * <p>
+     * A message can only be checked if it directly follows the last one seen. The first message
+     * seen, and the first after a jump in sequence numbers (e.g. a gap in the stream), can't be
+     * checked; its running hash is trusted, and the messages after it are checked against it.
+     *
+     * @return {@code true} if the running hash was checked, {@code false} if it couldn't be.
+     * @throws RunningHashMismatchException if the running hash is wrong.
+     */
+    public boolean verify(MirrorConsensusTopicResponse response) {
+        final boolean chained = response.sequenceNumber == sequenceNumber + 1
+            && (sequenceNumber != 0 || response.sequenceNumber == 1);
+
+        if (chained) {
+            computeNext(response);
+
+            if (!Arrays.equals(computed, response.runningHash)) {
+                throw new RunningHashMismatchException(response, computed);
+            }
+        } else if (response.runningHash.length != HASH_SIZE) {
+            throw new RunningHashMismatchException(response, null);
+        }
+
+        System.arraycopy(response.runningHash, 0, runningHash, 0, HASH_SIZE);
+        sequenceNumber = response.sequenceNumber;
+
+        return chained;
+    }
+
+    /**
+     * Get the sequence number of the last message seen, or the one the verifier was started
+     * after; 0 if neither.
+     */
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * Get the running hash after the last message seen.
+     */
+    public byte[] getRunningHash() {
+        return runningHash.clone();
+    }
+
+    private void computeNext(MirrorConsensusTopicResponse response) {
+        blockLen = 0;
+        digest.update(STREAM_HEADER, 0, STREAM_HEADER.length);
+
+        // 48 zero bytes for the first message, as `runningHash` is until then
+        write(runningHash, 0, HASH_SIZE);
+        writeLong(RUNNING_HASH_VERSION);
+        writeLong(topicShard);
+        writeLong(topicRealm);
+        writeLong(topicNum);
+        writeLong(response.consensusTimestamp.getEpochSecond());
+        writeInt(response.consensusTimestamp.getNano());
+        writeLong(response.sequenceNumber);
+        write(response.message, 0, response.message.length);
+        drain();
+
+        digest.doFinal(computed, 0);
+    }
+
+    private void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    private void writeInt(int value) {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            if (blockLen >= MAX_BLOCK_SIZE) {
+                drain();
+            }
+
+            block[blockLen++] = (byte) (value >>> shift);
+        }
+    }
+
+    /**
+     * Write bytes as {@code ObjectOutputStream.write(byte[], int, int)} does in block data mode:
+     * through the block buffer, except that whole blocks are written directly when it is empty.
+     */
+    private void write(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            if (blockLen >= MAX_BLOCK_SIZE) {
+                drain();
+            }
+
+            if (length >= MAX_BLOCK_SIZE && blockLen == 0) {
+                writeBlockHeader(MAX_BLOCK_SIZE);
+                digest.update(bytes, offset, MAX_BLOCK_SIZE);
+                offset += MAX_BLOCK_SIZE;
+                length -= MAX_BLOCK_SIZE;
+            } else {
+                final int count = Math.min(length, MAX_BLOCK_SIZE - blockLen);
+                System.arraycopy(bytes, offset, block, blockLen, count);
+                blockLen += count;
+                offset += count;
+                length -= count;
+            }
+        }
+    }
+
+    private void drain() {
+        if (blockLen == 0) {
+            return;
+        }
+
+        writeBlockHeader(blockLen);
+        digest.update(block, 0, blockLen);
+        blockLen = 0;
+    }
+
+    private void writeBlockHeader(int length) {
+        if (length <= 0xFF) {
+            blockHeader[0] = TC_BLOCKDATA;
+            blockHeader[1] = (byte) length;
+            digest.update(blockHeader, 0, 2);
+        } else {
+            blockHeader[0] = TC_BLOCKDATALONG;
+            blockHeader[1] = (byte) (length >>> 24);
+            blockHeader[2] = (byte) (length >>> 16);
+            blockHeader[3] = (byte) (length >>> 8);
+            blockHeader[4] = (byte) length;
+            digest.update(blockHeader, 0, 5);
+        }
+    }
+}
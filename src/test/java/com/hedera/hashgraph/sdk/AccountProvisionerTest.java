@@ -0,0 +1,215 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.AccountID;
+import com.hedera.hashgraph.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.proto.Query;
+import com.hedera.hashgraph.proto.Response;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.ResponseHeader;
+import com.hedera.hashgraph.proto.TransactionBody;
+import com.hedera.hashgraph.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.proto.TransactionResponse;
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PrivateKey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountProvisionerTest {
+    private static Client client(MockNode node) {
+        return new Client(Collections.singletonMap(new AccountId(3), node.getAddress()))
+            .setOperator(new AccountId(2), Ed25519PrivateKey.generate());
+    }
+
+    private static AccountProvisioner.Sink sink(Map<AccountId, Ed25519PrivateKey> created, AtomicInteger failed) {
+        return new AccountProvisioner.Sink() {
+            @Override
+            public void onCreated(AccountId accountId, Ed25519PrivateKey key) {
+                created.put(accountId, key);
+            }
+
+            @Override
+            public void onFailed(TransactionId transactionId, Ed25519PrivateKey key, Throwable error) {
+                failed.incrementAndGet();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("mints each transaction ID only once the pipeline has room for it")
+    void mintsIdsWhenSubmitting() throws Exception {
+        // valid starts are backdated to allow for clock skew, so compare the IDs' ages
+        final AtomicLong minAgeMillis = new AtomicLong(Long.MAX_VALUE);
+        final AtomicLong maxAgeMillis = new AtomicLong();
+        final AtomicInteger nextAccount = new AtomicInteger(1000);
+
+        try (MockNode node = new MockNode(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void createAccount(com.hedera.hashgraph.proto.Transaction request, StreamObserver<TransactionResponse> observer) {
+                try {
+                    final Instant validStart = TimestampHelper.timestampTo(
+                        TransactionBody.parseFrom(request.getBodyBytes()).getTransactionID().getTransactionValidStart());
+
+                    final long ageMillis = Duration.between(validStart, Instant.now()).toMillis();
+
+                    minAgeMillis.accumulateAndGet(ageMillis, Math::min);
+                    maxAgeMillis.accumulateAndGet(ageMillis, Math::max);
+                } catch (InvalidProtocolBufferException e) {
+                    observer.onError(e);
+                    return;
+                }
+
+                observer.onNext(MockNode.precheck(ResponseCodeEnum.OK));
+                observer.onCompleted();
+            }
+
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> observer) {
+                // answer slowly, so the pipeline stays full while the batch is submitted
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                observer.onNext(Response.newBuilder()
+                    .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                        .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                        .setReceipt(com.hedera.hashgraph.proto.TransactionReceipt.newBuilder()
+                            .setStatus(ResponseCodeEnum.SUCCESS)
+                            .setAccountID(AccountID.newBuilder().setAccountNum(nextAccount.getAndIncrement()))))
+                    .build());
+                observer.onCompleted();
+            }
+        })) {
+            final Client client = client(node);
+            final Path journalPath = Files.createTempFile("provisioning", ".journal");
+
+            try {
+                final TransactionPipeline pipeline = new TransactionPipeline(client, 2)
+                    .setSigningExecutor(Runnable::run)
+                    .setReceiptTracker(new ReceiptTracker(client, Duration.ofMillis(10)));
+
+                final Map<AccountId, Ed25519PrivateKey> created = new ConcurrentHashMap<>();
+                final AtomicInteger failed = new AtomicInteger();
+
+                new AccountProvisioner(client, pipeline)
+                    .setBatchSize(10)
+                    .setJournal(journalPath)
+                    .provision(10, sink(created, failed));
+
+                assertEquals(10, created.size());
+                assertEquals(0, failed.get());
+                assertTrue(ProvisioningJournal.readPending(journalPath).isEmpty());
+
+                // minting the whole batch up front would have aged the last IDs by several
+                // receipt round trips more than the first
+                final long spreadMillis = maxAgeMillis.get() - minAgeMillis.get();
+                assertTrue(spreadMillis < 150, "transaction IDs were aged up to " + spreadMillis + "ms apart");
+            } finally {
+                client.close();
+                Files.delete(journalPath);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("an interrupt stops submitting accounts but still waits for those in flight")
+    void interrupted() throws Exception {
+        final BlockingQueue<StreamObserver<TransactionResponse>> unanswered = new LinkedBlockingQueue<>();
+        final CountDownLatch received = new CountDownLatch(1);
+
+        try (MockNode node = new MockNode(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void createAccount(com.hedera.hashgraph.proto.Transaction request, StreamObserver<TransactionResponse> observer) {
+                unanswered.add(observer);
+                received.countDown();
+            }
+
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> observer) {
+                observer.onNext(Response.newBuilder()
+                    .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                        .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                        .setReceipt(com.hedera.hashgraph.proto.TransactionReceipt.newBuilder()
+                            .setStatus(ResponseCodeEnum.SUCCESS)
+                            .setAccountID(AccountID.newBuilder().setAccountNum(1000))))
+                    .build());
+                observer.onCompleted();
+            }
+        })) {
+            final Client client = client(node);
+            final Path journalPath = Files.createTempFile("provisioning", ".journal");
+
+            try {
+                final TransactionPipeline pipeline = new TransactionPipeline(client, 1)
+                    .setSigningExecutor(Runnable::run)
+                    .setReceiptTracker(new ReceiptTracker(client, Duration.ofMillis(10)));
+
+                final AccountProvisioner provisioner = new AccountProvisioner(client, pipeline)
+                    .setJournal(journalPath);
+
+                final Map<AccountId, Ed25519PrivateKey> created = new ConcurrentHashMap<>();
+                final AtomicInteger failed = new AtomicInteger();
+
+                final AtomicReference<Throwable> thrown = new AtomicReference<>();
+                final Thread thread = new Thread(() -> {
+                    try {
+                        provisioner.provision(5, sink(created, failed));
+                    } catch (Throwable e) {
+                        thrown.set(e);
+                    }
+                });
+
+                thread.start();
+
+                // the first account is submitted, and the rest wait for room that only frees up
+                // once it is answered
+                assertTrue(received.await(10, TimeUnit.SECONDS));
+                thread.interrupt();
+
+                // answered only after the interrupt, while provision() waits for it
+                final StreamObserver<TransactionResponse> inFlight = unanswered.take();
+                inFlight.onNext(MockNode.precheck(ResponseCodeEnum.OK));
+                inFlight.onCompleted();
+
+                thread.join(10_000);
+
+                assertTrue(thrown.get() instanceof InterruptedException);
+                assertEquals(Collections.singleton(new AccountId(1000)), created.keySet());
+                assertEquals(0, failed.get());
+                assertTrue(ProvisioningJournal.readPending(journalPath).isEmpty());
+                assertEquals(0, pipeline.getPendingCount());
+            } finally {
+                for (StreamObserver<TransactionResponse> observer; (observer = unanswered.poll()) != null; ) {
+                    observer.onNext(MockNode.precheck(ResponseCodeEnum.INVALID_SIGNATURE));
+                    observer.onCompleted();
+                }
+
+                client.close();
+                Files.delete(journalPath);
+            }
+        }
+    }
+}
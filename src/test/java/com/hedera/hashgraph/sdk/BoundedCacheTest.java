@@ -0,0 +1,71 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedCacheTest {
+    @Test
+    @DisplayName("the least recently used entry is evicted when full")
+    void evictsLeastRecentlyUsed() {
+        final BoundedCache<Integer, String> cache = new BoundedCache<>(2);
+
+        cache.put(1, "one");
+        cache.put(2, "two");
+
+        // touch 1 so 2 is the least recently used
+        assertEquals("one", cache.get(1));
+
+        cache.put(3, "three");
+
+        assertEquals(2, cache.size());
+        assertEquals("one", cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals("three", cache.get(3));
+    }
+
+    @Test
+    @DisplayName("computeIfAbsent computes a value once and then returns the same one")
+    void computeIfAbsent() {
+        final BoundedCache<String, Object> cache = new BoundedCache<>(10);
+        final AtomicInteger computed = new AtomicInteger();
+
+        final Object first = cache.computeIfAbsent("key", k -> {
+            computed.incrementAndGet();
+            return new Object();
+        });
+
+        final Object second = cache.computeIfAbsent("key", k -> {
+            computed.incrementAndGet();
+            return new Object();
+        });
+
+        assertSame(first, second);
+        assertEquals(1, computed.get());
+    }
+
+    @Test
+    @DisplayName("remove with a value only removes a matching entry")
+    void removeIfValue() {
+        final BoundedCache<String, String> cache = new BoundedCache<>(10);
+        cache.put("key", "new");
+
+        cache.remove("key", "old");
+        assertEquals("new", cache.get("key"));
+
+        cache.remove("key", "new");
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    @DisplayName("a cache must hold at least one entry")
+    void rejectsZeroSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>(0));
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.time.Duration;
 
 class ClientTest {
     @Test
@@ -27,4 +28,17 @@ class ClientTest {
 
         Client.fromJson(new InputStreamReader(clientConfigWithOperator));
     }
+
+    @Test
+    @DisplayName("setChannelsPerNode() rejects values less than 1")
+    void testSetChannelsPerNode() {
+        final Client client = Client.forTestnet();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> client.setChannelsPerNode(0));
+
+        Assertions.assertDoesNotThrow(() -> client.setChannelsPerNode(4)
+            .setKeepAliveTime(Duration.ofSeconds(30))
+            .setKeepAliveTimeout(Duration.ofSeconds(10))
+            .setIdleTimeout(Duration.ofMinutes(5)));
+    }
 }
@@ -0,0 +1,87 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import io.grpc.StatusRuntimeException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultRetryPolicyTest {
+    private static final TransactionId txId = TransactionId.withValidStart(new AccountId(3), Instant.EPOCH);
+
+    private static HederaThrowable precheck(ResponseCodeEnum code) {
+        return new HederaPrecheckStatusException(code, txId);
+    }
+
+    private static HederaThrowable transport(io.grpc.Status status) {
+        return new HederaNetworkException(new StatusRuntimeException(status));
+    }
+
+    @Test
+    @DisplayName("isRetryable() accepts transient statuses and transport errors only")
+    void isRetryable() {
+        final DefaultRetryPolicy policy = new DefaultRetryPolicy();
+
+        assertTrue(policy.isRetryable(precheck(ResponseCodeEnum.BUSY)));
+        assertTrue(policy.isRetryable(precheck(ResponseCodeEnum.PLATFORM_TRANSACTION_NOT_CREATED)));
+        assertTrue(policy.isRetryable(transport(io.grpc.Status.UNAVAILABLE)));
+
+        assertFalse(policy.isRetryable(precheck(ResponseCodeEnum.INVALID_SIGNATURE)));
+        assertFalse(policy.isRetryable(transport(io.grpc.Status.INVALID_ARGUMENT)));
+        assertFalse(policy.isRetryable(new HederaReceiptStatusException(ResponseCodeEnum.BUSY, txId,
+            new TransactionReceipt(com.hedera.hashgraph.proto.TransactionReceipt.newBuilder()
+                .setStatus(ResponseCodeEnum.BUSY)
+                .build()))));
+
+        policy.setRetryableStatuses(Status.InvalidSignature);
+
+        assertTrue(policy.isRetryable(precheck(ResponseCodeEnum.INVALID_SIGNATURE)));
+        assertFalse(policy.isRetryable(precheck(ResponseCodeEnum.BUSY)));
+    }
+
+    @Test
+    @DisplayName("getRetryDelay() never exceeds the cap")
+    void delayIsCapped() {
+        final DefaultRetryPolicy policy = new DefaultRetryPolicy()
+            .setBaseDelay(Duration.ofMillis(100))
+            .setMaxDelay(Duration.ofSeconds(1));
+
+        for (int retry = 1; retry < 100; retry++) {
+            final Duration delay = policy.getRetryDelay(retry);
+
+            assertFalse(delay.isNegative());
+            assertTrue(delay.compareTo(Duration.ofSeconds(1)) <= 0);
+            assertTrue(delay.compareTo(Duration.ofMillis(100L << Math.min(retry, 20))) <= 0);
+        }
+    }
+
+    @Test
+    @DisplayName("the retry budget is exhausted by failures and restored by successes")
+    void retryBudget() {
+        final DefaultRetryPolicy policy = new DefaultRetryPolicy()
+            .setRetryBudget(10, 0.5);
+
+        // 10 tokens, retries are allowed while more than 5 remain
+        for (int i = 0; i < 4; i++) {
+            assertTrue(policy.tryAcquireRetry());
+        }
+
+        assertFalse(policy.tryAcquireRetry());
+
+        // two successes restore one token
+        policy.onSuccess();
+        policy.onSuccess();
+        policy.onSuccess();
+        policy.onSuccess();
+
+        assertTrue(policy.tryAcquireRetry());
+    }
+}
@@ -0,0 +1,95 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.proto.FileGetContentsResponse;
+import com.hedera.hashgraph.proto.FileServiceGrpc;
+import com.hedera.hashgraph.proto.Query;
+import com.hedera.hashgraph.proto.Response;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.file.FileContentsQuery;
+import com.hedera.hashgraph.sdk.file.FileId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.Channel;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HederaCallTest {
+    @Test
+    @DisplayName("a subclass overriding getChannel() has its calls sent over that channel, and not reported against a node")
+    void overriddenChannel() throws Exception {
+        try (MockNode node = new MockNode(new FileServiceGrpc.FileServiceImplBase() {
+            @Override
+            public void getFileContent(Query request, StreamObserver<Response> observer) {
+                observer.onNext(Response.newBuilder()
+                    .setFileGetContents(FileGetContentsResponse.newBuilder()
+                        .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                        .setFileContents(FileGetContentsResponse.FileContents.newBuilder().setContents(ByteString.copyFromUtf8("contents"))))
+                    .build());
+                observer.onCompleted();
+            }
+        })) {
+            final ManagedChannel channel = ManagedChannelBuilder.forTarget(node.getAddress())
+                .usePlaintext()
+                .build();
+
+            // the client's only node can't be reached, so the call only succeeds over `channel`
+            final Client client = new Client(Collections.singletonMap(new AccountId(3), "localhost:1"));
+            final AtomicInteger reported = new AtomicInteger();
+
+            client.setNodeSelector(new NodeSelector() {
+                @Override
+                public AccountId selectNode(List<AccountId> nodeIds) {
+                    return nodeIds.get(0);
+                }
+
+                @Override
+                public void onResponse(AccountId nodeId, Duration latency) {
+                    reported.incrementAndGet();
+                }
+
+                @Override
+                public void onError(AccountId nodeId, Duration latency, HederaThrowable error) {
+                    reported.incrementAndGet();
+                }
+            });
+
+            try {
+                final FileContentsQuery query = new FileContentsQuery() {
+                    @Override
+                    protected Channel getChannel(Client client) {
+                        return channel;
+                    }
+                };
+
+                final byte[] contents = query
+                    .setFileId(new FileId(0, 0, 150))
+                    .setPaymentTransaction(TransactionReceiptQueryTest.paymentTxn)
+                    .execute(client);
+
+                assertArrayEquals("contents".getBytes(), contents);
+                assertArrayEquals("contents".getBytes(), query.executeFuture(client).get(10, TimeUnit.SECONDS));
+
+                // node 3 never saw these calls, so they say nothing about its health
+                assertEquals(0, reported.get());
+            } finally {
+                client.close();
+                channel.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyAwareNodeSelectorTest {
+    private static final AccountId node3 = new AccountId(3);
+    private static final AccountId node4 = new AccountId(4);
+    private static final AccountId node5 = new AccountId(5);
+
+    private static final List<AccountId> nodeIds = Arrays.asList(node3, node4, node5);
+
+    private static final HederaThrowable busy = new HederaPrecheckStatusException(
+        ResponseCodeEnum.BUSY,
+        TransactionId.withValidStart(node3, Instant.EPOCH));
+
+    @Test
+    @DisplayName("selectNode() prefers the faster of two nodes")
+    void prefersFasterNode() {
+        final LatencyAwareNodeSelector selector = new LatencyAwareNodeSelector();
+        final List<AccountId> twoNodes = Arrays.asList(node3, node4);
+
+        selector.onResponse(node3, Duration.ofMillis(500));
+        selector.onResponse(node4, Duration.ofMillis(5));
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(node4, selector.selectNode(twoNodes));
+        }
+    }
+
+    @Test
+    @DisplayName("selectNode() spreads load across equally fast nodes")
+    void spreadsLoad() {
+        final LatencyAwareNodeSelector selector = new LatencyAwareNodeSelector();
+        final Map<AccountId, Integer> counts = new HashMap<>();
+
+        for (int i = 0; i < 300; i++) {
+            counts.merge(selector.selectNode(nodeIds), 1, Integer::sum);
+        }
+
+        assertEquals(3, counts.size());
+    }
+
+    @Test
+    @DisplayName("a node is ejected after consecutive failures")
+    void ejectsFailingNode() {
+        final LatencyAwareNodeSelector selector = new LatencyAwareNodeSelector(
+            Duration.ofMinutes(1), Duration.ofMinutes(5), 3);
+
+        for (int i = 0; i < 2; i++) {
+            selector.onError(node5, Duration.ofMillis(1), busy);
+        }
+
+        assertFalse(selector.isEjected(node5));
+
+        selector.onError(node5, Duration.ofMillis(1), busy);
+
+        assertTrue(selector.isEjected(node5));
+
+        for (int i = 0; i < 100; i++) {
+            assertNotEquals(node5, selector.selectNode(nodeIds));
+        }
+    }
+
+    @Test
+    @DisplayName("an ejected node is probed and restored after a success")
+    void probesEjectedNode() {
+        final LatencyAwareNodeSelector selector = new LatencyAwareNodeSelector(
+            Duration.ZERO, Duration.ZERO, 1);
+
+        selector.onError(node3, Duration.ofMillis(1), busy);
+
+        // zero ejection time means it is immediately eligible for a probe
+        assertFalse(selector.isEjected(node3));
+
+        selector.onResponse(node3, Duration.ofMillis(1));
+
+        assertFalse(selector.isEjected(node3));
+    }
+
+    @Test
+    @DisplayName("selectNode() still returns a node when all are ejected")
+    void allEjected() {
+        final LatencyAwareNodeSelector selector = new LatencyAwareNodeSelector(
+            Duration.ofMinutes(1), Duration.ofMinutes(5), 1);
+
+        for (AccountId nodeId : nodeIds) {
+            selector.onError(nodeId, Duration.ofMillis(1), busy);
+        }
+
+        assertTrue(nodeIds.contains(selector.selectNode(nodeIds)));
+    }
+}
@@ -0,0 +1,52 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.Response;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.ResponseHeader;
+import com.hedera.hashgraph.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.proto.TransactionResponse;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.netty.NettyServerBuilder;
+
+/**
+ * A node served from localhost by the given service, for tests which need a {@link Client} to
+ * talk to something.
+ */
+final class MockNode implements AutoCloseable {
+    private final Server server;
+
+    MockNode(BindableService service) throws IOException {
+        server = NettyServerBuilder.forAddress(new InetSocketAddress("localhost", 0))
+            .addService(service)
+            .build()
+            .start();
+    }
+
+    String getAddress() {
+        return "localhost:" + server.getPort();
+    }
+
+    static TransactionResponse precheck(ResponseCodeEnum code) {
+        return TransactionResponse.newBuilder()
+            .setNodeTransactionPrecheckCode(code)
+            .build();
+    }
+
+    static Response receipt(ResponseCodeEnum status) {
+        return Response.newBuilder()
+            .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                .setReceipt(com.hedera.hashgraph.proto.TransactionReceipt.newBuilder().setStatus(status)))
+            .build();
+    }
+
+    @Override
+    public void close() {
+        server.shutdownNow();
+    }
+}
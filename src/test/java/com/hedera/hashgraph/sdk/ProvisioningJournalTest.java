@@ -0,0 +1,68 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PrivateKey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProvisioningJournalTest {
+    private static final AccountId PAYER = new AccountId(2);
+
+    @Test
+    @DisplayName("keeps the keys of accounts with no recorded outcome")
+    void readsPending() throws IOException {
+        final Path path = Files.createTempFile("provisioning", ".journal");
+
+        try {
+            final Ed25519PrivateKey[] keys = Ed25519PrivateKey.generate(4);
+            final TransactionId[] ids = new TransactionId[keys.length];
+
+            try (ProvisioningJournal journal = ProvisioningJournal.open(path)) {
+                for (int i = 0; i < keys.length; i++) {
+                    ids[i] = TransactionId.withValidStart(PAYER, Instant.ofEpochSecond(1_500_000_000L, i * 7));
+                    journal.pending(ids[i], keys[i]);
+                }
+
+                journal.created(ids[0], new AccountId(1001));
+                journal.failed(ids[2]);
+            }
+
+            // appending to an existing journal
+            try (ProvisioningJournal journal = ProvisioningJournal.open(path)) {
+                journal.created(ids[3], new AccountId(1002));
+            }
+
+            // a crash while writing the outcome of the second account
+            Files.write(path, "created 0.0.2 1500000000 7 0.0.".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+            final Map<TransactionId, Ed25519PrivateKey> pending = ProvisioningJournal.readPending(path);
+
+            assertEquals(1, pending.size());
+            assertArrayEquals(keys[1].toBytes(), pending.get(ids[1]).toBytes());
+
+            // a bad line anywhere but at the end is not from a crash
+            Files.write(path, "\nfailed 0.0.2 1500000000 14\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+            assertThrows(IOException.class, () -> ProvisioningJournal.readPending(path));
+        } finally {
+            Files.delete(path);
+        }
+
+        assertTrue(ProvisioningJournal.readPending(path).isEmpty());
+    }
+}
@@ -0,0 +1,136 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.proto.Query;
+import com.hedera.hashgraph.sdk.account.AccountBalanceQuery;
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.account.AccountInfoQuery;
+import com.hedera.hashgraph.sdk.contract.ContractCallQuery;
+import com.hedera.hashgraph.sdk.contract.ContractId;
+import com.hedera.hashgraph.sdk.file.FileContentsQuery;
+import com.hedera.hashgraph.sdk.file.FileId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryCostCacheTest {
+    private static final AccountId node3 = new AccountId(3);
+
+    private static final QueryCostCache.Key key = new QueryCostCache.Key(node3, Query.QueryCase.CRYPTOGETINFO, ByteString.EMPTY);
+
+    @Test
+    @DisplayName("costs are remembered until invalidated")
+    void putGetInvalidate() {
+        final QueryCostCache cache = new QueryCostCache();
+        cache.setTtl(Duration.ofMinutes(1));
+
+        assertTrue(cache.isEnabled());
+        assertNull(cache.get(key));
+
+        cache.put(key, 42);
+
+        assertEquals(Long.valueOf(42), cache.get(key));
+        assertEquals(Long.valueOf(42), cache.get(new QueryCostCache.Key(node3, Query.QueryCase.CRYPTOGETINFO, ByteString.EMPTY)));
+        assertNull(cache.get(new QueryCostCache.Key(new AccountId(4), Query.QueryCase.CRYPTOGETINFO, ByteString.EMPTY)));
+
+        cache.invalidate(key);
+
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    @DisplayName("costs expire after the TTL")
+    void expiry() throws InterruptedException {
+        final QueryCostCache cache = new QueryCostCache();
+        cache.setTtl(Duration.ofMillis(1));
+
+        cache.put(key, 42);
+        Thread.sleep(5);
+
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    @DisplayName("the cache is disabled by default")
+    void disabledByDefault() {
+        final QueryCostCache cache = new QueryCostCache();
+
+        assertFalse(cache.isEnabled());
+
+        cache.put(key, 42);
+
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    @DisplayName("the cache key ignores the payment and the entity but not the kind of query")
+    void cacheKey() {
+        final Client client = new Client(Collections.singletonMap(node3, "localhost:50211"));
+
+        final QueryCostCache.Key unpaid = costCacheKey(client, new AccountInfoQuery()
+            .setAccountId(new AccountId(1234)));
+
+        final QueryCostCache.Key paid = costCacheKey(client, new AccountInfoQuery()
+            .setAccountId(new AccountId(1234))
+            .setPaymentTransaction(TransactionReceiptQueryTest.paymentTxn));
+
+        final QueryCostCache.Key otherAccount = costCacheKey(client, new AccountInfoQuery()
+            .setAccountId(new AccountId(1235)));
+
+        final QueryCostCache.Key balance = costCacheKey(client, new AccountBalanceQuery()
+            .setAccountId(new AccountId(1234)));
+
+        assertEquals(unpaid, paid);
+        assertEquals(unpaid, otherAccount);
+        assertNotEquals(unpaid, balance);
+    }
+
+    @Test
+    @DisplayName("the cache key includes the fields a query is priced by")
+    void cacheKeyPricedFields() {
+        final Client client = new Client(Collections.singletonMap(node3, "localhost:50211"));
+
+        final QueryCostCache.Key call = costCacheKey(client, new ContractCallQuery()
+            .setContractId(new ContractId(0, 0, 1001))
+            .setGas(1000)
+            .setFunctionParams(new byte[]{ 1, 2, 3 }));
+
+        final QueryCostCache.Key otherContract = costCacheKey(client, new ContractCallQuery()
+            .setContractId(new ContractId(0, 0, 1002))
+            .setGas(1000)
+            .setFunctionParams(new byte[]{ 1, 2, 3 }));
+
+        final QueryCostCache.Key moreGas = costCacheKey(client, new ContractCallQuery()
+            .setContractId(new ContractId(0, 0, 1001))
+            .setGas(2000)
+            .setFunctionParams(new byte[]{ 1, 2, 3 }));
+
+        final QueryCostCache.Key otherParams = costCacheKey(client, new ContractCallQuery()
+            .setContractId(new ContractId(0, 0, 1001))
+            .setGas(1000)
+            .setFunctionParams(new byte[]{ 1, 2, 3, 4 }));
+
+        assertEquals(call, otherContract);
+        assertNotEquals(call, moreGas);
+        assertNotEquals(call, otherParams);
+
+        // the cost of the contents depends on the size of the file
+        assertNotEquals(
+            costCacheKey(client, new FileContentsQuery().setFileId(new FileId(0, 0, 150))),
+            costCacheKey(client, new FileContentsQuery().setFileId(new FileId(0, 0, 151))));
+    }
+
+    // `getCostCacheKey()` is package-private so it isn't visible through the subclass
+    private static QueryCostCache.Key costCacheKey(Client client, QueryBuilder<?, ?> query) {
+        return query.getCostCacheKey(client);
+    }
+}
@@ -0,0 +1,274 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.proto.Query;
+import com.hedera.hashgraph.proto.Response;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.TransactionID;
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReceiptTrackerTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("the latency estimate converges on the observed consensus time")
+    void estimateConverges() {
+        final ReceiptTracker.LatencyEstimate estimate = new ReceiptTracker.LatencyEstimate(4 * SECOND, SECOND);
+
+        for (int i = 0; i < 100; i++) {
+            estimate.record(2 * SECOND);
+        }
+
+        final long firstPoll = estimate.getFirstPollDelay();
+
+        assertTrue(Math.abs(firstPoll - 2 * SECOND) < SECOND / 100, "first poll at " + firstPoll);
+    }
+
+    @Test
+    @DisplayName("poll intervals grow with each miss up to a cap")
+    void pollIntervalIsCapped() {
+        final ReceiptTracker.LatencyEstimate estimate = new ReceiptTracker.LatencyEstimate(4 * SECOND, SECOND);
+
+        assertEquals(SECOND, estimate.getPollInterval(1));
+        assertEquals(2 * SECOND, estimate.getPollInterval(2));
+        assertEquals(5 * SECOND, estimate.getPollInterval(20));
+
+        // a steady network has no deviation; still don't poll more often than the minimum
+        for (int i = 0; i < 100; i++) {
+            estimate.record(3 * SECOND);
+        }
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(250), estimate.getPollInterval(1));
+    }
+
+    @Test
+    @DisplayName("setMaxConcurrentPolls() rejects values less than 1")
+    void maxConcurrentPolls() {
+        final ReceiptTracker tracker = new ReceiptTracker(Client.forTestnet());
+
+        assertThrows(IllegalArgumentException.class, () -> tracker.setMaxConcurrentPolls(0));
+        assertEquals(0, tracker.getPendingCount());
+    }
+
+    private static Client client(MockNode... nodes) {
+        final Map<AccountId, String> addresses = new HashMap<>();
+
+        for (int i = 0; i < nodes.length; i++) {
+            addresses.put(new AccountId(3 + i), nodes[i].getAddress());
+        }
+
+        return new Client(addresses);
+    }
+
+    private static TransactionId transactionId() {
+        return new TransactionId(new AccountId(2));
+    }
+
+    @Test
+    @DisplayName("polls until a receipt is ready, completing with it or with its failing status")
+    void completesFutures() throws Exception {
+        final Map<TransactionID, AtomicInteger> polls = new ConcurrentHashMap<>();
+        final TransactionId succeeds = transactionId();
+        final TransactionId fails = transactionId();
+
+        try (MockNode node = new MockNode(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> observer) {
+                final TransactionID id = request.getTransactionGetReceipt().getTransactionID();
+                final int poll = polls.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+
+                if (poll < 3) {
+                    // not reached consensus yet
+                    observer.onNext(MockNode.receipt(ResponseCodeEnum.UNKNOWN));
+                } else if (id.equals(fails.toProto())) {
+                    observer.onNext(MockNode.receipt(ResponseCodeEnum.INSUFFICIENT_PAYER_BALANCE));
+                } else {
+                    observer.onNext(MockNode.receipt(ResponseCodeEnum.SUCCESS));
+                }
+
+                observer.onCompleted();
+            }
+        })) {
+            final Client client = client(node);
+
+            try {
+                final ReceiptTracker tracker = new ReceiptTracker(client, Duration.ofMillis(10));
+
+                final CompletableFuture<TransactionReceipt> success = tracker.track(succeeds);
+                final CompletableFuture<TransactionReceipt> failure = tracker.track(fails);
+
+                assertEquals(Status.Success, success.get(10, TimeUnit.SECONDS).status);
+
+                final ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> failure.get(10, TimeUnit.SECONDS));
+
+                assertTrue(e.getCause() instanceof HederaReceiptStatusException);
+                assertEquals(Status.InsufficientPayerBalance, ((HederaReceiptStatusException) e.getCause()).status);
+
+                assertEquals(3, polls.get(succeeds.toProto()).get());
+                assertEquals(0, tracker.getPendingCount());
+            } finally {
+                client.close();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("polls every tracked transaction from a single timer")
+    void singleTicker() throws Exception {
+        final AtomicInteger timers = new AtomicInteger();
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(2) {
+            @Override
+            public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+                timers.incrementAndGet();
+                return super.scheduleAtFixedRate(command, initialDelay, period, unit);
+            }
+        };
+
+        try (MockNode node = new MockNode(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> observer) {
+                observer.onNext(MockNode.receipt(ResponseCodeEnum.SUCCESS));
+                observer.onCompleted();
+            }
+        })) {
+            final Client client = client(node).setRetryScheduler(scheduler);
+
+            try {
+                final ReceiptTracker tracker = new ReceiptTracker(client, Duration.ofMillis(10));
+                final List<CompletableFuture<TransactionReceipt>> futures = new ArrayList<>();
+
+                for (int i = 0; i < 50; i++) {
+                    futures.add(tracker.track(transactionId()));
+                }
+
+                for (final CompletableFuture<TransactionReceipt> future : futures) {
+                    assertEquals(Status.Success, future.get(10, TimeUnit.SECONDS).status);
+                }
+
+                assertEquals(1, timers.get());
+            } finally {
+                client.close();
+                scheduler.shutdown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("has at most maxConcurrentPolls receipt queries in flight")
+    void limitsConcurrentPolls() throws Exception {
+        final BlockingQueue<StreamObserver<Response>> unanswered = new LinkedBlockingQueue<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+
+        try (MockNode node = new MockNode(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> observer) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                unanswered.add(observer);
+            }
+        })) {
+            final Client client = client(node);
+
+            try {
+                final ReceiptTracker tracker = new ReceiptTracker(client, Duration.ofMillis(10))
+                    .setMaxConcurrentPolls(3);
+
+                final List<CompletableFuture<TransactionReceipt>> futures = new ArrayList<>();
+
+                for (int i = 0; i < 10; i++) {
+                    futures.add(tracker.track(transactionId()));
+                }
+
+                for (int i = 0; i < 10; i++) {
+                    final StreamObserver<Response> observer = unanswered.poll(10, TimeUnit.SECONDS);
+                    assertNotNull(observer);
+
+                    // give a poll sent over the limit the chance to arrive
+                    Thread.sleep(20);
+
+                    inFlight.decrementAndGet();
+                    observer.onNext(MockNode.receipt(ResponseCodeEnum.SUCCESS));
+                    observer.onCompleted();
+                }
+
+                for (final CompletableFuture<TransactionReceipt> future : futures) {
+                    assertEquals(Status.Success, future.get(10, TimeUnit.SECONDS).status);
+                }
+
+                assertEquals(3, maxInFlight.get());
+            } finally {
+                client.close();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("sends each poll to the node the client's selector picks")
+    void spreadsAcrossNodes() throws Exception {
+        final AtomicInteger[] polls = { new AtomicInteger(), new AtomicInteger() };
+        final MockNode[] nodes = new MockNode[2];
+
+        for (int i = 0; i < nodes.length; i++) {
+            final AtomicInteger count = polls[i];
+
+            nodes[i] = new MockNode(new CryptoServiceGrpc.CryptoServiceImplBase() {
+                @Override
+                public void getTransactionReceipts(Query request, StreamObserver<Response> observer) {
+                    count.incrementAndGet();
+                    observer.onNext(MockNode.receipt(ResponseCodeEnum.SUCCESS));
+                    observer.onCompleted();
+                }
+            });
+        }
+
+        final AtomicInteger next = new AtomicInteger();
+        final Client client = client(nodes)
+            .setNodeSelector(nodeIds -> nodeIds.get(Math.floorMod(next.getAndIncrement(), nodeIds.size())));
+
+        try {
+            final ReceiptTracker tracker = new ReceiptTracker(client, Duration.ofMillis(10));
+            final List<CompletableFuture<TransactionReceipt>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 20; i++) {
+                futures.add(tracker.track(transactionId()));
+            }
+
+            for (final CompletableFuture<TransactionReceipt> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+
+            assertEquals(10, polls[0].get());
+            assertEquals(10, polls[1].get());
+        } finally {
+            client.close();
+            nodes[0].close();
+            nodes[1].close();
+        }
+    }
+}
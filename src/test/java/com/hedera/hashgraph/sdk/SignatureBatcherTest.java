@@ -0,0 +1,111 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SignatureBatcherTest {
+    private final List<List<ByteBuffer>> batches = new ArrayList<>();
+    private final List<CompletableFuture<List<byte[]>>> pending = new ArrayList<>();
+
+    private final SignatureBatcher batcher = new SignatureBatcher(bodies -> {
+        final CompletableFuture<List<byte[]>> signatures = new CompletableFuture<>();
+        batches.add(bodies);
+        pending.add(signatures);
+        return signatures;
+    });
+
+    private static ByteBuffer body(int n) {
+        return ByteBuffer.wrap(new byte[]{ (byte) n });
+    }
+
+    // "signs" each body by echoing it back
+    private static List<byte[]> echo(List<ByteBuffer> bodies) {
+        final List<byte[]> signatures = new ArrayList<>();
+
+        for (final ByteBuffer body : bodies) {
+            signatures.add(new byte[]{ body.get(0) });
+        }
+
+        return signatures;
+    }
+
+    @Test
+    @DisplayName("requests made while a batch is signed go out together as the next batch")
+    void gathersWhileInFlight() {
+        final CompletionStage<byte[]> first = batcher.signTransactionAsync(body(0));
+        final List<CompletionStage<byte[]>> rest = new ArrayList<>();
+
+        for (int i = 1; i <= 3; i++) {
+            rest.add(batcher.signTransactionAsync(body(i)));
+        }
+
+        assertEquals(1, batches.size());
+        assertEquals(1, batches.get(0).size());
+
+        pending.get(0).complete(echo(batches.get(0)));
+
+        assertArrayEquals(new byte[]{ 0 }, first.toCompletableFuture().join());
+        assertEquals(2, batches.size());
+        assertEquals(3, batches.get(1).size());
+        assertFalse(rest.get(0).toCompletableFuture().isDone());
+
+        pending.get(1).complete(echo(batches.get(1)));
+
+        for (int i = 1; i <= 3; i++) {
+            assertArrayEquals(new byte[]{ (byte) i }, rest.get(i - 1).toCompletableFuture().join());
+        }
+    }
+
+    @Test
+    @DisplayName("a full batch is sent without waiting for the one in flight")
+    void sendsFullBatch() {
+        for (int i = 0; i <= SignatureBatcher.MAX_BATCH_SIZE; i++) {
+            batcher.signTransactionAsync(body(i));
+        }
+
+        assertEquals(2, batches.size());
+        assertEquals(SignatureBatcher.MAX_BATCH_SIZE, batches.get(1).size());
+    }
+
+    @Test
+    @DisplayName("a failed batch or a wrong number of signatures fails each request in it")
+    void failsBatch() {
+        final CompletableFuture<byte[]> first = batcher.signTransactionAsync(body(0)).toCompletableFuture();
+        final CompletableFuture<byte[]> second = batcher.signTransactionAsync(body(1)).toCompletableFuture();
+
+        pending.get(0).completeExceptionally(new IllegalStateException("offline"));
+        pending.get(1).complete(Collections.emptyList());
+
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(second.isCompletedExceptionally());
+        assertThrows(Exception.class, second::join);
+    }
+
+    @Test
+    @DisplayName("a batch signed with no list of signatures fails and doesn't hold up later batches")
+    void nullSignatures() {
+        final CompletableFuture<byte[]> first = batcher.signTransactionAsync(body(0)).toCompletableFuture();
+        final CompletableFuture<byte[]> second = batcher.signTransactionAsync(body(1)).toCompletableFuture();
+
+        pending.get(0).complete(null);
+
+        assertTrue(first.isCompletedExceptionally());
+        assertEquals(2, batches.size());
+
+        pending.get(1).complete(echo(batches.get(1)));
+        assertArrayEquals(new byte[]{ 1 }, second.join());
+    }
+}
@@ -0,0 +1,172 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.proto.Query;
+import com.hedera.hashgraph.proto.Response;
+import com.hedera.hashgraph.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.proto.TransactionResponse;
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.account.CryptoTransferTransaction;
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PrivateKey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionPipelineTest {
+    @Test
+    @DisplayName("a transaction failing local validation fails its future and frees its slot")
+    void localValidationFailure() throws InterruptedException {
+        final TransactionPipeline pipeline = new TransactionPipeline(Client.forTestnet(), 1)
+            .setSigningExecutor(Runnable::run);
+
+        // no transfers and no transaction ID
+        final CompletableFuture<TransactionReceipt> future = pipeline.submit(new CryptoTransferTransaction());
+
+        final ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof LocalValidationException);
+        assertEquals(0, pipeline.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("trySubmit() refuses transactions while the pipeline is full")
+    void backpressure() {
+        final List<Runnable> signingTasks = new ArrayList<>();
+        final TransactionPipeline pipeline = new TransactionPipeline(Client.forTestnet(), 2)
+            .setSigningExecutor(signingTasks::add);
+
+        assertNotNull(pipeline.trySubmit(new CryptoTransferTransaction()));
+        assertNotNull(pipeline.trySubmit(new CryptoTransferTransaction()));
+        assertNull(pipeline.trySubmit(new CryptoTransferTransaction()));
+        assertEquals(2, pipeline.getPendingCount());
+
+        signingTasks.get(0).run();
+
+        assertEquals(1, pipeline.getPendingCount());
+        assertNotNull(pipeline.trySubmit(new CryptoTransferTransaction()));
+    }
+
+    private static Client client(MockNode node) {
+        return new Client(Collections.singletonMap(new AccountId(3), node.getAddress()))
+            .setOperator(new AccountId(2), Ed25519PrivateKey.generate());
+    }
+
+    private static CryptoTransferTransaction transfer() {
+        return new CryptoTransferTransaction()
+            .addSender(new AccountId(2), 1)
+            .addRecipient(new AccountId(4), 1);
+    }
+
+    @Test
+    @DisplayName("sends at most maxInFlightPerNode transactions to a node at once, queueing the rest")
+    void limitsInFlightPerNode() throws Exception {
+        final BlockingQueue<StreamObserver<TransactionResponse>> unanswered = new LinkedBlockingQueue<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+
+        try (MockNode node = new MockNode(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void cryptoTransfer(com.hedera.hashgraph.proto.Transaction request, StreamObserver<TransactionResponse> observer) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                unanswered.add(observer);
+            }
+
+            @Override
+            public void getTransactionReceipts(Query request, StreamObserver<Response> observer) {
+                observer.onNext(MockNode.receipt(ResponseCodeEnum.SUCCESS));
+                observer.onCompleted();
+            }
+        })) {
+            final Client client = client(node);
+
+            try {
+                final TransactionPipeline pipeline = new TransactionPipeline(client, 100)
+                    .setSigningExecutor(Runnable::run)
+                    .setMaxInFlightPerNode(2)
+                    .setReceiptTracker(new ReceiptTracker(client, Duration.ofMillis(10)));
+
+                final List<CompletableFuture<TransactionReceipt>> futures = new ArrayList<>();
+
+                for (int i = 0; i < 6; i++) {
+                    futures.add(pipeline.submit(transfer()));
+                }
+
+                for (int i = 0; i < 6; i++) {
+                    final StreamObserver<TransactionResponse> observer = unanswered.poll(10, TimeUnit.SECONDS);
+                    assertNotNull(observer);
+
+                    // give a transaction sent over the limit the chance to arrive
+                    Thread.sleep(20);
+
+                    inFlight.decrementAndGet();
+                    observer.onNext(MockNode.precheck(ResponseCodeEnum.OK));
+                    observer.onCompleted();
+                }
+
+                for (final CompletableFuture<TransactionReceipt> future : futures) {
+                    assertEquals(Status.Success, future.get(10, TimeUnit.SECONDS).status);
+                }
+
+                assertEquals(2, maxInFlight.get());
+                assertEquals(0, pipeline.getPendingCount());
+            } finally {
+                client.close();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("fails every queued transaction a node rejects and frees their slots")
+    void drainsRejectedQueue() throws Exception {
+        try (MockNode node = new MockNode(new CryptoServiceGrpc.CryptoServiceImplBase() {
+            @Override
+            public void cryptoTransfer(com.hedera.hashgraph.proto.Transaction request, StreamObserver<TransactionResponse> observer) {
+                observer.onNext(MockNode.precheck(ResponseCodeEnum.INVALID_SIGNATURE));
+                observer.onCompleted();
+            }
+        })) {
+            final Client client = client(node);
+
+            try {
+                final TransactionPipeline pipeline = new TransactionPipeline(client, 500)
+                    .setSigningExecutor(Runnable::run)
+                    .setMaxInFlightPerNode(1);
+
+                final List<CompletableFuture<TransactionReceipt>> futures = new ArrayList<>();
+
+                for (int i = 0; i < 200; i++) {
+                    futures.add(pipeline.submit(transfer()));
+                }
+
+                for (final CompletableFuture<TransactionReceipt> future : futures) {
+                    final ExecutionException e = assertThrows(ExecutionException.class,
+                        () -> future.get(10, TimeUnit.SECONDS));
+
+                    assertTrue(e.getCause() instanceof HederaPrecheckStatusException);
+                }
+
+                assertEquals(0, pipeline.getPendingCount());
+            } finally {
+                client.close();
+            }
+        }
+    }
+}
@@ -9,10 +9,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TransactionReceiptQueryTest {
     static final Ed25519PrivateKey privateKey = Ed25519PrivateKey.fromString("302e020100300506032b6570042204203b054fade7a2b0869c6bd4a63b7017cbae7855d12acc357bea718e2c3e805962");
@@ -79,6 +82,18 @@ class TransactionReceiptQueryTest {
         );
     }
 
+    @Test
+    @DisplayName("executeFuture() completes exceptionally on local validation failure")
+    void executeFutureFailsValidation() {
+        final CompletableFuture<TransactionReceipt> future = new TransactionReceiptQuery()
+            .executeFuture(Client.forTestnet());
+
+        assertTrue(future.isCompletedExceptionally());
+
+        final ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof LocalValidationException);
+    }
+
     @Test
     @DisplayName("query builds correctly")
     void queryBuildsCorrectly() {
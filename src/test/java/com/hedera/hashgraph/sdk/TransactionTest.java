@@ -1,7 +1,9 @@
 package com.hedera.hashgraph.sdk;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.crypto.TransactionSigner;
 import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PrivateKey;
 import com.hedera.hashgraph.sdk.file.FileDeleteTransaction;
 import com.hedera.hashgraph.sdk.file.FileId;
@@ -9,11 +11,18 @@ import com.hedera.hashgraph.sdk.file.FileId;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TransactionTest {
     private static final AccountId nodeAcctId = new AccountId(0);
@@ -41,6 +50,17 @@ class TransactionTest {
         );
     }
 
+    @Test
+    @DisplayName("signWithOperator() only signs once")
+    void signWithOperatorOnce() {
+        final Client client = Client.forTestnet().setOperator(acctId, key1);
+
+        txn.signWithOperator(client);
+        txn.signWithOperator(client);
+
+        assertEquals(1, txn.toProto().getSigMap().getSigPairCount());
+    }
+
     @Test
     @DisplayName("validate() accepts a single signature")
     void validateOneSignature() {
@@ -67,6 +87,160 @@ class TransactionTest {
         );
     }
 
+    @Test
+    @DisplayName("duplicate keys are detected on a deserialized transaction")
+    void duplicatesAfterDeserialization() throws InvalidProtocolBufferException {
+        final Transaction txn2 = Transaction.fromBytes(txn.sign(key1).toBytes());
+
+        assertThrows(IllegalArgumentException.class, () -> txn2.sign(key1));
+        assertDoesNotThrow(() -> txn2.sign(Ed25519PrivateKey.generate()));
+    }
+
+    @Test
+    @DisplayName("signWith() produces the same signature as sign()")
+    void signWithMatchesSign() {
+        final Transaction txn2 = new FileDeleteTransaction()
+            .setTransactionId(txnId)
+            .setNodeAccountId(nodeAcctId)
+            .setFileId(new FileId(0, 0, 0)).build(null);
+
+        txn.sign(key1);
+        txn2.signWith(key1.publicKey, key1::sign);
+
+        assertEquals(txn.toProto(), txn2.toProto());
+    }
+
+    @Test
+    @DisplayName("signWith() passes a read-only view of the body to buffer-aware signers")
+    void signWithBuffer() {
+        final ByteBuffer[] seen = new ByteBuffer[1];
+
+        txn.signWith(key1.publicKey, new TransactionSigner() {
+            @Override
+            public byte[] signTransaction(byte[] transactionBytes) {
+                throw new AssertionError("should sign from the buffer");
+            }
+
+            @Override
+            public byte[] signTransaction(ByteBuffer transactionBytes) {
+                seen[0] = transactionBytes;
+                return new byte[64];
+            }
+        });
+
+        assertTrue(seen[0].isReadOnly());
+        assertEquals(txn.inner.getBodyBytes().size(), seen[0].remaining());
+    }
+
+    @Test
+    @DisplayName("signWithOperatorAsync() adds the signature once an asynchronous signer completes")
+    void signWithOperatorAsync() {
+        final CompletableFuture<byte[]> signature = new CompletableFuture<>();
+        final Client client = Client.forTestnet()
+            .setOperatorWithAsync(acctId, key1.publicKey, body -> signature);
+
+        final CompletableFuture<Transaction> signed = txn.signWithOperatorAsync(client);
+
+        assertFalse(signed.isDone());
+        assertEquals(0, txn.toProto().getSigMap().getSigPairCount());
+
+        final byte[] expected = key1.sign(txn.inner.getBodyBytes().toByteArray());
+        signature.complete(expected);
+
+        assertEquals(txn, signed.join());
+        assertEquals(1, txn.toProto().getSigMap().getSigPairCount());
+        assertEquals(ByteString.copyFrom(expected), txn.toProto().getSigMap().getSigPair(0).getEd25519());
+    }
+
+    @Test
+    @DisplayName("an asynchronous operator signer which fails fails executeFuture()")
+    void asyncOperatorFailure() {
+        final CompletableFuture<byte[]> signature = new CompletableFuture<>();
+        signature.completeExceptionally(new IllegalStateException("HSM offline"));
+
+        final Client client = Client.forTestnet()
+            .setOperatorWithAsync(acctId, key1.publicKey, body -> signature);
+
+        final Throwable error = assertThrows(Exception.class, () -> txn.executeFuture(client).join())
+            .getCause();
+
+        assertTrue(error instanceof TransactionSignerException);
+        assertEquals("HSM offline", error.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("verifySignatures() accepts valid signatures and names the keys of bad ones")
+    void verifySignatures() throws InvalidProtocolBufferException {
+        final Ed25519PrivateKey key2 = Ed25519PrivateKey.generate();
+
+        assertFalse(txn.verifySignatures().isValid());
+
+        txn.sign(key1).sign(key2);
+
+        final SignatureVerification valid = txn.verifySignatures();
+        assertTrue(valid.isValid());
+        assertEquals(2, valid.getSignatureCount());
+        assertEquals(txnId, valid.transactionId);
+
+        // swap in key1's signature of a different body for key2's
+        final com.hedera.hashgraph.proto.Transaction.Builder tampered = txn.toProto().toBuilder();
+        tampered.getSigMapBuilder().getSigPairBuilder(1)
+            .setEd25519(ByteString.copyFrom(key2.sign(new byte[]{ 1, 2, 3 })));
+
+        final SignatureVerification invalid = Transaction.fromBytes(tampered.build().toByteArray())
+            .verifySignatures();
+
+        assertFalse(invalid.isValid());
+        assertEquals(Collections.singletonList(key2.publicKey), invalid.getInvalidKeys());
+    }
+
+    @Test
+    @DisplayName("verifySignatures() can't check a signature with a partial key prefix")
+    void verifyPartialPrefix() throws InvalidProtocolBufferException {
+        final com.hedera.hashgraph.proto.Transaction.Builder partial = txn.sign(key1).toProto().toBuilder();
+        partial.getSigMapBuilder().getSigPairBuilder(0)
+            .setPubKeyPrefix(key1.publicKey.toByteString().substring(0, 6));
+
+        final SignatureVerification result = Transaction.fromBytes(partial.build().toByteArray())
+            .verifySignatures();
+
+        assertFalse(result.isValid());
+        assertEquals(1, result.getUnverifiedCount());
+        assertTrue(result.getInvalidKeys().isEmpty());
+    }
+
+    @Test
+    @DisplayName("verifySignatures(List) reports each transaction in order")
+    void verifyMany() throws InvalidProtocolBufferException {
+        final List<Transaction> transactions = new ArrayList<>();
+
+        for (int i = 0; i < 40; i++) {
+            final Transaction transaction = new FileDeleteTransaction()
+                .setTransactionId(TransactionId.withValidStart(acctId, txnStartAt.plusNanos(i)))
+                .setNodeAccountId(nodeAcctId)
+                .setFileId(new FileId(0, 0, i))
+                .build(null)
+                .sign(key1);
+
+            if (i % 7 == 3) {
+                final com.hedera.hashgraph.proto.Transaction.Builder bad = transaction.toProto().toBuilder();
+                bad.getSigMapBuilder().getSigPairBuilder(0).setEd25519(ByteString.copyFrom(new byte[64]));
+                transactions.add(Transaction.fromBytes(bad.build().toByteArray()));
+            } else {
+                transactions.add(transaction);
+            }
+        }
+
+        final List<SignatureVerification> results = Transaction.verifySignatures(transactions);
+
+        assertEquals(transactions.size(), results.size());
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(transactions.get(i).id, results.get(i).transactionId);
+            assertEquals(i % 7 != 3, results.get(i).isValid());
+        }
+    }
+
     @Test
     @DisplayName("transaction goes to bytes and back")
     void testSerialization() throws InvalidProtocolBufferException {
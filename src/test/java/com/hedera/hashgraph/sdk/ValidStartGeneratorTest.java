@@ -0,0 +1,133 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.account.AccountId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidStartGeneratorTest {
+    private static final Instant now = Instant.parse("2020-01-01T00:00:10Z");
+
+    // a stopped clock forces every call to collide with the last
+    private static final Clock stoppedClock = Clock.fixed(now, ZoneOffset.UTC);
+
+    private static final AccountId payer = new AccountId(1001);
+
+    @Test
+    @DisplayName("valid starts are backdated and strictly increasing")
+    void increasing() {
+        final ValidStartGenerator generator = new ValidStartGenerator(stoppedClock);
+
+        assertEquals(Instant.parse("2020-01-01T00:00:00Z"), generator.next(payer));
+        assertEquals(Instant.parse("2020-01-01T00:00:00.000000001Z"), generator.next(payer));
+        assertEquals(Instant.parse("2020-01-01T00:00:00.000000002Z"), generator.next(payer));
+    }
+
+    @Test
+    @DisplayName("each payer account has its own sequence")
+    void perAccount() {
+        final ValidStartGenerator generator = new ValidStartGenerator(stoppedClock);
+
+        assertEquals(generator.next(payer), generator.next(new AccountId(1002)));
+    }
+
+    @Test
+    @DisplayName("valid starts are unique across threads")
+    void concurrent() throws InterruptedException {
+        final ValidStartGenerator generator = new ValidStartGenerator(stoppedClock);
+        final Set<Instant> seen = ConcurrentHashMap.newKeySet();
+        final List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            final Thread thread = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    seen.add(generator.next(payer));
+                }
+            });
+
+            thread.start();
+            threads.add(thread);
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(80_000, seen.size());
+    }
+
+    @Test
+    @DisplayName("partitioned generators never produce the same valid start")
+    void partitioned() {
+        final ValidStartGenerator first = new ValidStartGenerator(stoppedClock);
+        final ValidStartGenerator second = new ValidStartGenerator(stoppedClock);
+
+        first.setPartition(0, 2);
+        second.setPartition(1, 2);
+
+        for (int i = 0; i < 100; i++) {
+            final Instant a = first.next(payer);
+            final Instant b = second.next(payer);
+
+            assertNotEquals(a, b);
+            assertTrue(a.getNano() % 2 == 0 && b.getNano() % 2 == 1);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> first.setPartition(2, 2));
+    }
+
+    @Test
+    @DisplayName("accounts not paid with for longer than the backdate window are forgotten")
+    void dropsStaleAccounts() {
+        final AtomicReference<Instant> time = new AtomicReference<>(now);
+        final ValidStartGenerator generator = new ValidStartGenerator(new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Instant instant() {
+                return time.get();
+            }
+        });
+
+        for (int i = 0; i < 100; i++) {
+            generator.next(new AccountId(2000 + i));
+        }
+
+        assertEquals(100, generator.getAccountCount());
+
+        // still within the window, so every account is kept
+        time.set(now.plusSeconds(10));
+        assertEquals(Instant.parse("2020-01-01T00:00:10Z"), generator.next(payer));
+        assertEquals(101, generator.getAccountCount());
+
+        time.set(now.plusSeconds(21));
+        assertEquals(Instant.parse("2020-01-01T00:00:21Z"), generator.next(payer));
+        assertEquals(1, generator.getAccountCount());
+
+        // the account still in use keeps its sequence
+        assertEquals(Instant.parse("2020-01-01T00:00:21.000000001Z"), generator.next(payer));
+    }
+}
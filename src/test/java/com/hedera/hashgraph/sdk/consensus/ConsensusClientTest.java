@@ -0,0 +1,122 @@
+package com.hedera.hashgraph.sdk.consensus;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicResponse;
+import com.hedera.hashgraph.sdk.TimestampHelper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuppressWarnings("deprecation")
+class ConsensusClientTest {
+    private static final Instant START = Instant.parse("2020-01-01T00:00:00Z");
+
+    private static final int MESSAGES = 500;
+
+    private static final ConsensusTopicId TOPIC_ID = new ConsensusTopicId(0, 0, 1000);
+
+    private final List<ConsensusTopicQuery> queries = new CopyOnWriteArrayList<>();
+
+    // message `n` of the topic is at `START + 10n` seconds; `failAfter` fails any query from then
+    private Server startServer(String name, Instant failAfter) throws IOException {
+        return InProcessServerBuilder.forName(name)
+            .addService(new ConsensusServiceGrpc.ConsensusServiceImplBase() {
+                @Override
+                public void subscribeTopic(ConsensusTopicQuery request, StreamObserver<ConsensusTopicResponse> observer) {
+                    queries.add(request);
+
+                    final Instant start = TimestampHelper.timestampTo(request.getConsensusStartTime());
+                    final Instant end = TimestampHelper.timestampTo(request.getConsensusEndTime());
+
+                    if (!start.isBefore(failAfter)) {
+                        observer.onError(Status.UNAVAILABLE.asRuntimeException());
+                        return;
+                    }
+
+                    for (long i = 1; i <= MESSAGES; i++) {
+                        final Instant timestamp = START.plusSeconds(10 * i);
+
+                        if (!timestamp.isBefore(start) && timestamp.isBefore(end)) {
+                            observer.onNext(ConsensusTopicResponse.newBuilder()
+                                .setConsensusTimestamp(TimestampHelper.timestampFrom(timestamp))
+                                .setSequenceNumber(i)
+                                .setMessage(ByteString.copyFromUtf8("message " + i))
+                                .build());
+                        }
+                    }
+
+                    observer.onCompleted();
+                }
+            })
+            .build()
+            .start();
+    }
+
+    @Test
+    @DisplayName("replays time slices concurrently, in consensus order")
+    void replaysInOrder() throws IOException, InterruptedException {
+        final String name = InProcessServerBuilder.generateName();
+        final Server server = startServer(name, Instant.MAX);
+        final ConsensusClient client = new ConsensusClient(InProcessChannelBuilder.forName(name).build());
+
+        try {
+            final Iterator<ConsensusMessage> messages = client.getMessages(TOPIC_ID,
+                START, START.plusSeconds(10 * MESSAGES + 1), 7, 4);
+
+            for (long i = 1; i <= MESSAGES; i++) {
+                assertTrue(messages.hasNext());
+                assertEquals(i, messages.next().sequenceNumber);
+            }
+
+            assertFalse(messages.hasNext());
+            assertEquals(7, queries.size());
+        } finally {
+            client.close();
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("fails the replay if any slice fails")
+    void sliceFails() throws IOException, InterruptedException {
+        final String name = InProcessServerBuilder.generateName();
+        final Server server = startServer(name, START.plusSeconds(10 * MESSAGES / 2));
+        final ConsensusClient client = new ConsensusClient(InProcessChannelBuilder.forName(name).build());
+
+        try {
+            final Iterator<ConsensusMessage> messages = client.getMessages(TOPIC_ID,
+                START, START.plusSeconds(10 * MESSAGES + 1), 4, 16);
+
+            final StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () -> {
+                while (messages.hasNext()) {
+                    messages.next();
+                }
+            });
+
+            assertEquals(Status.Code.UNAVAILABLE, e.getStatus().getCode());
+        } finally {
+            client.close();
+            server.shutdownNow();
+        }
+    }
+}
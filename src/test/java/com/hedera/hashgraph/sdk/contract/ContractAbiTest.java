@@ -0,0 +1,142 @@
+package com.hedera.hashgraph.sdk.contract;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.proto.ContractLoginfo;
+
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContractAbiTest {
+    private static final String ADDRESS = "00112233445566778899aabbccddeeff00112233";
+
+    private static final String ABI = "{\"contractName\": \"Token\", \"abi\": ["
+        + "{\"type\": \"constructor\", \"inputs\": [{\"name\": \"supply\", \"type\": \"uint256\"}]},"
+        + "{\"type\": \"function\", \"name\": \"transfer\","
+        + " \"inputs\": [{\"name\": \"to\", \"type\": \"address\"}, {\"name\": \"value\", \"type\": \"uint256\"}],"
+        + " \"outputs\": [{\"name\": \"\", \"type\": \"bool\"}]},"
+        + "{\"type\": \"function\", \"name\": \"transfer\","
+        + " \"inputs\": [{\"name\": \"to\", \"type\": \"address\"}, {\"name\": \"value\", \"type\": \"uint256\"},"
+        + " {\"name\": \"memo\", \"type\": \"string\"}],"
+        + " \"outputs\": []},"
+        + "{\"name\": \"holders\", \"inputs\": [],"
+        + " \"outputs\": [{\"name\": \"\", \"type\": \"tuple[]\", \"components\": ["
+        + " {\"name\": \"account\", \"type\": \"address\"}, {\"name\": \"balance\", \"type\": \"uint256\"}]}]},"
+        + "{\"type\": \"event\", \"name\": \"Transfer\", \"anonymous\": false, \"inputs\": ["
+        + " {\"name\": \"from\", \"type\": \"address\", \"indexed\": true},"
+        + " {\"name\": \"to\", \"type\": \"address\", \"indexed\": true},"
+        + " {\"name\": \"value\", \"type\": \"uint256\", \"indexed\": false}]}"
+        + "]}";
+
+    @Test
+    @DisplayName("loads functions and events")
+    void loadsAbi() {
+        final ContractAbi abi = ContractAbi.fromJson(ABI);
+
+        assertEquals(3, abi.getFunctions().size());
+        assertEquals(1, abi.getEvents().size());
+
+        final ContractAbi.Function transfer = abi.getFunction("transfer(address, uint)");
+        assertEquals("transfer(address,uint256)", transfer.getSignature());
+        assertArrayEquals(Hex.decode("a9059cbb"), transfer.getSelector());
+        assertSame(transfer, abi.getFunction(Hex.decode("a9059cbb0000")));
+        assertNull(abi.getFunction(Hex.decode("a9059cbc")));
+
+        assertEquals("holders()", abi.getFunction("holders").getSignature());
+        assertEquals("((address,uint256)[])", abi.getFunction("holders").getOutputDecoder().toString());
+
+        final ContractAbi.Event event = abi.getEvent("Transfer");
+        assertEquals("Transfer(address,address,uint256)", event.getSignature());
+        assertArrayEquals(
+            Hex.decode("ddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef"),
+            event.getTopic());
+        assertTrue(event.isIndexed(0));
+        assertFalse(event.isIndexed(2));
+        assertEquals("(uint256)", event.getDataDecoder().toString());
+
+        assertEquals(
+            "function transfer is overloaded; look it up by signature instead",
+            assertThrows(IllegalArgumentException.class, () -> abi.getFunction("transfer")).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> abi.getFunction("approve"));
+        assertThrows(IllegalArgumentException.class, () -> ContractAbi.fromJson("{\"abi\": 1}"));
+    }
+
+    @Test
+    @DisplayName("loads an ABI from a UTF-8 file")
+    void loadsFile() throws IOException {
+        final Path file = Files.createTempFile("abi", ".json");
+
+        try {
+            // a non-ASCII event name catches decoding with the platform charset
+            Files.write(file, ABI.replace("\"Transfer\"", "\"Überweisung\"").getBytes(StandardCharsets.UTF_8));
+
+            final ContractAbi abi = ContractAbi.fromFile(file.toFile());
+
+            assertEquals(3, abi.getFunctions().size());
+            assertEquals("Überweisung", abi.getEvents().get(0).getName());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    @DisplayName("encodes calls and checks their parameters")
+    void encodesCalls() {
+        final ContractAbi.Function transfer = ContractAbi.fromJson(ABI)
+            .getFunction("transfer(address,uint256)");
+
+        final ContractFunctionParams params = new ContractFunctionParams()
+            .addAddress(ADDRESS)
+            .addUint64(100);
+
+        // the selector is for the function's types, not `transfer(address,uint64)`
+        assertArrayEquals(
+            Hex.decode("a9059cbb" + Hex.toHexString(params.toBytes(null).toByteArray())),
+            transfer.encodeCall(params));
+
+        assertThrows(IllegalArgumentException.class, () -> transfer.encodeCall(
+            new ContractFunctionParams().addAddress(ADDRESS)));
+        assertEquals(
+            "parameter 1 of transfer(address,uint256) is uint256 but string was given",
+            assertThrows(IllegalArgumentException.class, () -> transfer.encodeCall(
+                new ContractFunctionParams().addAddress(ADDRESS).addString("100"))).getMessage());
+    }
+
+    @Test
+    @DisplayName("decodes event logs")
+    void decodesLogs() {
+        final ContractAbi abi = ContractAbi.fromJson(ABI);
+        final ContractAbi.Event event = abi.getEvent("Transfer");
+
+        final ContractLogInfo log = new ContractLogInfo(ContractLoginfo.newBuilder()
+            .addTopic(ByteString.copyFrom(event.getTopic()))
+            .addTopic(ByteString.copyFrom(new byte[32]))
+            .addTopic(ByteString.copyFrom(new byte[32]))
+            .setData(new ContractFunctionParams().addUint256(BigInteger.TEN).toBytes(null)));
+
+        assertSame(event, abi.getEvent(log));
+        assertEquals(BigInteger.TEN, event.decodeData(log).getUint256(0));
+    }
+
+    @Test
+    @DisplayName("interns selectors")
+    void internsSelectors() {
+        assertSame(
+            ContractFunctionSelector.forSignature("transfer(address,uint256)"),
+            ContractFunctionSelector.forSignature("transfer(address,uint256)"));
+    }
+}
@@ -0,0 +1,198 @@
+package com.hedera.hashgraph.sdk.contract;
+
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContractFunctionDecoderTest {
+    private static final String ADDRESS = "00112233445566778899aabbccddeeff00112233";
+
+    // the arguments of `g(uint256[][],string[])` from the example in the ABI spec
+    private static final String NESTED_ARRAYS =
+        "0000000000000000000000000000000000000000000000000000000000000040"
+            + "0000000000000000000000000000000000000000000000000000000000000140"
+            + "0000000000000000000000000000000000000000000000000000000000000002"
+            + "0000000000000000000000000000000000000000000000000000000000000040"
+            + "00000000000000000000000000000000000000000000000000000000000000a0"
+            + "0000000000000000000000000000000000000000000000000000000000000002"
+            + "0000000000000000000000000000000000000000000000000000000000000001"
+            + "0000000000000000000000000000000000000000000000000000000000000002"
+            + "0000000000000000000000000000000000000000000000000000000000000001"
+            + "0000000000000000000000000000000000000000000000000000000000000003"
+            + "0000000000000000000000000000000000000000000000000000000000000003"
+            + "0000000000000000000000000000000000000000000000000000000000000060"
+            + "00000000000000000000000000000000000000000000000000000000000000a0"
+            + "00000000000000000000000000000000000000000000000000000000000000e0"
+            + "0000000000000000000000000000000000000000000000000000000000000003"
+            + "6f6e650000000000000000000000000000000000000000000000000000000000"
+            + "0000000000000000000000000000000000000000000000000000000000000003"
+            + "74776f0000000000000000000000000000000000000000000000000000000000"
+            + "0000000000000000000000000000000000000000000000000000000000000005"
+            + "7468726565000000000000000000000000000000000000000000000000000000";
+
+    @Test
+    @DisplayName("parses types into canonical form")
+    void parsesTypes() {
+        assertEquals("(uint256,int256)", ContractFunctionDecoder.forTypes("uint, int").toString());
+        assertEquals("(uint256,int256)", ContractFunctionDecoder.forTypes("(uint,int)").toString());
+        assertEquals("((int8,bytes)[2][],string)",
+            ContractFunctionDecoder.forTypes("(int8,bytes)[2][],string").toString());
+        assertEquals("((uint256)[])", ContractFunctionDecoder.forTypes("(uint256)[]").toString());
+        assertEquals("()", ContractFunctionDecoder.forTypes("").toString());
+
+        final AbiType staticTuple = AbiType.parse("(uint64,(address,bool),bytes4[3])");
+        assertFalse(staticTuple.isDynamic);
+        assertEquals(32 * 6, staticTuple.headLen);
+        assertEquals(96, staticTuple.componentOffset(2));
+
+        assertTrue(AbiType.parse("(uint64,string[2])").isDynamic);
+
+        assertThrows(IllegalArgumentException.class, () -> AbiType.parse("uint7"));
+        assertThrows(IllegalArgumentException.class, () -> AbiType.parse("bytes33"));
+        assertThrows(IllegalArgumentException.class, () -> AbiType.parse("fixed128x18"));
+        assertThrows(IllegalArgumentException.class, () -> AbiType.parse("uint256[0]"));
+        assertThrows(IllegalArgumentException.class, () -> AbiType.parse("(uint256"));
+    }
+
+    @Test
+    @DisplayName("decodes static and dynamic values")
+    void decodesValues() {
+        final byte[] fixedBytes = new byte[32];
+        fixedBytes[0] = 0x12;
+        fixedBytes[3] = 0x34;
+
+        final byte[] encoded = new ContractFunctionParams()
+            .addInt32(-5)
+            .addUint64(-1)
+            .addInt256(BigInteger.valueOf(-42))
+            .addAddress(ADDRESS)
+            .addBool(true)
+            .addString("Hello, world!")
+            .addBytes(new byte[]{1, 2, 3})
+            .addBytes32(fixedBytes)
+            .toBytes(null)
+            .toByteArray();
+
+        final ContractFunctionValues values = ContractFunctionDecoder
+            .forTypes("int32,uint64,int256,address,bool,string,bytes,bytes4")
+            .decode(encoded);
+
+        assertEquals(8, values.size());
+        assertEquals(-5, values.getInt32(0));
+        assertEquals(-5, values.getInt8(0));
+        assertEquals(-1L, values.getInt64(1));
+        assertEquals(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE), values.getUint256(1));
+        assertEquals(BigInteger.valueOf(-42), values.getInt256(2));
+        assertEquals(ADDRESS, values.getAddress(3));
+        assertTrue(values.getBool(4));
+        assertEquals("Hello, world!", values.getString(5));
+        assertArrayEquals(new byte[]{1, 2, 3}, values.getBytes(6));
+        assertArrayEquals(new byte[]{0x12, 0, 0, 0x34}, values.getFixedBytes(7));
+        assertEquals("bytes4", values.getType(7));
+    }
+
+    @Test
+    @DisplayName("decodes arrays")
+    void decodesArrays() {
+        final ContractFunctionResult result = new ContractFunctionResult(
+            com.hedera.hashgraph.proto.ContractFunctionResult.newBuilder()
+                .setContractCallResult(new ContractFunctionParams()
+                    .addAddressArray(new String[]{ADDRESS, ADDRESS.replace('0', 'f')})
+                    .addUint256Array(new BigInteger[]{BigInteger.ONE.shiftLeft(255), BigInteger.TEN})
+                    .addInt64Array(new long[]{-1, 0, Long.MAX_VALUE})
+                    .addStringArray(new String[]{"a", "", "ccc"})
+                    .toBytes(null)));
+
+        final ContractFunctionValues values = result.decode(
+            ContractFunctionDecoder.forTypes("address[],uint256[],int64[],string[]"));
+
+        assertArrayEquals(new String[]{ADDRESS, ADDRESS.replace('0', 'f')}, values.getAddressArray(0));
+        assertArrayEquals(new BigInteger[]{BigInteger.ONE.shiftLeft(255), BigInteger.TEN},
+            values.getUint256Array(1));
+        assertArrayEquals(new long[]{-1, 0, Long.MAX_VALUE}, values.getInt64Array(2));
+        assertArrayEquals(new int[]{-1, 0, -1}, values.getInt32Array(2));
+        assertArrayEquals(new String[]{"a", "", "ccc"}, values.getStringArray(3));
+
+        final ContractFunctionValues strings = values.getArray(3);
+        assertEquals(3, strings.size());
+        assertEquals("ccc", strings.getString(2));
+    }
+
+    @Test
+    @DisplayName("decodes nested arrays")
+    void decodesNestedArrays() {
+        final ContractFunctionValues values = ContractFunctionDecoder.forTypes("uint256[][],string[]")
+            .decode(Hex.decode(NESTED_ARRAYS));
+
+        final ContractFunctionValues outer = values.getArray(0);
+        assertEquals(2, outer.size());
+        assertArrayEquals(new long[]{1, 2}, outer.getInt64Array(0));
+        assertArrayEquals(new long[]{3}, outer.getInt64Array(1));
+        assertEquals(2, outer.getArray(0).getInt32(1));
+
+        assertArrayEquals(new String[]{"one", "two", "three"}, values.getStringArray(1));
+    }
+
+    @Test
+    @DisplayName("decodes tuples")
+    void decodesTuples() {
+        // a static tuple is encoded inline, just like its components would be
+        final byte[] encoded = new ContractFunctionParams()
+            .addUint64(7)
+            .addAddress(ADDRESS)
+            .addBool(false)
+            .addInt32(9)
+            .toBytes(null)
+            .toByteArray();
+
+        final ContractFunctionValues values = ContractFunctionDecoder.forTypes("uint64,(address,bool),int32")
+            .decode(encoded);
+
+        assertEquals(3, values.size());
+        assertEquals(7, values.getInt64(0));
+        assertEquals(ADDRESS, values.getTuple(1).getAddress(0));
+        assertFalse(values.getTuple(1).getBool(1));
+        assertEquals(9, values.getInt32(2));
+
+        // a dynamic tuple is referenced by offset, as the spec's example `uint256[][],string[]`
+        // also is when wrapped in a tuple
+        final ContractFunctionValues wrapped = ContractFunctionDecoder.forTypes("((uint256[][],string[]))")
+            .decode(Hex.decode("0000000000000000000000000000000000000000000000000000000000000020"
+                + NESTED_ARRAYS));
+
+        assertEquals("three", wrapped.getTuple(0).getStringArray(1)[2]);
+    }
+
+    @Test
+    @DisplayName("checks types and bounds")
+    void checksTypesAndBounds() {
+        final ContractFunctionDecoder decoder = ContractFunctionDecoder.forTypes("uint256,string");
+        final byte[] encoded = new ContractFunctionParams()
+            .addUint32(1)
+            .addString("hi")
+            .toBytes(null)
+            .toByteArray();
+
+        final ContractFunctionValues values = decoder.decode(encoded);
+
+        assertEquals(
+            "value at index 1 has type string",
+            assertThrows(IllegalArgumentException.class, () -> values.getAddress(1)).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> values.getInt64Array(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> values.getInt32(2));
+
+        assertThrows(IllegalArgumentException.class, () -> decoder.decode(new byte[32]));
+
+        // the offset of the string points past the end of the data
+        encoded[63] = 0x7f;
+        assertThrows(IndexOutOfBoundsException.class, () -> decoder.decode(encoded).getString(1));
+    }
+}
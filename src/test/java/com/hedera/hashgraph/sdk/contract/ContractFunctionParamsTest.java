@@ -113,6 +113,74 @@ class ContractFunctionParamsTest {
         );
     }
 
+    @Test
+    @DisplayName("encodes arrays of dynamic elements correctly")
+    void dynamicElementArrayEncoding() {
+        // the `string[]` of the `g(uint[][],string[])` example in the ABI spec
+        final ContractFunctionParams params = new ContractFunctionParams()
+            .addStringArray(new String[]{"one", "two", "three"});
+
+        assertEquals(
+            "0000000000000000000000000000000000000000000000000000000000000020"
+                + "0000000000000000000000000000000000000000000000000000000000000003"
+                // element offsets are relative to the first offset
+                + "0000000000000000000000000000000000000000000000000000000000000060"
+                + "00000000000000000000000000000000000000000000000000000000000000a0"
+                + "00000000000000000000000000000000000000000000000000000000000000e0"
+                + "0000000000000000000000000000000000000000000000000000000000000003"
+                + "6f6e650000000000000000000000000000000000000000000000000000000000"
+                + "0000000000000000000000000000000000000000000000000000000000000003"
+                + "74776f0000000000000000000000000000000000000000000000000000000000"
+                + "0000000000000000000000000000000000000000000000000000000000000005"
+                + "7468726565000000000000000000000000000000000000000000000000000000",
+            Hex.toHexString(params.toBytes(null).toByteArray()));
+    }
+
+    @Test
+    @DisplayName("encodes arrays of static elements correctly")
+    void staticElementArrayEncoding() {
+        final byte[] bytes32 = new byte[32];
+        bytes32[0] = 0x11;
+        bytes32[31] = 0x22;
+
+        final ContractFunctionParams params = new ContractFunctionParams()
+            .addBytes32Array(new byte[][]{bytes32, new byte[]{0x33}})
+            .addAddressArray(new String[]{"00112233445566778899aabbccddeeff00112233"});
+
+        assertEquals(
+            "0000000000000000000000000000000000000000000000000000000000000040"
+                + "00000000000000000000000000000000000000000000000000000000000000a0"
+                + "0000000000000000000000000000000000000000000000000000000000000002"
+                + "1100000000000000000000000000000000000000000000000000000000000022"
+                + "3300000000000000000000000000000000000000000000000000000000000000"
+                + "0000000000000000000000000000000000000000000000000000000000000001"
+                + "00000000000000000000000000112233445566778899aabbccddeeff00112233",
+            Hex.toHexString(params.toBytes(null).toByteArray()));
+    }
+
+    @Test
+    @DisplayName("selector changes as params are added")
+    void selectorReuse() {
+        final ContractFunctionParams params = new ContractFunctionParams();
+
+        params.addInt32(1);
+        final ByteString first = params.toBytes("foo");
+
+        assertEquals(first, params.toBytes("foo"));
+        assertEquals(
+            Hex.toHexString(new ContractFunctionSelector("foo").addInt32().finish()),
+            Hex.toHexString(first.substring(0, 4).toByteArray()));
+
+        params.addInt32(2);
+
+        assertEquals(
+            Hex.toHexString(new ContractFunctionSelector("foo").addInt32().addInt32().finish()),
+            Hex.toHexString(params.toBytes("foo").substring(0, 4).toByteArray()));
+        assertEquals(
+            Hex.toHexString(new ContractFunctionSelector("bar").addInt32().addInt32().finish()),
+            Hex.toHexString(params.toBytes("bar").substring(0, 4).toByteArray()));
+    }
+
     @Test
     @DisplayName("BigInteger checks")
     void bigIntChecks() {
@@ -0,0 +1,162 @@
+package com.hedera.hashgraph.sdk.contract;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.proto.ContractLoginfo;
+import com.hedera.hashgraph.sdk.SolidityUtil;
+
+import org.bouncycastle.util.encoders.Hex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContractLogFilterTest {
+    private static final ContractAbi ABI = ContractAbi.fromJson("["
+        + "{\"type\": \"event\", \"name\": \"Transfer\", \"inputs\": ["
+        + " {\"name\": \"from\", \"type\": \"address\", \"indexed\": true},"
+        + " {\"name\": \"to\", \"type\": \"address\", \"indexed\": true},"
+        + " {\"name\": \"value\", \"type\": \"uint256\", \"indexed\": false}]},"
+        + "{\"type\": \"event\", \"name\": \"Approval\", \"inputs\": ["
+        + " {\"name\": \"owner\", \"type\": \"address\", \"indexed\": true},"
+        + " {\"name\": \"memo\", \"type\": \"string\", \"indexed\": true}]},"
+        + "{\"type\": \"event\", \"name\": \"Secret\", \"anonymous\": true, \"inputs\": []}"
+        + "]");
+
+    private static final ContractId TOKEN = new ContractId(0, 0, 1001);
+    private static final ContractId OTHER = new ContractId(0, 0, 1002);
+
+    private static final String FROM = "00112233445566778899aabbccddeeff00112233";
+
+    @Test
+    @DisplayName("skips results by their bloom")
+    void skipsByBloom() {
+        final ContractAbi.Event transfer = ABI.getEvent("Transfer");
+        final ContractAbi.Event approval = ABI.getEvent("Approval");
+
+        final ContractLogFilter filter = new ContractLogFilter()
+            .addEvent(transfer)
+            .setContractId(TOKEN);
+
+        assertTrue(filter.mightMatch(bloom(TOKEN, transfer)));
+        assertFalse(filter.mightMatch(bloom(TOKEN, approval)));
+        assertFalse(filter.mightMatch(bloom(OTHER, transfer)));
+        assertFalse(filter.mightMatch(new byte[ContractLogFilter.BLOOM_LEN]));
+
+        // without a bloom nothing can be ruled out
+        assertTrue(filter.mightMatch(new byte[0]));
+
+        // a result whose bloom doesn't match isn't searched even if it has a matching log
+        assertTrue(filter.filter(result(bloom(TOKEN, approval), transferLog(TOKEN, transfer))).isEmpty());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> new ContractLogFilter().addEvent(ABI.getEvent("Secret")));
+    }
+
+    @Test
+    @DisplayName("finds and decodes matching logs")
+    void findsLogs() {
+        final ContractAbi.Event transfer = ABI.getEvent("Transfer");
+        final ContractAbi.Event approval = ABI.getEvent("Approval");
+
+        final byte[] bloom = or(bloom(TOKEN, transfer), bloom(OTHER, approval), bloom(OTHER, transfer));
+
+        final ContractFunctionResult result = result(bloom,
+            transferLog(OTHER, transfer),
+            ContractLoginfo.newBuilder()
+                .setContractID(OTHER.toProto())
+                .addTopic(approval.getTopicBytes())
+                .addTopic(ByteString.copyFrom(Hex.decode("000000000000000000000000" + FROM)))
+                .addTopic(ByteString.copyFrom(new byte[32]))
+                .build(),
+            transferLog(TOKEN, transfer));
+
+        final List<ContractEventLog> logs = new ContractLogFilter()
+            .addEvent(transfer)
+            .setContractId(TOKEN)
+            .filter(result);
+
+        assertEquals(1, logs.size());
+        assertSame(transfer, logs.get(0).getEvent());
+        assertEquals(TOKEN, logs.get(0).getContractId());
+        assertEquals(FROM, logs.get(0).getIndexed().getAddress(0));
+        assertEquals(BigInteger.TEN, logs.get(0).getData().getUint256(0));
+
+        final List<ContractEventLog> any = new ContractLogFilter()
+            .addEvent(transfer)
+            .addEvent(approval)
+            .filter(result);
+
+        assertEquals(3, any.size());
+        assertSame(approval, any.get(1).getEvent());
+        // the indexed string is hashed
+        assertEquals("(address,bytes32)", approval.getIndexedDecoder().toString());
+        assertEquals(FROM, any.get(1).getIndexed().getAddress(0));
+    }
+
+    @Test
+    @DisplayName("converts logs lazily")
+    void convertsLogsLazily() {
+        final ContractAbi.Event transfer = ABI.getEvent("Transfer");
+        final ContractFunctionResult result = result(new byte[0], transferLog(TOKEN, transfer));
+
+        assertEquals(1, result.logs.size());
+        assertSame(result.logs.get(0), result.logs.get(0));
+        assertEquals(3, result.logs.get(0).topics.size());
+    }
+
+    private static ContractLoginfo transferLog(ContractId contractId, ContractAbi.Event transfer) {
+        return ContractLoginfo.newBuilder()
+            .setContractID(contractId.toProto())
+            .addTopic(transfer.getTopicBytes())
+            .addTopic(ByteString.copyFrom(Hex.decode("000000000000000000000000" + FROM)))
+            .addTopic(ByteString.copyFrom(new byte[32]))
+            .setData(new ContractFunctionParams().addUint256(BigInteger.TEN).toBytes(null))
+            .build();
+    }
+
+    private static ContractFunctionResult result(byte[] bloom, ContractLoginfo... logs) {
+        final com.hedera.hashgraph.proto.ContractFunctionResult.Builder builder =
+            com.hedera.hashgraph.proto.ContractFunctionResult.newBuilder()
+                .setBloom(ByteString.copyFrom(bloom));
+
+        for (final ContractLoginfo log : logs) {
+            builder.addLogInfo(log);
+        }
+
+        return new ContractFunctionResult(builder.build());
+    }
+
+    private static byte[] bloom(ContractId contractId, ContractAbi.Event event) {
+        final byte[] bloom = new byte[ContractLogFilter.BLOOM_LEN];
+
+        setBits(bloom, ContractLogFilter.bloomBits(Hex.decode(SolidityUtil.addressFor(contractId))));
+        setBits(bloom, ContractLogFilter.bloomBits(event.getTopic()));
+
+        return bloom;
+    }
+
+    private static void setBits(byte[] bloom, int[] bits) {
+        for (int i = 0; i < bits.length; i += 2) {
+            bloom[bits[i]] |= bits[i + 1];
+        }
+    }
+
+    private static byte[] or(byte[]... blooms) {
+        final byte[] bloom = new byte[ContractLogFilter.BLOOM_LEN];
+
+        for (final byte[] other : blooms) {
+            for (int i = 0; i < bloom.length; i++) {
+                bloom[i] |= other[i];
+            }
+        }
+
+        return bloom;
+    }
+}
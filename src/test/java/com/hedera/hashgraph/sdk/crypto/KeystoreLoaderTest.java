@@ -0,0 +1,88 @@
+package com.hedera.hashgraph.sdk.crypto;
+
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PrivateKey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeystoreLoaderTest {
+    private static final String testKeyStr = "302e020100300506032b657004220420db484b828e64b2d8f12ce3c0a0e93a0b8cce7af1bb8f39c97732394482538e10";
+    private static final String passphrase = "asdf1234";
+
+    @Test
+    @DisplayName("caches decrypted keys by keystore and passphrase")
+    void cachesKeys() throws IOException {
+        final byte[] keystore = readTestKeystore();
+
+        final KeystoreLoader loader = new KeystoreLoader().setMaxCachedKeys(10);
+        final Ed25519PrivateKey key = loader.load(keystore, passphrase);
+
+        assertEquals(testKeyStr, key.toString());
+        assertSame(key, loader.load(keystore.clone(), passphrase));
+
+        // a wrong passphrase is never a cache hit
+        assertThrows(BadKeyException.class, () -> loader.load(keystore, passphrase + "5"));
+
+        loader.clearCache();
+        assertNotSame(key, loader.load(keystore, passphrase));
+
+        final KeystoreLoader uncached = new KeystoreLoader();
+        assertNotSame(uncached.load(keystore, passphrase), uncached.load(keystore, passphrase));
+    }
+
+    @Test
+    @DisplayName("loads keystore files concurrently")
+    void loadsAll() throws IOException {
+        final byte[] keystore = readTestKeystore();
+        final Path first = Files.createTempFile("keystore", ".json");
+        final Path second = Files.createTempFile("keystore", ".json");
+
+        try {
+            Files.write(first, keystore);
+            Files.write(second, keystore);
+
+            final List<Ed25519PrivateKey> keys = new KeystoreLoader().loadAll(Arrays.asList(first, second), passphrase);
+
+            assertEquals(2, keys.size());
+            assertEquals(testKeyStr, keys.get(1).toString());
+
+            Files.write(second, new byte[]{'{', '}'});
+
+            final BadKeyException e = assertThrows(BadKeyException.class,
+                () -> new KeystoreLoader().loadAll(Arrays.asList(first, second), passphrase));
+            assertTrue(e.getMessage().startsWith(second.toString()));
+            assertTrue(e.getCause() instanceof BadKeyException);
+        } finally {
+            Files.delete(first);
+            Files.delete(second);
+        }
+    }
+
+    private static byte[] readTestKeystore() throws IOException {
+        // keystore file generated by hedera-sdk-js from `testKeyStr` and `passphrase`
+        try (InputStream inputStream = KeystoreLoaderTest.class.getResourceAsStream("/test-keystore.bin")) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buf = new byte[4096];
+
+            for (int read = inputStream.read(buf); read > 0; read = inputStream.read(buf)) {
+                out.write(buf, 0, read);
+            }
+
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.hedera.hashgraph.sdk.crypto;
+
+import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.hedera.hashgraph.sdk.account.AccountId;
+import com.hedera.hashgraph.sdk.crypto.ed25519.Ed25519PrivateKey;
+import com.hedera.hashgraph.sdk.file.FileDeleteTransaction;
+import com.hedera.hashgraph.sdk.file.FileId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SigningPlannerTest {
+    private static final Ed25519PrivateKey[] keys = Ed25519PrivateKey.generate(7);
+
+    @Test
+    @DisplayName("avoids expensive signers for a threshold key")
+    void avoidsExpensiveSigners() {
+        final ThresholdKey treasury = new ThresholdKey(3).addAll(publicKeys(0, 7));
+        final AtomicInteger hsmCalls = new AtomicInteger();
+
+        final SigningPlanner planner = new SigningPlanner()
+            .addSigner(keys[0].publicKey, hsm(keys[0], hsmCalls), 50)
+            .addSigner(keys[1].publicKey, hsm(keys[1], hsmCalls), 50)
+            .addSigner(keys[2])
+            .addSigner(keys[3]);
+
+        // only two keys are held locally, so one HSM is needed
+        final SigningPlan plan = planner.plan(treasury);
+        assertEquals(Arrays.asList(keys[0].publicKey, keys[2].publicKey, keys[3].publicKey), plan.getKeys());
+        assertEquals(52.0, plan.getCost());
+
+        planner.addSigner(keys[6]);
+
+        final SigningPlan local = planner.plan(treasury);
+        assertEquals(Arrays.asList(keys[2].publicKey, keys[3].publicKey, keys[6].publicKey), local.getKeys());
+
+        local.sign(transaction());
+        assertEquals(0, hsmCalls.get());
+
+        assertThrows(IllegalArgumentException.class, () -> planner.plan(new ThresholdKey(6).addAll(publicKeys(0, 7))));
+    }
+
+    @Test
+    @DisplayName("plans for nested and repeated keys")
+    void nestedKeys() {
+        final SigningPlanner planner = new SigningPlanner()
+            .addSigner(keys[0])
+            .addSigner(keys[1].publicKey, keys[1]::sign, 5)
+            .addSigner(keys[2])
+            .addSigner(keys[3].publicKey, keys[3]::sign, 100);
+
+        // keys[0] and either keys[1] or keys[2]
+        final KeyList nested = new KeyList()
+            .add(keys[0].publicKey)
+            .add(new ThresholdKey(1).addAll(keys[1].publicKey, keys[2].publicKey));
+
+        assertEquals(Arrays.asList(keys[0].publicKey, keys[2].publicKey), planner.plan(nested).getKeys());
+
+        // keys[0] appears in both lists so is only needed once
+        final ThresholdKey repeated = new ThresholdKey(2).addAll(
+            new KeyList().addAll(keys[0].publicKey, keys[1].publicKey),
+            new KeyList().addAll(keys[0].publicKey, keys[2].publicKey),
+            keys[3].publicKey);
+
+        final SigningPlan plan = planner.plan(repeated);
+        assertEquals(3, plan.getKeys().size());
+        assertEquals(7.0, plan.getCost());
+
+        assertEquals(Collections.singletonList(keys[2].publicKey), planner.plan(keys[2].publicKey).getKeys());
+        assertThrows(IllegalArgumentException.class, () -> planner.plan(keys[4].publicKey));
+    }
+
+    @Test
+    @DisplayName("signs concurrently")
+    void signsAsync() throws ExecutionException, InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            final Transaction transaction = new SigningPlanner()
+                .addSigner(keys[0])
+                .addSigner(keys[1])
+                .addSigner(keys[2])
+                .plan(new KeyList().addAll(publicKeys(0, 3)))
+                .signAsync(transaction(), executor)
+                .get();
+
+            assertEquals(3, transaction.toProto().getSigMap().getSigPairCount());
+            transaction.validate();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static PublicKey[] publicKeys(int from, int to) {
+        return Arrays.stream(keys, from, to).map(key -> key.publicKey).toArray(PublicKey[]::new);
+    }
+
+    private static TransactionSigner hsm(Ed25519PrivateKey key, AtomicInteger calls) {
+        return bytes -> {
+            calls.incrementAndGet();
+            return key.sign(bytes);
+        };
+    }
+
+    private static Transaction transaction() {
+        return new FileDeleteTransaction()
+            .setTransactionId(TransactionId.withValidStart(new AccountId(3), Instant.parse("2019-04-18T20:50:00Z")))
+            .setNodeAccountId(new AccountId(0))
+            .setFileId(new FileId(0, 0, 0))
+            .build(null);
+    }
+}
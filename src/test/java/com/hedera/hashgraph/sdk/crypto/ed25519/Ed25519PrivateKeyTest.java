@@ -15,11 +15,13 @@ import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -159,6 +161,37 @@ class Ed25519PrivateKeyTest {
         assertArrayEquals(androidDerivedKey.toBytes(), androidExpectedKey.toBytes());
     }
 
+    @Test
+    @DisplayName("derives ranges of keys")
+    void deriveRange() {
+        final Ed25519PrivateKey key = Ed25519PrivateKey.fromMnemonic(Mnemonic.fromString(iosMnemonicString));
+
+        final Ed25519PrivateKey[] keys = key.deriveRange(0, 40);
+        assertEquals(40, keys.length);
+        assertArrayEquals(Ed25519PrivateKey.fromString(iosDefaultPrivateKey).toBytes(), keys[0].toBytes());
+
+        final Ed25519PublicKey[] publicKeys = key.derivePublicKeyRange(30, 10);
+
+        for (int i = 0; i < 10; i++) {
+            assertArrayEquals(key.derive(30 + i).toBytes(), keys[30 + i].toBytes());
+            assertEquals(keys[30 + i].publicKey, publicKeys[i]);
+        }
+
+        // children of derived keys can be derived in turn
+        assertArrayEquals(keys[5].derive(7).toBytes(), keys[5].deriveRange(7, 1)[0].toBytes());
+
+        assertSame(key.derivePublicKey(12), key.derivePublicKey(12));
+        assertEquals(keys[12].publicKey, key.derivePublicKey(12));
+
+        assertEquals(0, key.deriveRange(5, 0).length);
+        assertThrows(IllegalArgumentException.class, () -> key.deriveRange(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> key.deriveRange(Integer.MAX_VALUE, 2));
+        assertArrayEquals(key.derive(Integer.MAX_VALUE).toBytes(), key.deriveRange(Integer.MAX_VALUE, 1)[0].toBytes());
+        assertEquals(0, key.derivePublicKeyRange(Integer.MAX_VALUE, 0).length);
+        assertThrows(IllegalStateException.class,
+            () -> Ed25519PrivateKey.fromString(testKeyStr).deriveRange(0, 1));
+    }
+
     @Test
     @DisplayName("generated mnemonic can be turned into a working private key")
     void keyFromGeneratedMnemonic() {
@@ -233,4 +266,19 @@ class Ed25519PrivateKeyTest {
             Hex.toHexString(signature)
         );
     }
+
+    @Test
+    @DisplayName("generates distinct keys in bulk")
+    void generatesKeys() {
+        final Ed25519PrivateKey[] keys = Ed25519PrivateKey.generate(100);
+        final ArrayList<String> distinct = new ArrayList<>();
+
+        for (final Ed25519PrivateKey key : keys) {
+            assertTrue(key.supportsDerivation());
+            distinct.add(key.toString());
+        }
+
+        assertEquals(100, distinct.stream().distinct().count());
+        assertThrows(IllegalArgumentException.class, () -> Ed25519PrivateKey.generate(-1));
+    }
 }
@@ -0,0 +1,205 @@
+package com.hedera.hashgraph.sdk.mirror;
+
+import com.hedera.hashgraph.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicResponse;
+import com.hedera.hashgraph.sdk.consensus.ConsensusTopicId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlowControlledCallTest {
+    private static final MirrorConsensusTopicQuery query = new MirrorConsensusTopicQuery()
+        .setTopicId(new ConsensusTopicId(0, 0, 1000));
+
+    private static Server startServer(String name, int messages) throws IOException {
+        return InProcessServerBuilder.forName(name)
+            .addService(new ConsensusServiceGrpc.ConsensusServiceImplBase() {
+                @Override
+                public void subscribeTopic(ConsensusTopicQuery request, StreamObserver<ConsensusTopicResponse> observer) {
+                    for (int i = 1; i <= messages; i++) {
+                        observer.onNext(ResumingSubscriptionTest.message(i));
+                    }
+
+                    observer.onCompleted();
+                }
+            })
+            .build()
+            .start();
+    }
+
+    @Test
+    @DisplayName("delivers no more messages than requested")
+    void deliversAsRequested() throws IOException, InterruptedException {
+        final String name = InProcessServerBuilder.generateName();
+        final Server server = startServer(name, 100);
+        final MirrorClient mirrorClient = new MirrorClient(InProcessChannelBuilder.forName(name).build());
+
+        final List<Long> received = new CopyOnWriteArrayList<>();
+        final MirrorSubscription[] subscription = new MirrorSubscription[1];
+
+        try {
+            query.subscribe(mirrorClient, new MirrorSubscriber<MirrorConsensusTopicResponse>() {
+                @Override
+                public void onSubscribe(MirrorSubscription s) {
+                    subscription[0] = s;
+                    s.request(3);
+                }
+
+                @Override
+                public void onNext(MirrorConsensusTopicResponse item) {
+                    received.add(item.sequenceNumber);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    throw new AssertionError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    throw new AssertionError("completed before all messages were requested");
+                }
+            });
+
+            Thread.sleep(200);
+            assertEquals(3, received.size());
+
+            subscription[0].request(2);
+
+            Thread.sleep(200);
+            assertEquals(5, received.size());
+            assertEquals(5L, (long) received.get(4));
+
+            subscription[0].cancel();
+        } finally {
+            mirrorClient.close();
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("completes once every message has been delivered")
+    void completes() throws IOException, InterruptedException {
+        final String name = InProcessServerBuilder.generateName();
+        final Server server = startServer(name, 10);
+        final MirrorClient mirrorClient = new MirrorClient(InProcessChannelBuilder.forName(name).build());
+
+        final List<Long> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+
+        try {
+            query.subscribe(mirrorClient, new MirrorSubscriber<MirrorConsensusTopicResponse>() {
+                @Override
+                public void onSubscribe(MirrorSubscription s) {
+                    s.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(MirrorConsensusTopicResponse item) {
+                    received.add(item.sequenceNumber);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    throw new AssertionError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            });
+
+            assertTrue(completed.await(10, TimeUnit.SECONDS));
+            assertEquals(10, received.size());
+        } finally {
+            mirrorClient.close();
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("fails an invalid request through the stream, after any message being delivered")
+    void invalidRequest() throws IOException, InterruptedException {
+        // over a real transport: the in-process one loses the cancellation if the server has
+        // already completed the stream, so the call would never close
+        final Server server = NettyServerBuilder.forAddress(new InetSocketAddress("localhost", 0))
+            .addService(new ConsensusServiceGrpc.ConsensusServiceImplBase() {
+                @Override
+                public void subscribeTopic(ConsensusTopicQuery request, StreamObserver<ConsensusTopicResponse> observer) {
+                    for (int i = 1; i <= 100; i++) {
+                        observer.onNext(ResumingSubscriptionTest.message(i));
+                    }
+
+                    observer.onCompleted();
+                }
+            })
+            .build()
+            .start();
+
+        final MirrorClient mirrorClient = new MirrorClient("localhost:" + server.getPort());
+
+        final List<Object> signals = new CopyOnWriteArrayList<>();
+        final CountDownLatch failed = new CountDownLatch(1);
+
+        try {
+            query.subscribe(mirrorClient, new MirrorSubscriber<MirrorConsensusTopicResponse>() {
+                private MirrorSubscription subscription;
+
+                @Override
+                public void onSubscribe(MirrorSubscription s) {
+                    subscription = s;
+                    s.request(10);
+                }
+
+                @Override
+                public void onNext(MirrorConsensusTopicResponse item) {
+                    signals.add(item.sequenceNumber);
+
+                    if (item.sequenceNumber == 2) {
+                        subscription.request(0);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    signals.add(throwable);
+                    failed.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                    signals.add("complete");
+                }
+            });
+
+            assertTrue(failed.await(10, TimeUnit.SECONDS));
+
+            // let anything that would wrongly follow the error arrive
+            Thread.sleep(100);
+
+            assertEquals(3, signals.size());
+            assertTrue(signals.get(2) instanceof IllegalArgumentException);
+        } finally {
+            mirrorClient.close();
+            server.shutdownNow();
+        }
+    }
+}
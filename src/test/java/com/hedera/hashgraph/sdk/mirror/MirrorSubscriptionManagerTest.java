@@ -0,0 +1,254 @@
+package com.hedera.hashgraph.sdk.mirror;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicResponse;
+import com.hedera.hashgraph.sdk.TimestampHelper;
+import com.hedera.hashgraph.sdk.consensus.ConsensusTopicId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MirrorSubscriptionManagerTest {
+    private static final int MESSAGES_PER_TOPIC = 200;
+
+    @Test
+    @DisplayName("delivers every topic's messages in order")
+    void deliversInOrder() throws IOException, InterruptedException {
+        final String name = InProcessServerBuilder.generateName();
+        final Server server = InProcessServerBuilder.forName(name)
+            .addService(new ConsensusServiceGrpc.ConsensusServiceImplBase() {
+                @Override
+                public void subscribeTopic(ConsensusTopicQuery request, StreamObserver<ConsensusTopicResponse> observer) {
+                    for (int i = 1; i <= MESSAGES_PER_TOPIC; i++) {
+                        observer.onNext(ResumingSubscriptionTest.message(i));
+                    }
+                }
+            })
+            .build()
+            .start();
+
+        final MirrorClient mirrorClient = new MirrorClient(
+            InProcessChannelBuilder.forName(name).build(),
+            InProcessChannelBuilder.forName(name).build());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        final List<ConsensusTopicId> topicIds = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+            topicIds.add(new ConsensusTopicId(0, 0, 1000 + i));
+        }
+
+        final Map<ConsensusTopicId, List<Long>> received = new ConcurrentHashMap<>();
+        final CountDownLatch done = new CountDownLatch(topicIds.size() * MESSAGES_PER_TOPIC);
+
+        final MirrorSubscriptionManager manager = new MirrorSubscriptionManager(mirrorClient, executor,
+            (topicId, message) -> {
+                received.computeIfAbsent(topicId, id -> new CopyOnWriteArrayList<>()).add(message.sequenceNumber);
+                done.countDown();
+            },
+            (topicId, error) -> { throw new AssertionError(error); })
+            .setQueueCapacity(16);
+
+        try {
+            manager.subscribeAll(topicIds, null);
+            assertFalse(manager.subscribe(topicIds.get(0), null));
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+
+            for (final ConsensusTopicId topicId : topicIds) {
+                final List<Long> sequenceNumbers = received.get(topicId);
+
+                for (int i = 0; i < MESSAGES_PER_TOPIC; i++) {
+                    assertEquals(i + 1, (long) sequenceNumbers.get(i));
+                }
+            }
+
+            final MirrorSubscriptionManager.Stats stats = manager.getStats();
+            assertEquals(50, stats.topicCount);
+            assertEquals(50 * MESSAGES_PER_TOPIC, stats.messagesReceived);
+
+            manager.unsubscribeAll(topicIds.subList(0, 10));
+            assertEquals(40, manager.getTopicIds().size());
+        } finally {
+            manager.close();
+            executor.shutdown();
+            mirrorClient.close();
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("ends a topic's subscription if its listener throws")
+    void listenerThrows() throws IOException, InterruptedException {
+        final String name = InProcessServerBuilder.generateName();
+        final Server server = InProcessServerBuilder.forName(name)
+            .addService(new ConsensusServiceGrpc.ConsensusServiceImplBase() {
+                @Override
+                public void subscribeTopic(ConsensusTopicQuery request, StreamObserver<ConsensusTopicResponse> observer) {
+                    observer.onNext(ResumingSubscriptionTest.message(1));
+                }
+            })
+            .build()
+            .start();
+
+        final MirrorClient mirrorClient = new MirrorClient(InProcessChannelBuilder.forName(name).build());
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        final CountDownLatch failed = new CountDownLatch(1);
+
+        final ConsensusTopicId topicId = new ConsensusTopicId(0, 0, 1000);
+
+        final MirrorSubscriptionManager manager = new MirrorSubscriptionManager(mirrorClient, executor,
+            (id, message) -> { throw new IllegalStateException("bad message"); },
+            (id, error) -> {
+                errors.add(error);
+                failed.countDown();
+            });
+
+        try {
+            manager.subscribeAll(Collections.singletonList(topicId), null);
+
+            assertTrue(failed.await(10, TimeUnit.SECONDS));
+            assertEquals("bad message", errors.get(0).getMessage());
+            assertTrue(manager.getTopicIds().isEmpty());
+            assertEquals(1, manager.getStats().topicsFailed);
+        } finally {
+            manager.close();
+            executor.shutdown();
+            mirrorClient.close();
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("ends a topic's subscription if a running hash is wrong")
+    void runningHashWrong() throws IOException, InterruptedException {
+        final String name = InProcessServerBuilder.generateName();
+        final Server server = InProcessServerBuilder.forName(name)
+            .addService(new ConsensusServiceGrpc.ConsensusServiceImplBase() {
+                @Override
+                public void subscribeTopic(ConsensusTopicQuery request, StreamObserver<ConsensusTopicResponse> observer) {
+                    observer.onNext(ResumingSubscriptionTest.message(1).toBuilder()
+                        .setRunningHash(ByteString.copyFrom(new byte[48]))
+                        .build());
+                }
+            })
+            .build()
+            .start();
+
+        final MirrorClient mirrorClient = new MirrorClient(InProcessChannelBuilder.forName(name).build());
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        final CountDownLatch failed = new CountDownLatch(1);
+
+        final MirrorSubscriptionManager manager = new MirrorSubscriptionManager(mirrorClient, executor,
+            (id, message) -> { throw new AssertionError("message with a wrong running hash was delivered"); },
+            (id, error) -> {
+                errors.add(error);
+                failed.countDown();
+            })
+            .setVerifyRunningHashes(true);
+
+        try {
+            manager.subscribe(new ConsensusTopicId(0, 0, 1000), null);
+
+            assertTrue(failed.await(10, TimeUnit.SECONDS));
+            assertTrue(errors.get(0) instanceof RunningHashMismatchException);
+            assertTrue(manager.getTopicIds().isEmpty());
+        } finally {
+            manager.close();
+            executor.shutdown();
+            mirrorClient.close();
+            server.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("resumes a topic whose stream fails, dropping repeats and reporting gaps")
+    void resumes() throws IOException, InterruptedException {
+        final List<Instant> startTimes = new CopyOnWriteArrayList<>();
+
+        final String name = InProcessServerBuilder.generateName();
+        final Server server = InProcessServerBuilder.forName(name)
+            .addService(new ConsensusServiceGrpc.ConsensusServiceImplBase() {
+                @Override
+                public void subscribeTopic(ConsensusTopicQuery request, StreamObserver<ConsensusTopicResponse> observer) {
+                    startTimes.add(TimestampHelper.timestampTo(request.getConsensusStartTime()));
+
+                    if (startTimes.size() == 1) {
+                        for (int i = 1; i <= 5; i++) {
+                            observer.onNext(ResumingSubscriptionTest.message(i));
+                        }
+
+                        // e.g. the mirror node restarting
+                        observer.onError(Status.UNAVAILABLE.asRuntimeException());
+                        return;
+                    }
+
+                    // a repeat, then a gap
+                    observer.onNext(ResumingSubscriptionTest.message(5));
+                    observer.onNext(ResumingSubscriptionTest.message(6));
+                    observer.onNext(ResumingSubscriptionTest.message(8));
+                }
+            })
+            .build()
+            .start();
+
+        final MirrorClient mirrorClient = new MirrorClient(InProcessChannelBuilder.forName(name).build());
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final List<Object> signals = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(7);
+
+        final MirrorSubscriptionManager manager = new MirrorSubscriptionManager(mirrorClient, executor,
+            (id, message) -> {
+                signals.add(message.sequenceNumber);
+                done.countDown();
+            },
+            (id, error) -> { throw new AssertionError(error); })
+            .setGapListener((id, firstMissing, lastMissing) -> signals.add(firstMissing + "-" + lastMissing))
+            .setQueueCapacity(2);
+
+        try {
+            manager.subscribe(new ConsensusTopicId(0, 0, 1000), ResumingSubscriptionTest.START);
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, "7-7", 8L), signals);
+
+            assertEquals(2, startTimes.size());
+            assertEquals(ResumingSubscriptionTest.START.plusSeconds(5).plusNanos(1), startTimes.get(1));
+            assertEquals(1, manager.getTopicIds().size());
+        } finally {
+            manager.close();
+            executor.shutdown();
+            mirrorClient.close();
+            server.shutdownNow();
+        }
+    }
+}
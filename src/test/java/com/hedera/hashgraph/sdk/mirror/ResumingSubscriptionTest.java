@@ -0,0 +1,151 @@
+package com.hedera.hashgraph.sdk.mirror;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicResponse;
+import com.hedera.hashgraph.sdk.TimestampHelper;
+import com.hedera.hashgraph.sdk.consensus.ConsensusTopicId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResumingSubscriptionTest {
+    static final Instant START = Instant.parse("2020-01-01T00:00:00Z");
+
+    private final List<ConsensusTopicQuery> queries = new CopyOnWriteArrayList<>();
+
+    private Server server;
+    private MirrorClient mirrorClient;
+
+    private void startServer(List<BiConsumer<ConsensusTopicQuery, StreamObserver<ConsensusTopicResponse>>> calls)
+        throws IOException
+    {
+        final String name = InProcessServerBuilder.generateName();
+
+        server = InProcessServerBuilder.forName(name)
+            .addService(new ConsensusServiceGrpc.ConsensusServiceImplBase() {
+                @Override
+                public void subscribeTopic(ConsensusTopicQuery request, StreamObserver<ConsensusTopicResponse> observer) {
+                    queries.add(request);
+                    calls.get(queries.size() - 1).accept(request, observer);
+                }
+            })
+            .build()
+            .start();
+
+        mirrorClient = new MirrorClient(InProcessChannelBuilder.forName(name).build());
+    }
+
+    private void stopServer() throws InterruptedException {
+        mirrorClient.close();
+        server.shutdownNow();
+    }
+
+    static ConsensusTopicResponse message(long sequenceNumber) {
+        return ConsensusTopicResponse.newBuilder()
+            .setConsensusTimestamp(TimestampHelper.timestampFrom(START.plusSeconds(sequenceNumber)))
+            .setSequenceNumber(sequenceNumber)
+            .setMessage(ByteString.copyFromUtf8("message " + sequenceNumber))
+            .build();
+    }
+
+    @Test
+    @DisplayName("resumes after the last message, dropping repeats and reporting gaps")
+    void resumes() throws IOException, InterruptedException {
+        startServer(Arrays.asList(
+            (query, observer) -> {
+                observer.onNext(message(1));
+                observer.onNext(message(2));
+                observer.onError(Status.UNAVAILABLE.asRuntimeException());
+            },
+            (query, observer) -> {
+                observer.onNext(message(2));
+                observer.onNext(message(3));
+                observer.onNext(message(5));
+            }));
+
+        try {
+            assertResumes();
+        } finally {
+            stopServer();
+        }
+    }
+
+    private void assertResumes() throws InterruptedException {
+        final List<Long> received = new CopyOnWriteArrayList<>();
+        final List<Long> gaps = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(4);
+
+        final MirrorSubscriptionHandle handle = new MirrorConsensusTopicQuery()
+            .setTopicId(new ConsensusTopicId(0, 0, 1000))
+            .setStartTime(START)
+            .subscribeResuming(mirrorClient,
+                response -> {
+                    received.add(response.sequenceNumber);
+                    done.countDown();
+                },
+                (first, last) -> {
+                    gaps.add(first);
+                    gaps.add(last);
+                },
+                error -> { throw new AssertionError(error); });
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        handle.unsubscribe();
+
+        assertEquals(Arrays.asList(1L, 2L, 3L, 5L), received);
+        assertEquals(Arrays.asList(4L, 4L), gaps);
+        assertEquals(2, queries.size());
+        assertEquals(TimestampHelper.timestampFrom(START.plusSeconds(2).plusNanos(1)),
+            queries.get(1).getConsensusStartTime());
+    }
+
+    @Test
+    @DisplayName("gives up on an error which reconnecting won't fix")
+    void givesUp() throws IOException, InterruptedException {
+        startServer(Collections.singletonList(
+            (query, observer) -> observer.onError(Status.NOT_FOUND.asRuntimeException())));
+
+        try {
+            assertGivesUp();
+        } finally {
+            stopServer();
+        }
+    }
+
+    private void assertGivesUp() throws InterruptedException {
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        final CountDownLatch failed = new CountDownLatch(1);
+
+        new MirrorConsensusTopicQuery()
+            .setTopicId(new ConsensusTopicId(0, 0, 1000))
+            .subscribeResuming(mirrorClient, response -> { }, (first, last) -> { }, error -> {
+                errors.add(error);
+                failed.countDown();
+            });
+
+        assertTrue(failed.await(10, TimeUnit.SECONDS));
+        assertEquals(Status.Code.NOT_FOUND, Status.fromThrowable(errors.get(0)).getCode());
+        assertEquals(1, queries.size());
+    }
+}
@@ -0,0 +1,143 @@
+package com.hedera.hashgraph.sdk.mirror;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.proto.Timestamp;
+import com.hedera.hashgraph.proto.mirror.ConsensusTopicResponse;
+import com.hedera.hashgraph.sdk.consensus.ConsensusTopicId;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RunningHashVerifierTest {
+    private static final ConsensusTopicId TOPIC_ID = new ConsensusTopicId(1, 2, 3);
+
+    // around and across the 1024 byte blocks `ObjectOutputStream` frames data in
+    private static final int[] MESSAGE_SIZES = { 0, 1, 100, 200, 900, 956, 957, 1023, 1024, 1025, 2048, 4096, 5000 };
+
+    @Test
+    @DisplayName("accepts running hashes computed with ObjectOutputStream")
+    void acceptsChain() throws IOException, NoSuchAlgorithmException {
+        final List<MirrorConsensusTopicResponse> chain = chain(MESSAGE_SIZES.length);
+        final RunningHashVerifier verifier = new RunningHashVerifier(TOPIC_ID);
+
+        for (final MirrorConsensusTopicResponse response : chain) {
+            assertTrue(verifier.verify(response));
+        }
+
+        assertEquals(MESSAGE_SIZES.length, verifier.getSequenceNumber());
+        assertArrayEquals(chain.get(chain.size() - 1).runningHash, verifier.getRunningHash());
+    }
+
+    @Test
+    @DisplayName("trusts the first message seen unless it is the first of the topic")
+    void anchorsOnFirstMessage() throws IOException, NoSuchAlgorithmException {
+        final List<MirrorConsensusTopicResponse> chain = chain(6);
+
+        final RunningHashVerifier verifier = new RunningHashVerifier(TOPIC_ID);
+        assertFalse(verifier.verify(chain.get(2)));
+        assertTrue(verifier.verify(chain.get(3)));
+
+        // a gap can't be checked across
+        assertFalse(verifier.verify(chain.get(5)));
+
+        final RunningHashVerifier resumed = new RunningHashVerifier(TOPIC_ID, 4, chain.get(3).runningHash);
+        assertTrue(resumed.verify(chain.get(4)));
+    }
+
+    @Test
+    @DisplayName("flags the first message whose running hash is wrong")
+    void flagsDivergence() throws IOException, NoSuchAlgorithmException {
+        final List<MirrorConsensusTopicResponse> chain = chain(5);
+        final MirrorConsensusTopicResponse original = chain.get(2);
+
+        // the same running hash, for a different message
+        final MirrorConsensusTopicResponse tampered = new MirrorConsensusTopicResponse(ConsensusTopicResponse.newBuilder()
+            .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(original.consensusTimestamp.getEpochSecond()))
+            .setMessage(ByteString.copyFromUtf8("forged"))
+            .setRunningHash(ByteString.copyFrom(original.runningHash))
+            .setSequenceNumber(original.sequenceNumber)
+            .build());
+
+        final RunningHashVerifier verifier = new RunningHashVerifier(TOPIC_ID);
+        assertTrue(verifier.verify(chain.get(0)));
+        assertTrue(verifier.verify(chain.get(1)));
+
+        final RunningHashMismatchException e = assertThrows(RunningHashMismatchException.class,
+            () -> verifier.verify(tampered));
+
+        assertEquals(3, e.response.sequenceNumber);
+
+        final List<Long> passed = new ArrayList<>();
+        final List<Throwable> errors = new ArrayList<>();
+        final Consumer<MirrorConsensusTopicResponse> verifying =
+            RunningHashVerifier.verifying(TOPIC_ID, response -> passed.add(response.sequenceNumber), errors::add);
+
+        verifying.accept(chain.get(0));
+        verifying.accept(chain.get(1));
+        verifying.accept(tampered);
+        verifying.accept(chain.get(3));
+
+        assertEquals(2, passed.size());
+        assertEquals(1, errors.size());
+    }
+
+    /**
+     * Build the first messages of {@link #TOPIC_ID}, with running hashes computed the way the
+     * network does.
+     */
+    private static List<MirrorConsensusTopicResponse> chain(int count) throws IOException, NoSuchAlgorithmException {
+        final Random random = new Random(count);
+        final List<MirrorConsensusTopicResponse> chain = new ArrayList<>(count);
+        byte[] runningHash = new byte[RunningHashVerifier.HASH_SIZE];
+
+        for (int i = 0; i < count; i++) {
+            final long sequenceNumber = i + 1;
+            final long seconds = 1_580_000_000L + i;
+            final int nanos = random.nextInt(1_000_000_000);
+            final byte[] message = new byte[MESSAGE_SIZES[i % MESSAGE_SIZES.length]];
+            random.nextBytes(message);
+
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.write(runningHash);
+                out.writeLong(RunningHashVerifier.RUNNING_HASH_VERSION);
+                out.writeLong(TOPIC_ID.shard);
+                out.writeLong(TOPIC_ID.realm);
+                out.writeLong(TOPIC_ID.topic);
+                out.writeLong(seconds);
+                out.writeInt(nanos);
+                out.writeLong(sequenceNumber);
+                out.write(message);
+                out.flush();
+
+                runningHash = MessageDigest.getInstance("SHA-384").digest(bytes.toByteArray());
+            }
+
+            chain.add(new MirrorConsensusTopicResponse(ConsensusTopicResponse.newBuilder()
+                .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(seconds).setNanos(nanos))
+                .setMessage(ByteString.copyFrom(message))
+                .setRunningHash(ByteString.copyFrom(runningHash))
+                .setSequenceNumber(sequenceNumber)
+                .build()));
+        }
+
+        return chain;
+    }
+}